@@ -6,10 +6,18 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Comparator;
 
-import io.github.mmm.base.impl.NumberHelper;
-
 /**
- * Implementation of {@link Comparator} for {@link Number}s capable to compare different types.
+ * Implementation of {@link Comparator} for {@link Number}s capable to compare different types. The comparison is exact
+ * for any combination of {@link Long} (or {@link Integer}, {@link Short}, {@link Byte}), {@link Double} (or
+ * {@link Float}), {@link BigInteger}, and {@link BigDecimal}. Values of different types are compared via range checks
+ * and magnitude bounds so a {@link BigDecimal} is only created in the rare case that both values have the same
+ * magnitude. Like {@link Double#compare(double, double)} {@link Double#NaN} is considered greater than any other value
+ * but unlike it {@code -0.0} and {@code 0.0} are equal (as both are equal to {@code 0L}). <br>
+ * <b>ATTENTION:</b> A {@code double} with a fraction is represented by its decimal {@link Double#toString(double)
+ * string representation} (see {@link BigDecimal#valueOf(double)}) so that e.g. {@code 0.1} is equal to
+ * {@code new BigDecimal("0.1")}. An integral {@code double} is represented by its exact value so e.g. {@code 1e23} is
+ * less than {@code new BigDecimal("1e23")} as well as {@code BigInteger.TEN.pow(23)}. As this representation preserves
+ * the order of {@code double} values the comparison is consistent (transitive) for any combination of types.
  *
  * @since 1.0.0
  */
@@ -18,6 +26,15 @@ public class NumberComparator implements Comparator<Number> {
   /** The singleton instance. */
   public static final NumberComparator INSTANCE = new NumberComparator();
 
+  /** 2^63 as {@code double} - the first {@code double} above {@link Long#MAX_VALUE}. */
+  private static final double TWO_POW_63 = 0x1p63;
+
+  /** Binary logarithm of 10 to estimate the binary magnitude of a {@link BigDecimal}. */
+  private static final double LOG2_10 = 3.321928094887362;
+
+  /** Binary exponent of {@link Double#MIN_VALUE}. */
+  private static final int MIN_SUBNORMAL_EXPONENT = -1074;
+
   /**
    * The constructor.
    */
@@ -35,23 +52,240 @@ public class NumberComparator implements Comparator<Number> {
     } else if (arg2 == null) {
       return 1;
     } else if (arg1 instanceof BigDecimal) {
-      return ((BigDecimal) arg1).compareTo(NumberHelper.toBigDecimal(arg2));
+      return compare((BigDecimal) arg1, arg2);
+    } else if (arg2 instanceof BigDecimal) {
+      return -compare((BigDecimal) arg2, arg1);
     } else if (arg1 instanceof BigInteger) {
-      if (arg2 instanceof BigDecimal) {
-        return (new BigDecimal((BigInteger) arg1).compareTo((BigDecimal) arg2));
-      } else {
-        return ((BigInteger) arg1).compareTo(NumberHelper.toBigInteger(arg2));
-      }
-    } else {
-      double delta = arg1.doubleValue() - arg2.doubleValue();
-      if (delta < 0) {
-        return -1;
-      } else if (delta > 0) {
-        return 1;
-      } else {
-        return 0;
+      return compare((BigInteger) arg1, arg2);
+    } else if (arg2 instanceof BigInteger) {
+      return -compare((BigInteger) arg2, arg1);
+    } else if (isIntegral(arg1)) {
+      if (isIntegral(arg2)) {
+        return Long.compare(arg1.longValue(), arg2.longValue());
       }
+      return compare(arg1.longValue(), arg2.doubleValue());
+    } else if (isIntegral(arg2)) {
+      return compare(arg1.doubleValue(), arg2.longValue());
+    }
+    return compare(arg1.doubleValue(), arg2.doubleValue());
+  }
+
+  private static boolean isIntegral(Number value) {
+
+    return (value instanceof Long) || (value instanceof Integer) || (value instanceof Short) || (value instanceof Byte);
+  }
+
+  private static int signum(double value) {
+
+    if (value > 0) {
+      return 1;
+    } else if (value < 0) {
+      return -1;
+    }
+    return 0;
+  }
+
+  /**
+   * @param arg1 the first value.
+   * @param arg2 the second value.
+   * @return {@code -1}, {@code 0}, or {@code 1} if {@code arg1} is less than, equal to, or greater than {@code arg2}.
+   */
+  public static int compare(long arg1, long arg2) {
+
+    return Long.compare(arg1, arg2);
+  }
+
+  /**
+   * @param arg1 the first value.
+   * @param arg2 the second value.
+   * @return {@code -1}, {@code 0}, or {@code 1} if {@code arg1} is less than, equal to, or greater than {@code arg2}.
+   *         Unlike {@link Double#compare(double, double)} {@code -0.0} and {@code 0.0} are equal.
+   */
+  public static int compare(double arg1, double arg2) {
+
+    if (arg1 < arg2) {
+      return -1;
+    } else if (arg1 > arg2) {
+      return 1;
+    } else if (arg1 == arg2) {
+      return 0; // also for -0.0 and 0.0
+    }
+    return Boolean.compare(Double.isNaN(arg1), Double.isNaN(arg2));
+  }
+
+  /**
+   * Compares a {@code long} with a {@code double} exactly (unlike {@code arg1 < arg2} that converts {@code arg1} to
+   * {@code double} and loses precision for values above 2^53).
+   *
+   * @param arg1 the first value.
+   * @param arg2 the second value.
+   * @return {@code -1}, {@code 0}, or {@code 1} if {@code arg1} is less than, equal to, or greater than {@code arg2}.
+   *         {@link Double#NaN} is considered greater than any {@code long}.
+   */
+  public static int compare(long arg1, double arg2) {
+
+    if (Double.isNaN(arg2) || (arg2 >= TWO_POW_63)) {
+      return -1;
+    } else if (arg2 < -TWO_POW_63) {
+      return 1;
+    }
+    // floor is exactly representable as long in the range [-2^63, 2^63)
+    double floor = Math.floor(arg2);
+    long integral = (long) floor;
+    if (arg1 != integral) {
+      return Long.compare(arg1, integral);
+    } else if (arg2 > floor) {
+      return -1;
+    }
+    return 0;
+  }
+
+  /**
+   * @param arg1 the first value.
+   * @param arg2 the second value.
+   * @return {@code -1}, {@code 0}, or {@code 1} if {@code arg1} is less than, equal to, or greater than {@code arg2}.
+   * @see #compare(long, double)
+   */
+  public static int compare(double arg1, long arg2) {
+
+    return -compare(arg2, arg1);
+  }
+
+  private static int compare(BigInteger arg1, Number arg2) {
+
+    if (arg2 instanceof BigInteger) {
+      return arg1.compareTo((BigInteger) arg2);
+    } else if (isIntegral(arg2)) {
+      return compare(arg1, arg2.longValue());
+    }
+    return compare(arg1, arg2.doubleValue());
+  }
+
+  private static int compare(BigInteger arg1, long arg2) {
+
+    if (arg1.bitLength() < 64) {
+      return Long.compare(arg1.longValue(), arg2);
+    }
+    // arg1 is outside the long range
+    return arg1.signum();
+  }
+
+  private static int compare(BigInteger arg1, double arg2) {
+
+    if (arg1.bitLength() < 64) {
+      return compare(arg1.longValue(), arg2);
+    } else if (Double.isNaN(arg2)) {
+      return -1;
+    }
+    int signum = arg1.signum();
+    if ((signum != signum(arg2)) || (Math.abs(arg2) < TWO_POW_63)) {
+      return signum;
+    } else if (Double.isInfinite(arg2)) {
+      return -signum;
+    }
+    // 2^(bits-1) <= |arg1| <= 2^bits and 2^exponent <= |arg2| < 2^(exponent+1)
+    int bits = arg1.bitLength();
+    int exponent = Math.getExponent(arg2);
+    if (bits - 1 > exponent) {
+      return signum;
+    } else if (bits < exponent) {
+      return -signum;
+    }
+    // same magnitude: arg2 is integral as it is greater than 2^53
+    return arg1.compareTo(new BigDecimal(arg2).toBigInteger());
+  }
+
+  private static int compare(BigDecimal arg1, Number arg2) {
+
+    if (arg2 instanceof BigDecimal) {
+      return arg1.compareTo((BigDecimal) arg2);
+    } else if (arg2 instanceof BigInteger) {
+      return arg1.compareTo(new BigDecimal((BigInteger) arg2));
+    } else if (isIntegral(arg2)) {
+      return compare(arg1, arg2.longValue());
+    }
+    return compare(arg1, arg2.doubleValue());
+  }
+
+  /**
+   * @return the number of digits of the integer part of the given {@link BigDecimal} so that
+   *         {@code 10^(digits-1) <= |value| < 10^digits} (may be zero or negative for values with an absolute value
+   *         less than one).
+   */
+  private static long integerDigits(BigDecimal value) {
+
+    return (long) value.precision() - value.scale();
+  }
+
+  private static int compare(BigDecimal arg1, long arg2) {
+
+    int signum = arg1.signum();
+    int signum2 = Long.signum(arg2);
+    if (signum != signum2) {
+      return (signum < signum2) ? -1 : 1;
+    } else if (signum == 0) {
+      return 0;
+    }
+    // count digits in negative space to support Long.MIN_VALUE
+    long negative = (arg2 > 0) ? -arg2 : arg2;
+    int digits = 1;
+    while (negative <= -10) {
+      negative = negative / 10;
+      digits++;
+    }
+    long integerDigits = integerDigits(arg1);
+    if (integerDigits > digits) {
+      return signum;
+    } else if (integerDigits < digits) {
+      return -signum;
+    }
+    return arg1.compareTo(BigDecimal.valueOf(arg2));
+  }
+
+  private static int compare(BigDecimal arg1, double arg2) {
+
+    if (Double.isNaN(arg2)) {
+      return -1;
+    }
+    int signum = arg1.signum();
+    int signum2 = signum(arg2);
+    if (signum != signum2) {
+      return (signum < signum2) ? -1 : 1;
+    } else if (signum == 0) {
+      return 0;
+    } else if (Double.isInfinite(arg2)) {
+      return -signum;
+    }
+    // 10^(digits-1) <= |arg1| < 10^digits and 2^low <= |arg2| < 2^high (its representation differs by less than half
+    // an ulp)
+    long digits = integerDigits(arg1);
+    int exponent = Math.getExponent(arg2);
+    int low = exponent;
+    if (exponent < Double.MIN_EXPONENT) {
+      low = MIN_SUBNORMAL_EXPONENT;
+    }
+    int high = exponent + 1;
+    // one bit of tolerance for the rounding of the logarithm
+    if ((digits - 1) * LOG2_10 > high + 1) {
+      return signum;
+    } else if (digits * LOG2_10 < low - 1) {
+      return -signum;
+    }
+    return arg1.compareTo(toBigDecimal(arg2));
+  }
+
+  /**
+   * @param value the finite {@code double} value.
+   * @return the {@link BigDecimal} representing the given {@code value}: its exact value if integral or its decimal
+   *         representation otherwise. The latter is only used for absolute values less than 2^52 where it does not
+   *         change the result of the comparison with a {@code long}.
+   */
+  private static BigDecimal toBigDecimal(double value) {
+
+    if (value == Math.rint(value)) {
+      return new BigDecimal(value);
     }
+    return BigDecimal.valueOf(value);
   }
 
 }
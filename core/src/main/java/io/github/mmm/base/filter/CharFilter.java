@@ -2,6 +2,12 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package io.github.mmm.base.filter;
 
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+import io.github.mmm.base.exception.RuntimeIoException;
+
 /**
  * Interface for a filter of characters that decides if a given character is {@link #accept(int) accepted}. <br>
  * Unlike {@link java.util.function.Predicate} it avoids boxing and unboxing between {@code char} and {@link Character}
@@ -20,51 +26,61 @@ public interface CharFilter {
   CharFilter LATIN_UPPER_CASE_LETTER = new RangeCharFilter('A', 'Z');
 
   /** A filter that only {@link #accept(int) accepts} the Latin ASCII letters 'a'-'z' and 'A'-'Z'. */
-  CharFilter LATIN_LETTER = LATIN_LOWER_CASE_LETTER.compose(LATIN_UPPER_CASE_LETTER);
+  CharFilter LATIN_LETTER = LATIN_LOWER_CASE_LETTER.compose(LATIN_UPPER_CASE_LETTER).compile();
 
   /** A filter that only {@link #accept(int) accepts} the Latin digits '0'-'9'. */
   CharFilter LATIN_DIGIT = new RangeCharFilter('0', '9');
 
   /** A filter that only {@link #accept(int) accepts} the Latin digits '0'-'9' or ASCII letters 'a'-'z' and 'A'-'Z'. */
-  CharFilter LATIN_LETTER_OR_DIGIT = LATIN_LETTER.compose(LATIN_DIGIT);
+  CharFilter LATIN_LETTER_OR_DIGIT = LATIN_LETTER.compose(LATIN_DIGIT).compile();
 
   /**
    * A filter that only {@link #accept(int) accepts} characters valid for a technical identifier (e.g. literal oder
    * variable-name). This means accepted characters are Latin digits, ASCII letters. '.', '_' or '-'.
    */
-  CharFilter IDENTIFIER = LATIN_LETTER_OR_DIGIT.compose(new ListCharFilter("._-"));
+  CharFilter IDENTIFIER = LATIN_LETTER_OR_DIGIT.compose(new ListCharFilter("._-")).compile();
 
   /**
    * A filter that only {@link #accept(int) accepts} characters valid for a technical segment (e.g. convenient name of
    * variable, method, field, class, etc.). This means accepted characters are Latin digits, ASCII letters, '_' or '$'.
    */
-  CharFilter SEGMENT = LATIN_LETTER_OR_DIGIT.compose(new ListCharFilter("_$"));
-
-  /** A filter that {@link #accept(int) accepts} only {@link Character#isWhitespace(char) whitespaces}. */
-  CharFilter WHITESPACE = of(c -> Character.isWhitespace(c), "whitespace");
+  CharFilter SEGMENT = LATIN_LETTER_OR_DIGIT.compose(new ListCharFilter("_$")).compile();
+
+  /** A filter that {@link #accept(int) accepts} only {@link Character#isWhitespace(int) whitespaces}. */
+  CharFilter WHITESPACE = new RangeSetCharFilter(new int[] { //
+      '\t', '\r', // tab to carriage return
+      '\u001C', ' ', // file, group, record and unit separator and space
+      '\u1680', '\u1680', // single character: ogham space mark
+      '\u2000', '\u2006', // en quad to six-per-em space (figure space is non-breaking)
+      '\u2008', '\u200A', // punctuation space to hair space
+      '\u2028', '\u2029', // line and paragraph separator
+      '\u205F', '\u205F', // single character: medium mathematical space
+      '\u3000', '\u3000' // single character: ideographic space
+  }, "whitespace");
 
   /** A filter that {@link #accept(int) accepts} any charater. */
   CharFilter ANY = of(_ -> true, "**");
 
   /** A filter that only {@link #accept(int) accepts} the file separator characters '/' and '\\'. */
-  CharFilter FILE_SEPARATOR = new ListCharFilter("/\\");
+  CharFilter FILE_SEPARATOR = new ListCharFilter("/\\").compile();
 
   /** {@link CharFilter} that {@link #accept(int) accepts} only carriage return ('\r') and line feed ('\n'). */
-  CharFilter NEWLINE = new ListCharFilter("\r\n");
+  CharFilter NEWLINE = new ListCharFilter("\r\n").compile();
 
   /** {@link CharFilter} that {@link #accept(int) accepts} only {@link #NEWLINE newlines} and space (' '). */
-  CharFilter NEWLINE_OR_SPACE = new ListCharFilter("\r \n");
+  CharFilter NEWLINE_OR_SPACE = new ListCharFilter("\r \n").compile();
 
   /**
    * {@link CharFilter} that {@link #accept(int) accepts} only {@link #NEWLINE_OR_SPACE newlines, space} and tab ('\t').
    */
-  CharFilter NEWLINE_OR_SPACE_OR_TAB = new ListCharFilter("\r \n\t");
+  CharFilter NEWLINE_OR_SPACE_OR_TAB = new ListCharFilter("\r \n\t").compile();
 
   /** {@link CharFilter} that {@link #accept(int) accepts} only the ocatal digits '0'-'7'. */
   CharFilter OCTAL_DIGIT = new RangeCharFilter('0', '7');
 
   /** {@link CharFilter} that {@link #accept(int) accepts} only the hex digits '0'-'9', 'a'-'f', or 'A'-'F'. */
-  CharFilter HEX_DIGIT = LATIN_DIGIT.compose(new RangeCharFilter('a', 'f')).compose(new RangeCharFilter('A', 'F'));
+  CharFilter HEX_DIGIT = LATIN_DIGIT.compose(new RangeCharFilter('a', 'f')).compose(new RangeCharFilter('A', 'F'))
+      .compile();
 
   /** Fallback for {@link #getDescription() description} if not available. */
   String NO_DESCRIPTION = "?";
@@ -85,20 +101,336 @@ public interface CharFilter {
    */
   default String filter(String string) {
 
-    if ((string == null) || string.isEmpty()) {
+    if (string == null) {
+      return null;
+    }
+    int length = string.length();
+    int rejected = indexOfRejected(string, 0, length);
+    if (rejected < 0) {
       return string;
     }
-    StringBuilder sb = new StringBuilder(string.length());
-    int len = string.length();
-    for (int i = 0; i < len; i++) {
-      int cp = string.codePointAt(i);
-      if (accept(cp)) {
-        sb.appendCodePoint(cp);
+    StringBuilder sb = new StringBuilder(length - 1);
+    sb.append(string, 0, rejected);
+    int i = indexOfAccepted(string, rejected, length);
+    while (i >= 0) {
+      rejected = indexOfRejected(string, i, length);
+      if (rejected < 0) {
+        rejected = length;
       }
+      sb.append(string, i, rejected);
+      i = indexOfAccepted(string, rejected, length);
     }
     return sb.toString();
   }
 
+  /**
+   * Appends all characters that are {@link #accept(int) accepted} by this filter to the given {@link Appendable}.
+   *
+   * @param string the {@link CharSequence} to filter.
+   * @param appendable the {@link Appendable} where to append the {@link #accept(int) accepted} characters.
+   */
+  default void filter(CharSequence string, Appendable appendable) {
+
+    int end = string.length();
+    int i = indexOfAccepted(string, 0, end);
+    try {
+      while (i >= 0) {
+        int rejected = indexOfRejected(string, i, end);
+        if (rejected < 0) {
+          rejected = end;
+        }
+        appendable.append(string, i, rejected);
+        i = indexOfAccepted(string, rejected, end);
+      }
+    } catch (IOException e) {
+      throw new RuntimeIoException(e);
+    }
+  }
+
+  /**
+   * Copies all characters that are {@link #accept(int) accepted} by this filter to the given {@code target} array. As
+   * the number of copied characters never exceeds the number of scanned characters, {@code target} may be the same as
+   * {@code chars} to filter in place.
+   *
+   * @param chars the {@code char[]} to filter.
+   * @param start the index where to start filtering (inclusive).
+   * @param end the index where to stop filtering (exclusive).
+   * @param target the {@code char[]} where to write the {@link #accept(int) accepted} characters starting at index
+   *        {@code 0}. Has to have a length of at least {@code end - start}.
+   * @return the number of characters written to {@code target}.
+   */
+  default int filter(char[] chars, int start, int end, char[] target) {
+
+    int length = 0;
+    int i = indexOfAccepted(chars, start, end);
+    while (i >= 0) {
+      int rejected = indexOfRejected(chars, i, end);
+      if (rejected < 0) {
+        rejected = end;
+      }
+      int count = rejected - i;
+      System.arraycopy(chars, i, target, length, count);
+      length += count;
+      i = indexOfAccepted(chars, rejected, end);
+    }
+    return length;
+  }
+
+  /**
+   * @param string the {@link CharSequence} to scan.
+   * @param start the index where to start scanning.
+   * @return the index of the first character at or after {@code start} that is {@link #accept(int) accepted} or
+   *         {@code -1} if no such character exists.
+   */
+  default int indexOfAccepted(CharSequence string, int start) {
+
+    return indexOfAccepted(string, start, string.length());
+  }
+
+  /**
+   * @param string the {@link CharSequence} to scan.
+   * @param start the index where to start scanning (inclusive).
+   * @param end the index where to stop scanning (exclusive).
+   * @return the index of the first character in the given range that is {@link #accept(int) accepted} or {@code -1} if
+   *         no such character exists. For a supplementary code-point the index of its high surrogate is returned.
+   */
+  default int indexOfAccepted(CharSequence string, int start, int end) {
+
+    if (string instanceof CharBuffer buffer && buffer.hasArray()) {
+      int offset = buffer.arrayOffset() + buffer.position();
+      return shift(indexOfAccepted(buffer.array(), offset + start, offset + end), offset);
+    }
+    return indexOf(string, start, end, true);
+  }
+
+  /**
+   * @param chars the {@code char[]} to scan.
+   * @param start the index where to start scanning (inclusive).
+   * @param end the index where to stop scanning (exclusive).
+   * @return the index of the first character in the given range that is {@link #accept(int) accepted} or {@code -1} if
+   *         no such character exists.
+   * @see #indexOfAccepted(CharSequence, int, int)
+   */
+  default int indexOfAccepted(char[] chars, int start, int end) {
+
+    return indexOf(chars, start, end, true);
+  }
+
+  /**
+   * @param latin1 the ASCII or ISO-8859-1 (Latin-1) encoded bytes to scan.
+   * @param start the index where to start scanning (inclusive).
+   * @param end the index where to stop scanning (exclusive).
+   * @return the index of the first byte in the given range that is {@link #accept(int) accepted} as Latin-1 character
+   *         or {@code -1} if no such byte exists.
+   */
+  default int indexOfAccepted(byte[] latin1, int start, int end) {
+
+    for (int i = start; i < end; i++) {
+      if (accept(latin1[i] & 0xFF)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @param string the {@link CharSequence} to scan.
+   * @param start the index where to start scanning.
+   * @return the index of the first character at or after {@code start} that is NOT {@link #accept(int) accepted} or
+   *         {@code -1} if no such character exists.
+   */
+  default int indexOfRejected(CharSequence string, int start) {
+
+    return indexOfRejected(string, start, string.length());
+  }
+
+  /**
+   * @param string the {@link CharSequence} to scan.
+   * @param start the index where to start scanning (inclusive).
+   * @param end the index where to stop scanning (exclusive).
+   * @return the index of the first character in the given range that is NOT {@link #accept(int) accepted} or
+   *         {@code -1} if no such character exists. For a supplementary code-point the index of its high surrogate is
+   *         returned.
+   */
+  default int indexOfRejected(CharSequence string, int start, int end) {
+
+    if (string instanceof CharBuffer buffer && buffer.hasArray()) {
+      int offset = buffer.arrayOffset() + buffer.position();
+      return shift(indexOfRejected(buffer.array(), offset + start, offset + end), offset);
+    }
+    return indexOf(string, start, end, false);
+  }
+
+  /**
+   * @param chars the {@code char[]} to scan.
+   * @param start the index where to start scanning (inclusive).
+   * @param end the index where to stop scanning (exclusive).
+   * @return the index of the first character in the given range that is NOT {@link #accept(int) accepted} or
+   *         {@code -1} if no such character exists.
+   * @see #indexOfRejected(CharSequence, int, int)
+   */
+  default int indexOfRejected(char[] chars, int start, int end) {
+
+    return indexOf(chars, start, end, false);
+  }
+
+  /**
+   * @param latin1 the ASCII or ISO-8859-1 (Latin-1) encoded bytes to scan.
+   * @param start the index where to start scanning (inclusive).
+   * @param end the index where to stop scanning (exclusive).
+   * @return the index of the first byte in the given range that is NOT {@link #accept(int) accepted} as Latin-1
+   *         character or {@code -1} if no such byte exists.
+   */
+  default int indexOfRejected(byte[] latin1, int start, int end) {
+
+    for (int i = start; i < end; i++) {
+      if (!accept(latin1[i] & 0xFF)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @param string the {@link CharSequence} to scan backwards.
+   * @param start the index where to start scanning backwards (inclusive).
+   * @return the index of the last character at or before {@code start} that is {@link #accept(int) accepted} or
+   *         {@code -1} if no such character exists. For a supplementary code-point the index of its high surrogate is
+   *         returned.
+   */
+  default int lastIndexOfAccepted(CharSequence string, int start) {
+
+    int i = Math.min(start, string.length() - 1);
+    while (i >= 0) {
+      int index = i;
+      int cp = string.charAt(i);
+      if (Character.isLowSurrogate((char) cp) && (i > 0)) {
+        char high = string.charAt(i - 1);
+        if (Character.isHighSurrogate(high)) {
+          cp = Character.toCodePoint(high, (char) cp);
+          index = i - 1;
+        }
+      }
+      if (accept(cp)) {
+        return index;
+      }
+      i = index - 1;
+    }
+    return -1;
+  }
+
+  /**
+   * @param string the {@link CharSequence} to scan.
+   * @param start the index where to start scanning.
+   * @return the number of characters from {@code start} that are all {@link #accept(int) accepted} (the length of the
+   *         span until the first rejected character or the end of the given {@link CharSequence}).
+   */
+  default int spanAccepted(CharSequence string, int start) {
+
+    int end = string.length();
+    int rejected = indexOfRejected(string, start, end);
+    if (rejected < 0) {
+      rejected = end;
+    }
+    return rejected - start;
+  }
+
+  /**
+   * @param string the {@link CharSequence} to scan.
+   * @return the number of {@link String#codePointAt(int) code-points} from the given {@link CharSequence} that are
+   *         {@link #accept(int) accepted}.
+   */
+  default int countAccepted(CharSequence string) {
+
+    int count = 0;
+    int end = string.length();
+    int i = indexOfAccepted(string, 0, end);
+    while (i >= 0) {
+      int rejected = indexOfRejected(string, i, end);
+      if (rejected < 0) {
+        rejected = end;
+      }
+      count += Character.codePointCount(string, i, rejected);
+      i = indexOfAccepted(string, rejected, end);
+    }
+    return count;
+  }
+
+  /**
+   * @param chars the {@code char[]} to scan.
+   * @param start the index where to start scanning (inclusive).
+   * @param end the index where to stop scanning (exclusive).
+   * @return the number of {@link String#codePointAt(int) code-points} in the given range that are
+   *         {@link #accept(int) accepted}.
+   * @see #countAccepted(CharSequence)
+   */
+  default int countAccepted(char[] chars, int start, int end) {
+
+    int count = 0;
+    int i = indexOfAccepted(chars, start, end);
+    while (i >= 0) {
+      int rejected = indexOfRejected(chars, i, end);
+      if (rejected < 0) {
+        rejected = end;
+      }
+      count += Character.codePointCount(chars, i, rejected - i);
+      i = indexOfAccepted(chars, rejected, end);
+    }
+    return count;
+  }
+
+  private int indexOf(CharSequence string, int start, int end, boolean accepted) {
+
+    int i = start;
+    while (i < end) {
+      int cp = string.charAt(i);
+      int next = i + 1;
+      if (Character.isHighSurrogate((char) cp) && (next < end)) {
+        char low = string.charAt(next);
+        if (Character.isLowSurrogate(low)) {
+          cp = Character.toCodePoint((char) cp, low);
+          next++;
+        }
+      }
+      if (accept(cp) == accepted) {
+        return i;
+      }
+      i = next;
+    }
+    return -1;
+  }
+
+  private int indexOf(char[] chars, int start, int end, boolean accepted) {
+
+    int i = start;
+    while (i < end) {
+      int cp = chars[i];
+      int next = i + 1;
+      if (Character.isHighSurrogate((char) cp) && (next < end) && Character.isLowSurrogate(chars[next])) {
+        cp = Character.toCodePoint((char) cp, chars[next]);
+        next++;
+      }
+      if (accept(cp) == accepted) {
+        return i;
+      }
+      i = next;
+    }
+    return -1;
+  }
+
+  /**
+   * @param index the index in the backing array or {@code -1}.
+   * @param offset the offset of the {@link CharBuffer} in its backing array.
+   * @return the given {@code index} relative to the {@link CharBuffer} or {@code -1}.
+   */
+  private static int shift(int index, int offset) {
+
+    if (index < 0) {
+      return index;
+    }
+    return index - offset;
+  }
+
   /**
    * @return the negation of this {@link CharFilter} that returns !{@link #accept(int) accept(c)}.
    */
@@ -107,6 +439,19 @@ public interface CharFilter {
     return new NegatedCharFilter(this);
   }
 
+  /**
+   * Compiles this {@link CharFilter} into precomputed lookup tables so {@link #accept(int)} becomes a single array
+   * probe independent of how deeply this {@link CharFilter} is {@link #compose(CharFilter) composed}. This is an
+   * expensive operation that should only be done once for filters that are used in hot loops (e.g. as constants).
+   *
+   * @return the {@link CompiledCharFilter} that {@link #accept(int) accepts} exactly the same characters as
+   *         {@code this} {@link CharFilter}.
+   */
+  default CharFilter compile() {
+
+    return CompiledCharFilter.of(this);
+  }
+
   /**
    * @param filter the {@link CharFilter} to compose with.
    * @return a {@link ComposedCharFilter} that {@link #accept(int) accepts} a character that is accepted by {@code this}
@@ -135,7 +480,7 @@ public interface CharFilter {
       sb.append("\\t");
     } else if (isInvisible(codePoint)) {
       sb.append("\\u");
-      String hex = Integer.toString(codePoint, 16);
+      String hex = Integer.toHexString(codePoint);
       int len = hex.length();
       int zeros = 4 - len;
       if (zeros < 0) {
@@ -155,6 +500,8 @@ public interface CharFilter {
 
     if (codePoint < 20) { // technically space (20) is also invisible
       return true;
+    } else if (codePoint > Character.MAX_CODE_POINT) {
+      return true;
     } else if ((codePoint >= 0x07F) && (codePoint <= 0x0A0)) {
       return true;
     } else if ((codePoint == 0x0AD)) {
@@ -180,4 +527,49 @@ public interface CharFilter {
 
     return new DescriptiveCharFilter(filter, description);
   }
+
+  /**
+   * @param categories the {@link Character#getType(int) general categories} to accept (e.g.
+   *        {@link Character#UPPERCASE_LETTER} or {@link Character#DECIMAL_DIGIT_NUMBER}).
+   * @return the {@link CharFilter} that {@link #accept(int) accepts} all code-points of the given categories. It is
+   *         {@link #compile() compiled} once into a lookup table so expensive to create but fast to use.
+   */
+  static CharFilter ofCategory(byte... categories) {
+
+    int mask = 0;
+    StringBuilder sb = new StringBuilder("category");
+    char separator = ':';
+    for (byte category : categories) {
+      mask |= 1 << category;
+      sb.append(separator);
+      sb.append(category);
+      separator = ',';
+    }
+    int categoryMask = mask;
+    return CompiledCharFilter.of(c -> ((1 << Character.getType(c)) & categoryMask) != 0, sb.toString());
+  }
+
+  /**
+   * @param script the {@link Character.UnicodeScript} to accept.
+   * @return the {@link CharFilter} that {@link #accept(int) accepts} all code-points of the given
+   *         {@link Character.UnicodeScript}. It is {@link #compile() compiled} once into a lookup table so expensive to
+   *         create but fast to use.
+   */
+  static CharFilter ofScript(Character.UnicodeScript script) {
+
+    Objects.requireNonNull(script, "script");
+    return CompiledCharFilter.of(c -> Character.UnicodeScript.of(c) == script, "script:" + script);
+  }
+
+  /**
+   * @param block the {@link Character.UnicodeBlock} to accept.
+   * @return the {@link CharFilter} that {@link #accept(int) accepts} all code-points of the given
+   *         {@link Character.UnicodeBlock}. It is {@link #compile() compiled} once into a lookup table so expensive to
+   *         create but fast to use.
+   */
+  static CharFilter ofBlock(Character.UnicodeBlock block) {
+
+    Objects.requireNonNull(block, "block");
+    return CompiledCharFilter.of(c -> Character.UnicodeBlock.of(c) == block, "block:" + block);
+  }
 }
@@ -0,0 +1,333 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.filter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.github.mmm.base.exception.RuntimeIoException;
+import io.github.mmm.base.io.ReaderHelper;
+
+/**
+ * Tokenizer that splits a stream of characters into tokens that are the maximum runs of characters that are either all
+ * {@link CharFilter#accept(int) accepted} or all rejected by a given {@link CharFilter}. It reads through a reusable
+ * buffer so the memory consumption is constant (unless a single token exceeds the buffer capacity) and tokens are
+ * provided as {@link CharSequence} views on that buffer instead of creating a {@link String} per token. Therefore a
+ * {@link #getToken() token} is only valid until the next call of {@link #next()}.
+ *
+ * <pre>
+ * CharFilterTokenizer tokenizer = new CharFilterTokenizer(reader, CharFilter.WHITESPACE);
+ * tokenizer.tokenize((token, accepted) -&gt; {
+ *   if (!accepted) {
+ *     process(token);
+ *   }
+ *   return true;
+ * });
+ * </pre>
+ *
+ * @since 1.0.0
+ */
+public class CharFilterTokenizer {
+
+  /** The default capacity of the buffer. */
+  public static final int DEFAULT_CAPACITY = 4096;
+
+  private final CharFilter filter;
+
+  private final Reader reader;
+
+  private final ReadableByteChannel channel;
+
+  private final CharsetDecoder decoder;
+
+  private final ByteBuffer bytes;
+
+  private final Token token;
+
+  private char[] buffer;
+
+  private int limit;
+
+  private int start;
+
+  private int end;
+
+  private boolean accepted;
+
+  private boolean eof;
+
+  /**
+   * The constructor.
+   *
+   * @param reader the {@link Reader} to tokenize. Will not be closed by this tokenizer.
+   * @param filter the {@link CharFilter} deciding the tokens.
+   */
+  public CharFilterTokenizer(Reader reader, CharFilter filter) {
+
+    this(reader, filter, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param reader the {@link Reader} to tokenize. Will not be closed by this tokenizer.
+   * @param filter the {@link CharFilter} deciding the tokens.
+   * @param capacity the initial capacity of the buffer.
+   */
+  public CharFilterTokenizer(Reader reader, CharFilter filter, int capacity) {
+
+    this(Objects.requireNonNull(reader, "reader"), null, null, filter, capacity);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param channel the UTF-8 encoded {@link ReadableByteChannel} to tokenize. Will not be closed by this tokenizer.
+   * @param filter the {@link CharFilter} deciding the tokens.
+   */
+  public CharFilterTokenizer(ReadableByteChannel channel, CharFilter filter) {
+
+    this(channel, StandardCharsets.UTF_8, filter, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param channel the {@link ReadableByteChannel} to tokenize. Will not be closed by this tokenizer.
+   * @param charset the {@link Charset} of the data from the {@code channel}. Malformed input is replaced.
+   * @param filter the {@link CharFilter} deciding the tokens.
+   * @param capacity the initial capacity of the buffer.
+   */
+  public CharFilterTokenizer(ReadableByteChannel channel, Charset charset, CharFilter filter, int capacity) {
+
+    this(null, Objects.requireNonNull(channel, "channel"), charset, filter, capacity);
+  }
+
+  private CharFilterTokenizer(Reader reader, ReadableByteChannel channel, Charset charset, CharFilter filter,
+      int capacity) {
+
+    super();
+    Objects.requireNonNull(filter, "filter");
+    if (capacity < 2) {
+      throw new IllegalArgumentException("Capacity: " + capacity);
+    }
+    this.filter = filter;
+    this.reader = reader;
+    this.channel = channel;
+    if (channel == null) {
+      this.decoder = null;
+      this.bytes = null;
+    } else {
+      this.decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE);
+      this.bytes = ByteBuffer.allocate(Math.max(capacity, 16));
+      this.bytes.flip();
+    }
+    this.buffer = new char[capacity];
+    this.token = new Token();
+  }
+
+  /**
+   * Advances to the next token.
+   *
+   * @return {@code true} if the next token has been read and is available via {@link #getToken()}, {@code false} if
+   *         the end of the stream has been reached.
+   */
+  public boolean next() {
+
+    int tokenStart = this.end;
+    while (tokenStart >= available()) {
+      if (this.eof) {
+        return false;
+      }
+      fill(tokenStart);
+      tokenStart = 0;
+    }
+    // available() never ends with a high surrogate so the first code point is complete
+    int cpEnd = tokenStart + 1;
+    if (Character.isHighSurrogate(this.buffer[tokenStart]) && (cpEnd < this.limit)
+        && Character.isLowSurrogate(this.buffer[cpEnd])) {
+      cpEnd++;
+    }
+    this.accepted = (this.filter.indexOfAccepted(this.buffer, tokenStart, cpEnd) == tokenStart);
+    int scan = cpEnd;
+    while (true) {
+      int available = available();
+      int index;
+      if (this.accepted) {
+        index = this.filter.indexOfRejected(this.buffer, scan, available);
+      } else {
+        index = this.filter.indexOfAccepted(this.buffer, scan, available);
+      }
+      if (index >= 0) {
+        this.end = index;
+        break;
+      } else if (this.eof) {
+        this.end = this.limit;
+        break;
+      }
+      scan = available - tokenStart;
+      fill(tokenStart);
+      tokenStart = 0;
+    }
+    this.start = tokenStart;
+    return true;
+  }
+
+  /**
+   * @return the current token as a {@link CharSequence} view on the internal buffer. Only valid until the next call
+   *         of {@link #next()} - use {@link Object#toString()} to keep it.
+   */
+  public CharSequence getToken() {
+
+    return this.token;
+  }
+
+  /**
+   * @return {@code true} if the characters of the current {@link #getToken() token} are all
+   *         {@link CharFilter#accept(int) accepted}, {@code false} if they are all rejected.
+   */
+  public boolean isAccepted() {
+
+    return this.accepted;
+  }
+
+  /**
+   * Reads all remaining tokens and passes them to the given {@link Visitor}.
+   *
+   * @param visitor the {@link Visitor} receiving the tokens.
+   */
+  public void tokenize(Visitor visitor) {
+
+    while (next()) {
+      if (!visitor.visit(this.token, this.accepted)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * @return the end index of the characters that can be classified. Unless the end of the stream has been reached a
+   *         trailing high surrogate is excluded as its low surrogate will only be read with the next {@link #fill(int)
+   *         fill}.
+   */
+  private int available() {
+
+    int available = this.limit;
+    if (!this.eof && (available > 0) && Character.isHighSurrogate(this.buffer[available - 1])) {
+      available--;
+    }
+    return available;
+  }
+
+  /**
+   * Moves the characters from {@code keep} to {@link #limit} to the start of the buffer and reads more characters.
+   *
+   * @param keep the index of the first character to keep.
+   */
+  private void fill(int keep) {
+
+    int remaining = this.limit - keep;
+    if (remaining > 0) {
+      System.arraycopy(this.buffer, keep, this.buffer, 0, remaining);
+    }
+    this.limit = remaining;
+    this.start = 0;
+    this.end = 0;
+    if (this.buffer.length - remaining < 2) {
+      this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+    }
+    int count;
+    if (this.reader == null) {
+      count = decode();
+    } else {
+      count = ReaderHelper.read(this.reader, this.buffer, remaining, this.buffer.length - remaining);
+    }
+    if (count < 0) {
+      this.eof = true;
+    } else {
+      this.limit += count;
+    }
+  }
+
+  private int decode() {
+
+    CharBuffer chars = CharBuffer.wrap(this.buffer, this.limit, this.buffer.length - this.limit);
+    try {
+      while (true) {
+        this.bytes.compact();
+        int read = this.channel.read(this.bytes);
+        this.bytes.flip();
+        if (read < 0) {
+          if (this.decoder.decode(this.bytes, chars, true).isUnderflow() && this.decoder.flush(chars).isUnderflow()) {
+            this.eof = true;
+          }
+          return chars.position() - this.limit;
+        }
+        this.decoder.decode(this.bytes, chars, false);
+        int count = chars.position() - this.limit;
+        if (count > 0) {
+          return count;
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeIoException(e);
+    }
+  }
+
+  /**
+   * Callback interface to receive the tokens of a {@link CharFilterTokenizer}.
+   */
+  @FunctionalInterface
+  public interface Visitor {
+
+    /**
+     * @param token the current token. Only valid during this call - use {@link Object#toString()} to keep it.
+     * @param accepted {@code true} if the characters of the token are all {@link CharFilter#accept(int) accepted},
+     *        {@code false} if they are all rejected.
+     * @return {@code true} to continue, {@code false} to stop tokenizing.
+     */
+    boolean visit(CharSequence token, boolean accepted);
+
+  }
+
+  private final class Token implements CharSequence {
+
+    @Override
+    public int length() {
+
+      return CharFilterTokenizer.this.end - CharFilterTokenizer.this.start;
+    }
+
+    @Override
+    public char charAt(int index) {
+
+      Objects.checkIndex(index, length());
+      return CharFilterTokenizer.this.buffer[CharFilterTokenizer.this.start + index];
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+
+      Objects.checkFromToIndex(from, to, length());
+      return new String(CharFilterTokenizer.this.buffer, CharFilterTokenizer.this.start + from, to - from);
+    }
+
+    @Override
+    public String toString() {
+
+      return new String(CharFilterTokenizer.this.buffer, CharFilterTokenizer.this.start, length());
+    }
+
+  }
+
+}
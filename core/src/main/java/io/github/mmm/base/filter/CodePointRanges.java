@@ -0,0 +1,234 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.filter;
+
+import java.util.Arrays;
+
+/**
+ * Helper for normalized sets of {@link String#codePointAt(int) code-point} ranges. Such set is represented as
+ * {@code int[]} of {@code [min, max]} pairs that are sorted ascending, do not overlap and do not touch each other (are
+ * coalesced). Operations always return a normalized set and may return one of the given arrays if unchanged, so arrays
+ * must never be modified once created.
+ */
+final class CodePointRanges {
+
+  /** The empty set of ranges. */
+  static final int[] NONE = new int[0];
+
+  private CodePointRanges() {
+
+  }
+
+  /**
+   * @param ranges the normalized ranges.
+   * @param codePoint the code-point to check.
+   * @return {@code true} if the given {@code codePoint} is contained in one of the given {@code ranges}.
+   */
+  static boolean contains(int[] ranges, int codePoint) {
+
+    int low = 0;
+    int high = (ranges.length >> 1) - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int i = mid << 1;
+      if (codePoint < ranges[i]) {
+        high = mid - 1;
+      } else if (codePoint > ranges[i + 1]) {
+        low = mid + 1;
+      } else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param pairs the {@code [min, max]} pairs in any order that may also overlap.
+   * @return the normalized ranges.
+   */
+  static int[] normalize(int... pairs) {
+
+    int length = pairs.length;
+    if ((length & 1) != 0) {
+      throw new IllegalArgumentException("Odd number of range bounds: " + length);
+    }
+    long[] sorted = new long[length >> 1];
+    for (int i = 0; i < length; i += 2) {
+      int min = pairs[i];
+      int max = pairs[i + 1];
+      if (min > max) {
+        throw new IllegalArgumentException("Invalid range [" + min + "-" + max + "]");
+      }
+      sorted[i >> 1] = ((long) min << 32) | (max & 0xFFFFFFFFL);
+    }
+    Arrays.sort(sorted);
+    int[] result = new int[length];
+    int size = 0;
+    for (long range : sorted) {
+      size = append(result, size, (int) (range >> 32), (int) range);
+    }
+    return trim(result, size);
+  }
+
+  /**
+   * @param ranges1 the first normalized ranges.
+   * @param ranges2 the second normalized ranges.
+   * @return the normalized union of both given ranges. Runs in linear time.
+   */
+  static int[] union(int[] ranges1, int[] ranges2) {
+
+    if (ranges1.length == 0) {
+      return ranges2;
+    } else if (ranges2.length == 0) {
+      return ranges1;
+    }
+    int[] result = new int[ranges1.length + ranges2.length];
+    int size = 0;
+    int i1 = 0;
+    int i2 = 0;
+    while ((i1 < ranges1.length) || (i2 < ranges2.length)) {
+      if ((i2 >= ranges2.length) || ((i1 < ranges1.length) && (ranges1[i1] <= ranges2[i2]))) {
+        size = append(result, size, ranges1[i1], ranges1[i1 + 1]);
+        i1 += 2;
+      } else {
+        size = append(result, size, ranges2[i2], ranges2[i2 + 1]);
+        i2 += 2;
+      }
+    }
+    return trim(result, size);
+  }
+
+  /**
+   * @param ranges the normalized ranges.
+   * @return the normalized complement of the given ranges within the entire {@code int} domain so that it contains
+   *         exactly the values (including negative values and values beyond {@link Character#MAX_CODE_POINT}) not
+   *         contained in the given ranges.
+   */
+  static int[] complement(int[] ranges) {
+
+    return complement(ranges, Integer.MIN_VALUE, Integer.MAX_VALUE);
+  }
+
+  /**
+   * @param ranges the normalized ranges.
+   * @param min the minimum of the domain.
+   * @param max the maximum of the domain.
+   * @return the normalized complement of the given ranges within the domain from {@code min} to {@code max}.
+   */
+  static int[] complement(int[] ranges, int min, int max) {
+
+    int[] result = new int[ranges.length + 2];
+    int size = 0;
+    long next = min;
+    for (int i = 0; i < ranges.length; i += 2) {
+      int start = ranges[i];
+      if (start > max) {
+        break;
+      }
+      if (start > next) {
+        result[size++] = (int) next;
+        result[size++] = start - 1;
+      }
+      next = Math.max(next, (long) ranges[i + 1] + 1);
+    }
+    if (next <= max) {
+      result[size++] = (int) next;
+      result[size++] = max;
+    }
+    return trim(result, size);
+  }
+
+  /**
+   * @param filter the {@link CharFilter} to convert.
+   * @return the normalized ranges of the characters {@link CharFilter#accept(int) accepted} by the given
+   *         {@link CharFilter} or {@code null} if the given {@link CharFilter} can not be converted without probing.
+   */
+  static int[] of(CharFilter filter) {
+
+    if (filter instanceof RangeSetCharFilter rangeSet) {
+      return rangeSet.getRanges();
+    } else if (filter instanceof RangeCharFilter range) {
+      return new int[] { range.getMin(), range.getMax() };
+    } else if (filter instanceof ListCharFilter list) {
+      return of(list);
+    } else if (filter instanceof NegatedCharFilter negated) {
+      int[] ranges = of(negated.negate());
+      if (ranges != null) {
+        ranges = complement(ranges);
+      }
+      return ranges;
+    } else if (filter instanceof ComposedCharFilter composed) {
+      int[] ranges = NONE;
+      for (CharFilter child : composed.getFilters()) {
+        int[] childRanges = of(child);
+        if (childRanges == null) {
+          return null;
+        }
+        ranges = union(ranges, childRanges);
+      }
+      return ranges;
+    } else if (filter instanceof DescriptiveCharFilter descriptive) {
+      return of(descriptive.getFilter());
+    }
+    return null;
+  }
+
+  private static int[] of(ListCharFilter list) {
+
+    long[] bmp = list.getBmp();
+    int[] supplementary = list.getSupplementary();
+    int[] result = new int[8];
+    int size = 0;
+    int start = -1;
+    int length = bmp.length << 6;
+    for (int c = 0; c <= length; c++) {
+      boolean accepted = (c < length) && ((bmp[c >>> 6] & (1L << c)) != 0);
+      if (accepted) {
+        if (start < 0) {
+          start = c;
+        }
+      } else if (start >= 0) {
+        if (size + 2 > result.length) {
+          result = Arrays.copyOf(result, result.length * 2);
+        }
+        result[size++] = start;
+        result[size++] = c - 1;
+        start = -1;
+      }
+    }
+    int[] ranges = trim(result, size);
+    if (supplementary.length > 0) {
+      int[] pairs = new int[supplementary.length * 2];
+      for (int i = 0; i < supplementary.length; i++) {
+        pairs[2 * i] = supplementary[i];
+        pairs[2 * i + 1] = supplementary[i];
+      }
+      ranges = union(ranges, normalize(pairs));
+    }
+    return ranges;
+  }
+
+  private static int append(int[] result, int size, int min, int max) {
+
+    if ((size > 0) && ((long) min <= (long) result[size - 1] + 1)) {
+      if (max > result[size - 1]) {
+        result[size - 1] = max;
+      }
+      return size;
+    }
+    result[size] = min;
+    result[size + 1] = max;
+    return size + 2;
+  }
+
+  private static int[] trim(int[] ranges, int size) {
+
+    if (size == 0) {
+      return NONE;
+    } else if (size < ranges.length) {
+      return Arrays.copyOf(ranges, size);
+    }
+    return ranges;
+  }
+
+}
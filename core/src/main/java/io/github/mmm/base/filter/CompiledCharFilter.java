@@ -0,0 +1,402 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.filter;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link CharFilter} that has been {@link CharFilter#compile() compiled} from any other
+ * {@link CharFilter} into precomputed lookup tables. Characters from the Basic Multilingual Plane (BMP) are stored in a
+ * bitmap so {@link #accept(int)} is a single array probe. Supplementary {@link String#codePointAt(int) code-points}
+ * are stored in a two-level table (trie) that maps each block of 256 code-points to a shared bitmap so
+ * {@link #accept(int)} is also O(1) for them while identical blocks (e.g. all rejected) only exist once.
+ *
+ * @since 1.0.0
+ */
+public final class CompiledCharFilter extends AbstractCharFilter {
+
+  private static final int BMP_WORDS = (Character.MAX_VALUE + 1) >>> 6;
+
+  private static final int ALL_WORDS = (Character.MAX_CODE_POINT + 1) >>> 6;
+
+  /** Number of {@code long} words per block of 256 code-points. */
+  private static final int BLOCK_WORDS = 4;
+
+  private static final char[] NO_INDEX = new char[0];
+
+  private static final long[] NO_BLOCKS = new long[BLOCK_WORDS];
+
+  private final long[] bmp;
+
+  /** Block number for each block of 256 supplementary code-points. */
+  private final char[] index;
+
+  /** The bitmaps of the distinct blocks with {@link #BLOCK_WORDS} words each. */
+  private final long[] blocks;
+
+  private CompiledCharFilter(long[] bits, String description) {
+
+    super(description);
+    this.bmp = trim(Arrays.copyOf(bits, BMP_WORDS));
+    int indexLength = (ALL_WORDS - BMP_WORDS) / BLOCK_WORDS;
+    while ((indexLength > 0) && isEmpty(bits, BMP_WORDS + (indexLength - 1) * BLOCK_WORDS)) {
+      indexLength--;
+    }
+    if (indexLength == 0) {
+      this.index = NO_INDEX;
+      this.blocks = NO_BLOCKS;
+    } else {
+      char[] blockIndex = new char[indexLength];
+      long[] blockBits = new long[BLOCK_WORDS * 8];
+      Map<Block, Character> blockMap = new HashMap<>();
+      blockMap.put(new Block(NO_BLOCKS, 0), Character.valueOf((char) 0));
+      int blockCount = 1;
+      for (int i = 0; i < indexLength; i++) {
+        int offset = BMP_WORDS + (i * BLOCK_WORDS);
+        Block block = new Block(bits, offset);
+        Character number = blockMap.get(block);
+        if (number == null) {
+          if ((blockCount * BLOCK_WORDS) >= blockBits.length) {
+            blockBits = Arrays.copyOf(blockBits, blockBits.length * 2);
+          }
+          System.arraycopy(bits, offset, blockBits, blockCount * BLOCK_WORDS, BLOCK_WORDS);
+          number = Character.valueOf((char) blockCount++);
+          blockMap.put(block, number);
+        }
+        blockIndex[i] = number.charValue();
+      }
+      this.index = blockIndex;
+      this.blocks = Arrays.copyOf(blockBits, blockCount * BLOCK_WORDS);
+    }
+  }
+
+  @Override
+  public boolean accept(int codePoint) {
+
+    int word = codePoint >>> 6;
+    if (word < this.bmp.length) {
+      return (this.bmp[word] & (1L << codePoint)) != 0;
+    } else if (codePoint <= Character.MAX_VALUE) {
+      return false;
+    }
+    return acceptSupplementary(codePoint);
+  }
+
+  private boolean acceptBmp(char c) {
+
+    int word = c >>> 6;
+    return (word < this.bmp.length) && ((this.bmp[word] & (1L << c)) != 0);
+  }
+
+  private boolean acceptSupplementary(int codePoint) {
+
+    int i = (codePoint - Character.MIN_SUPPLEMENTARY_CODE_POINT) >>> 8;
+    if (i >= this.index.length) {
+      return false;
+    }
+    int word = (this.index[i] * BLOCK_WORDS) + ((codePoint >>> 6) & (BLOCK_WORDS - 1));
+    return (this.blocks[word] & (1L << codePoint)) != 0;
+  }
+
+  @Override
+  public int indexOfAccepted(CharSequence string, int start, int end) {
+
+    if (string instanceof CharBuffer) {
+      return super.indexOfAccepted(string, start, end);
+    }
+    return indexOf(string, start, end, true);
+  }
+
+  @Override
+  public int indexOfAccepted(char[] chars, int start, int end) {
+
+    return indexOf(chars, start, end, true);
+  }
+
+  @Override
+  public int indexOfRejected(CharSequence string, int start, int end) {
+
+    if (string instanceof CharBuffer) {
+      return super.indexOfRejected(string, start, end);
+    }
+    return indexOf(string, start, end, false);
+  }
+
+  @Override
+  public int indexOfRejected(char[] chars, int start, int end) {
+
+    return indexOf(chars, start, end, false);
+  }
+
+  @Override
+  public int indexOfAccepted(byte[] latin1, int start, int end) {
+
+    for (int i = start; i < end; i++) {
+      if (acceptBmp((char) (latin1[i] & 0xFF))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOfRejected(byte[] latin1, int start, int end) {
+
+    for (int i = start; i < end; i++) {
+      if (!acceptBmp((char) (latin1[i] & 0xFF))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private int indexOf(CharSequence string, int start, int end, boolean accepted) {
+
+    for (int i = start; i < end; i++) {
+      char c = string.charAt(i);
+      if (Character.isHighSurrogate(c) && (i + 1 < end) && Character.isLowSurrogate(string.charAt(i + 1))) {
+        if (acceptSupplementary(Character.toCodePoint(c, string.charAt(i + 1))) == accepted) {
+          return i;
+        }
+        i++;
+      } else if (acceptBmp(c) == accepted) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private int indexOf(char[] chars, int start, int end, boolean accepted) {
+
+    for (int i = start; i < end; i++) {
+      char c = chars[i];
+      if (Character.isHighSurrogate(c) && (i + 1 < end) && Character.isLowSurrogate(chars[i + 1])) {
+        if (acceptSupplementary(Character.toCodePoint(c, chars[i + 1])) == accepted) {
+          return i;
+        }
+        i++;
+      } else if (acceptBmp(c) == accepted) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public CharFilter compile() {
+
+    return this;
+  }
+
+  @Override
+  public CharFilter compose(CharFilter filter) {
+
+    if ((filter instanceof CompiledCharFilter) || (CodePointRanges.of(filter) != null)) {
+      // cheap to compile so the result stays a single lookup
+      long[] bits = new long[ALL_WORDS];
+      copyTo(bits);
+      compile(filter, bits);
+      return new CompiledCharFilter(bits, getDescription() + filter.getDescription());
+    }
+    return super.compose(filter);
+  }
+
+  @Override
+  public CharFilter negate() {
+
+    long[] bits = new long[ALL_WORDS];
+    copyTo(bits);
+    for (int i = 0; i < ALL_WORDS; i++) {
+      bits[i] = ~bits[i];
+    }
+    return new CompiledCharFilter(bits, "!" + getDescription());
+  }
+
+  /**
+   * @param bits the bitmap of all code-points where to set the bits of the {@link #accept(int) accepted}
+   *        code-points.
+   */
+  private void copyTo(long[] bits) {
+
+    or(bits, this.bmp, 0);
+    for (int i = 0; i < this.index.length; i++) {
+      int offset = BMP_WORDS + (i * BLOCK_WORDS);
+      int block = this.index[i] * BLOCK_WORDS;
+      for (int j = 0; j < BLOCK_WORDS; j++) {
+        bits[offset + j] |= this.blocks[block + j];
+      }
+    }
+  }
+
+  /**
+   * @param filter the {@link CharFilter} that can be compiled without probing (e.g. a {@link RangeSetCharFilter}).
+   * @param compiled the {@link CompiledCharFilter} to {@link #compose(CharFilter) compose} with.
+   * @return the {@link CompiledCharFilter} that {@link #accept(int) accepts} the characters accepted by any of the
+   *         given filters.
+   */
+  static CompiledCharFilter union(CharFilter filter, CompiledCharFilter compiled) {
+
+    long[] bits = new long[ALL_WORDS];
+    compiled.copyTo(bits);
+    compile(filter, bits);
+    return new CompiledCharFilter(bits, filter.getDescription() + compiled.getDescription());
+  }
+
+  /**
+   * @param filter the {@link CharFilter} to compile.
+   * @return the {@link CompiledCharFilter} that {@link #accept(int) accepts} exactly the same characters as the given
+   *         {@link CharFilter}.
+   */
+  public static CompiledCharFilter of(CharFilter filter) {
+
+    Objects.requireNonNull(filter, "filter");
+    if (filter instanceof CompiledCharFilter compiled) {
+      return compiled;
+    }
+    long[] bits = new long[ALL_WORDS];
+    compile(filter, bits);
+    return new CompiledCharFilter(bits, filter.getDescription());
+  }
+
+  /**
+   * @param filter the {@link CharFilter} to probe for every code-point. Typically a lambda.
+   * @param description the {@link #getDescription() description}.
+   * @return the {@link CompiledCharFilter} that {@link #accept(int) accepts} exactly the same characters as the given
+   *         {@link CharFilter}.
+   */
+  static CompiledCharFilter of(CharFilter filter, String description) {
+
+    long[] bits = new long[ALL_WORDS];
+    probe(filter, bits);
+    return new CompiledCharFilter(bits, description);
+  }
+
+  /**
+   * Flattens the given {@link CharFilter} into the given bitmap.
+   *
+   * @param filter the {@link CharFilter} to compile.
+   * @param bits the bitmap of all code-points where to set the bits of the {@link #accept(int) accepted}
+   *        code-points.
+   */
+  private static void compile(CharFilter filter, long[] bits) {
+
+    if (filter instanceof CompiledCharFilter compiled) {
+      compiled.copyTo(bits);
+    } else if (filter instanceof RangeCharFilter range) {
+      set(bits, range.getMin(), range.getMax());
+    } else if (filter instanceof RangeSetCharFilter rangeSet) {
+      int[] ranges = rangeSet.getRanges();
+      for (int i = 0; i < ranges.length; i += 2) {
+        set(bits, ranges[i], ranges[i + 1]);
+      }
+    } else if (filter instanceof ListCharFilter list) {
+      or(bits, list.getBmp(), 0);
+      for (int cp : list.getSupplementary()) {
+        bits[cp >>> 6] |= (1L << cp);
+      }
+    } else if (filter instanceof ComposedCharFilter composed) {
+      for (CharFilter child : composed.getFilters()) {
+        compile(child, bits);
+      }
+    } else if (filter instanceof NegatedCharFilter negated) {
+      long[] negatedBits = new long[ALL_WORDS];
+      compile(negated.negate(), negatedBits);
+      for (int i = 0; i < ALL_WORDS; i++) {
+        bits[i] |= ~negatedBits[i];
+      }
+    } else if (filter instanceof DescriptiveCharFilter descriptive) {
+      compile(descriptive.getFilter(), bits);
+    } else {
+      probe(filter, bits);
+    }
+  }
+
+  private static void probe(CharFilter filter, long[] bits) {
+
+    for (int cp = 0; cp <= Character.MAX_CODE_POINT; cp++) {
+      if (filter.accept(cp)) {
+        bits[cp >>> 6] |= (1L << cp);
+      }
+    }
+  }
+
+  private static void set(long[] bits, int min, int max) {
+
+    int start = Math.max(min, 0);
+    int end = Math.min(max, Character.MAX_CODE_POINT);
+    for (int cp = start; cp <= end; cp++) {
+      bits[cp >>> 6] |= (1L << cp);
+    }
+  }
+
+  private static void or(long[] bits, long[] other, int offset) {
+
+    for (int i = 0; i < other.length; i++) {
+      bits[offset + i] |= other[i];
+    }
+  }
+
+  private static boolean isEmpty(long[] bits, int offset) {
+
+    for (int i = 0; i < BLOCK_WORDS; i++) {
+      if (bits[offset + i] != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long[] trim(long[] bits) {
+
+    int length = bits.length;
+    while ((length > 0) && (bits[length - 1] == 0)) {
+      length--;
+    }
+    if (length == bits.length) {
+      return bits;
+    }
+    return Arrays.copyOf(bits, length);
+  }
+
+  /**
+   * Key to deduplicate the bitmaps of blocks.
+   */
+  private static final class Block {
+
+    private final long[] bits;
+
+    private final int offset;
+
+    private Block(long[] bits, int offset) {
+
+      this.bits = bits;
+      this.offset = offset;
+    }
+
+    @Override
+    public int hashCode() {
+
+      int hash = 1;
+      for (int i = 0; i < BLOCK_WORDS; i++) {
+        hash = (31 * hash) + Long.hashCode(this.bits[this.offset + i]);
+      }
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+      if (!(obj instanceof Block other)) {
+        return false;
+      }
+      return Arrays.equals(this.bits, this.offset, this.offset + BLOCK_WORDS, other.bits, other.offset,
+          other.offset + BLOCK_WORDS);
+    }
+
+  }
+
+}
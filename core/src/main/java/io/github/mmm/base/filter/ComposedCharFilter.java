@@ -36,6 +36,14 @@ public class ComposedCharFilter extends AbstractCharFilter {
     return false;
   }
 
+  /**
+   * @return the composed {@link CharFilter}s.
+   */
+  CharFilter[] getFilters() {
+
+    return this.filters;
+  }
+
   @Override
   protected String computeDescription() {
 
@@ -33,4 +33,12 @@ class DescriptiveCharFilter extends AbstractCharFilter {
     return this.filter.accept(codePoint);
   }
 
+  /**
+   * @return the wrapped {@link CharFilter}.
+   */
+  CharFilter getFilter() {
+
+    return this.filter;
+  }
+
 }
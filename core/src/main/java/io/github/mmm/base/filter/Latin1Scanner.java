@@ -0,0 +1,152 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.filter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Scanner for ASCII or Latin-1 encoded {@code byte[]} data that compares 8 characters at once using SWAR (SIMD within a
+ * register) on {@code long} words. All lane predicates are exact so the index of the first match is determined by the
+ * number of trailing zero bits without any scalar re-check.
+ */
+final class Latin1Scanner {
+
+  private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /** Every byte set to {@code 0x01}. */
+  private static final long LOW = 0x0101010101010101L;
+
+  /** Every byte set to {@code 0x80}. */
+  private static final long HIGH = 0x8080808080808080L;
+
+  /** Maximum number of characters for {@link #indexOf(byte[], int, int, char[], boolean)} to use SWAR. */
+  static final int MAX_SET_SIZE = 8;
+
+  private Latin1Scanner() {
+
+  }
+
+  /**
+   * @param bytes the Latin-1 encoded bytes to scan.
+   * @param start the index where to start scanning (inclusive).
+   * @param end the index where to stop scanning (exclusive).
+   * @param min the minimum character of the range.
+   * @param max the maximum character of the range.
+   * @param accepted {@code true} to find the first byte in the range, {@code false} to find the first byte outside.
+   * @return the index of the first matching byte or {@code -1} if none was found.
+   */
+  static int indexOf(byte[] bytes, int start, int end, int min, int max, boolean accepted) {
+
+    int i = start;
+    int limit = end - 8;
+    while (i <= limit) {
+      long word = (long) LONG.get(bytes, i);
+      long mask = lessThan(word, min) | greaterThan(word, max);
+      if (accepted) {
+        mask = ~mask & HIGH;
+      }
+      if (mask != 0) {
+        return i + (Long.numberOfTrailingZeros(mask) >>> 3);
+      }
+      i += 8;
+    }
+    while (i < end) {
+      int c = bytes[i] & 0xFF;
+      if (((c >= min) && (c <= max)) == accepted) {
+        return i;
+      }
+      i++;
+    }
+    return -1;
+  }
+
+  /**
+   * @param bytes the Latin-1 encoded bytes to scan.
+   * @param start the index where to start scanning (inclusive).
+   * @param end the index where to stop scanning (exclusive).
+   * @param chars the Latin-1 characters of the set. Length must not exceed {@link #MAX_SET_SIZE}.
+   * @param accepted {@code true} to find the first byte in the set, {@code false} to find the first byte not in the
+   *        set.
+   * @return the index of the first matching byte or {@code -1} if none was found.
+   */
+  static int indexOf(byte[] bytes, int start, int end, char[] chars, boolean accepted) {
+
+    int i = start;
+    int limit = end - 8;
+    while (i <= limit) {
+      long word = (long) LONG.get(bytes, i);
+      long mask = 0;
+      for (char c : chars) {
+        mask |= zero(word ^ (c * LOW));
+      }
+      if (!accepted) {
+        mask = ~mask & HIGH;
+      }
+      if (mask != 0) {
+        return i + (Long.numberOfTrailingZeros(mask) >>> 3);
+      }
+      i += 8;
+    }
+    while (i < end) {
+      int b = bytes[i] & 0xFF;
+      boolean found = false;
+      for (char c : chars) {
+        if (c == b) {
+          found = true;
+          break;
+        }
+      }
+      if (found == accepted) {
+        return i;
+      }
+      i++;
+    }
+    return -1;
+  }
+
+  /**
+   * @param word the 8 bytes to check.
+   * @return the mask with the high bit set exactly in the lanes where the byte is zero.
+   */
+  private static long zero(long word) {
+
+    return ~(((word & ~HIGH) + ~HIGH) | word | ~HIGH);
+  }
+
+  /**
+   * @param word the 8 bytes to check.
+   * @param n the exclusive upper bound.
+   * @return the mask with the high bit set exactly in the lanes where the unsigned byte is less than {@code n}.
+   */
+  private static long lessThan(long word, int n) {
+
+    if (n <= 0) {
+      return 0;
+    } else if (n >= 256) {
+      return HIGH;
+    } else if (n <= 128) {
+      return ~((word | HIGH) - (n * LOW)) & ~word & HIGH;
+    }
+    return (~word & HIGH) | (~((word | HIGH) - ((n - 128) * LOW)) & word & HIGH);
+  }
+
+  /**
+   * @param word the 8 bytes to check.
+   * @param n the exclusive lower bound.
+   * @return the mask with the high bit set exactly in the lanes where the unsigned byte is greater than {@code n}.
+   */
+  private static long greaterThan(long word, int n) {
+
+    if (n < 0) {
+      return HIGH;
+    } else if (n >= 255) {
+      return 0;
+    } else if (n <= 127) {
+      return (((word & ~HIGH) + ((127 - n) * LOW)) | word) & HIGH;
+    }
+    return ((word & ~HIGH) + ((255 - n) * LOW)) & word & HIGH;
+  }
+
+}
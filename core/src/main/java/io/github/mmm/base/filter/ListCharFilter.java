@@ -2,6 +2,9 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package io.github.mmm.base.filter;
 
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
 /**
  * Implementation of the {@link CharFilter} that {@link #accept(int) accepts} characters from a white-list given at
  * {@link ListCharFilter#ListCharFilter(String) construction}.
@@ -10,6 +13,14 @@ public class ListCharFilter extends AbstractCharFilter {
 
   private final String chars;
 
+  private final long[] bmp;
+
+  private final int[] supplementary;
+
+  private final boolean surrogates;
+
+  private final char[] latin1;
+
   /**
    * The constructor.
    *
@@ -19,30 +30,164 @@ public class ListCharFilter extends AbstractCharFilter {
 
     super(null);
     this.chars = chars;
-    assert (isUnique()) : chars;
+    int length = chars.length();
+    long[] bits = new long[(Character.MAX_VALUE + 1) >>> 6];
+    int[] codePoints = new int[0];
+    int size = 0;
+    int maxWord = -1;
+    boolean hasSurrogates = false;
+    boolean unique = true;
+    for (int i = 0; i < length; i++) {
+      char c = chars.charAt(i);
+      int word = c >>> 6;
+      long bit = 1L << c;
+      if (((bits[word] & bit) != 0) && !Character.isSurrogate(c)) {
+        // supplementary code-points may share the same surrogate
+        unique = false;
+      }
+      bits[word] |= bit;
+      if (word > maxWord) {
+        maxWord = word;
+      }
+      if (Character.isSurrogate(c)) {
+        hasSurrogates = true;
+        if (Character.isHighSurrogate(c) && (i + 1 < length) && Character.isLowSurrogate(chars.charAt(i + 1))) {
+          if (size == codePoints.length) {
+            codePoints = Arrays.copyOf(codePoints, Math.max(4, size * 2));
+          }
+          codePoints[size++] = Character.toCodePoint(c, chars.charAt(i + 1));
+        }
+      }
+    }
+    this.bmp = Arrays.copyOf(bits, maxWord + 1);
+    codePoints = Arrays.copyOf(codePoints, size);
+    Arrays.sort(codePoints);
+    this.supplementary = codePoints;
+    this.surrogates = hasSurrogates;
+    this.latin1 = latin1(chars);
+    assert unique : chars;
   }
 
-  private boolean isUnique() {
+  /**
+   * @param c the character to check.
+   * @return {@code true} if the given BMP character is contained in the {@link #getChars() characters}.
+   */
+  private boolean acceptChar(char c) {
 
-    int i = 0;
-    int length = this.chars.length();
-    while (i < length) {
-      char c = this.chars.charAt(i);
-      if (this.chars.indexOf(c) != i) {
-        return false;
-      } else if (this.chars.lastIndexOf(c) != i) {
-        return false;
+    int word = c >>> 6;
+    return (word < this.bmp.length) && ((this.bmp[word] & (1L << c)) != 0);
+  }
+
+  @Override
+  public int indexOfRejected(byte[] bytes, int start, int end) {
+
+    char[] set = this.latin1;
+    if (set.length <= Latin1Scanner.MAX_SET_SIZE) {
+      return Latin1Scanner.indexOf(bytes, start, end, set, false);
+    }
+    for (int i = start; i < end; i++) {
+      if (!acceptChar((char) (bytes[i] & 0xFF))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static char[] latin1(String chars) {
+
+    int length = chars.length();
+    char[] set = new char[length];
+    int size = 0;
+    for (int i = 0; i < length; i++) {
+      char c = chars.charAt(i);
+      if (c <= 0xFF) {
+        set[size++] = c;
       }
-      i++;
     }
-    return true;
+    if (size < length) {
+      set = Arrays.copyOf(set, size);
+    }
+    return set;
   }
 
   @Override
   public boolean accept(int codePoint) {
 
-    int i = this.chars.indexOf(codePoint);
-    return (i >= 0);
+    if (codePoint <= Character.MAX_VALUE) {
+      return (codePoint >= 0) && acceptChar((char) codePoint);
+    }
+    return Arrays.binarySearch(this.supplementary, codePoint) >= 0;
+  }
+
+  @Override
+  public int indexOfAccepted(CharSequence string, int start, int end) {
+
+    if (this.surrogates || (string instanceof CharBuffer)) {
+      return super.indexOfAccepted(string, start, end);
+    }
+    for (int i = start; i < end; i++) {
+      if (acceptChar(string.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOfAccepted(char[] array, int start, int end) {
+
+    if (this.surrogates) {
+      return super.indexOfAccepted(array, start, end);
+    }
+    for (int i = start; i < end; i++) {
+      if (acceptChar(array[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOfAccepted(byte[] bytes, int start, int end) {
+
+    char[] set = this.latin1;
+    if (set.length <= Latin1Scanner.MAX_SET_SIZE) {
+      return Latin1Scanner.indexOf(bytes, start, end, set, true);
+    }
+    for (int i = start; i < end; i++) {
+      if (acceptChar((char) (bytes[i] & 0xFF))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOfRejected(CharSequence string, int start, int end) {
+
+    if (this.surrogates || (string instanceof CharBuffer)) {
+      return super.indexOfRejected(string, start, end);
+    }
+    for (int i = start; i < end; i++) {
+      if (!acceptChar(string.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOfRejected(char[] array, int start, int end) {
+
+    if (this.surrogates) {
+      return super.indexOfRejected(array, start, end);
+    }
+    for (int i = start; i < end; i++) {
+      if (!acceptChar(array[i])) {
+        return i;
+      }
+    }
+    return -1;
   }
 
   /**
@@ -55,13 +200,41 @@ public class ListCharFilter extends AbstractCharFilter {
     if ((characters == null) || (characters.length == 0)) {
       return this;
     }
+    return join(characters, characters.length);
+  }
+
+  private ListCharFilter join(char[] characters, int count) {
+
     int length = this.chars.length();
-    char[] composed = new char[length + characters.length];
+    char[] composed = new char[length + count];
     this.chars.getChars(0, length, composed, 0);
+    long[] added = null;
+    int[] addedSupplementary = null;
+    int supplementaryCount = 0;
     int i = length;
-    for (char c : characters) {
-      if (this.chars.indexOf(c) < 0) {
-        composed[i++] = c;
+    for (int j = 0; j < count; j++) {
+      char c = characters[j];
+      if (Character.isHighSurrogate(c) && (j + 1 < count) && Character.isLowSurrogate(characters[j + 1])) {
+        // copy surrogate pair as a unit and dedupe by code-point
+        int codePoint = Character.toCodePoint(c, characters[++j]);
+        if (!accept(codePoint) && !contains(addedSupplementary, supplementaryCount, codePoint)) {
+          if (addedSupplementary == null) {
+            addedSupplementary = new int[count / 2];
+          }
+          addedSupplementary[supplementaryCount++] = codePoint;
+          composed[i++] = c;
+          composed[i++] = characters[j];
+        }
+      } else if (!acceptChar(c)) {
+        int word = c >>> 6;
+        long bit = 1L << c;
+        if (added == null) {
+          added = new long[(Character.MAX_VALUE + 1) >>> 6];
+        }
+        if ((added[word] & bit) == 0) {
+          added[word] |= bit;
+          composed[i++] = c;
+        }
       }
     }
     if (i == length) {
@@ -70,6 +243,16 @@ public class ListCharFilter extends AbstractCharFilter {
     return new ListCharFilter(new String(composed, 0, i));
   }
 
+  private static boolean contains(int[] codePoints, int size, int codePoint) {
+
+    for (int i = 0; i < size; i++) {
+      if (codePoints[i] == codePoint) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * @param filter the additional {@link ListCharFilter} to {@link #join(char...) join}.
    * @return a new {@link ListCharFilter} that {@link #accept(int) accepts} both the characters from {@code this} as
@@ -77,15 +260,28 @@ public class ListCharFilter extends AbstractCharFilter {
    */
   public ListCharFilter join(ListCharFilter filter) {
 
-    return join(filter.chars.toCharArray());
+    if (filter == this) {
+      return this;
+    }
+    int length = filter.chars.length();
+    char[] characters = new char[length];
+    filter.chars.getChars(0, length, characters, 0);
+    return join(characters, length);
   }
 
   @Override
   public CharFilter compose(CharFilter filter) {
 
-    if (filter instanceof ListCharFilter) {
+    if (filter instanceof CompiledCharFilter compiled) {
+      return CompiledCharFilter.union(this, compiled);
+    } else if (filter instanceof ListCharFilter) {
       return join((ListCharFilter) filter);
     }
+    int[] ranges = CodePointRanges.of(filter);
+    if (ranges != null) {
+      int[] union = CodePointRanges.union(CodePointRanges.of(this), ranges);
+      return new RangeSetCharFilter(union, getDescription() + filter.getDescription());
+    }
     return super.compose(filter);
   }
 
@@ -97,6 +293,22 @@ public class ListCharFilter extends AbstractCharFilter {
     return this.chars;
   }
 
+  /**
+   * @return the bitmap of the {@link #accept(int) accepted} BMP characters.
+   */
+  long[] getBmp() {
+
+    return this.bmp;
+  }
+
+  /**
+   * @return the sorted array of the {@link #accept(int) accepted} supplementary code-points.
+   */
+  int[] getSupplementary() {
+
+    return this.supplementary;
+  }
+
   @Override
   protected String computeDescription() {
 
@@ -36,6 +36,22 @@ public class NegatedCharFilter extends AbstractCharFilter {
     return this.filter;
   }
 
+  @Override
+  public CharFilter compose(CharFilter filter) {
+
+    int[] ranges = CodePointRanges.of(this);
+    if (ranges != null) {
+      if (filter instanceof CompiledCharFilter compiled) {
+        return CompiledCharFilter.union(this, compiled);
+      }
+      int[] other = CodePointRanges.of(filter);
+      if (other != null) {
+        return new RangeSetCharFilter(CodePointRanges.union(ranges, other), getDescription() + filter.getDescription());
+      }
+    }
+    return super.compose(filter);
+  }
+
   @Override
   protected String computeDescription() {
 
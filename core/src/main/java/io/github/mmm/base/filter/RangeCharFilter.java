@@ -2,6 +2,8 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package io.github.mmm.base.filter;
 
+import java.nio.CharBuffer;
+
 /**
  * {@link CharFilter} that only {@link #accept(int) accepts} characters in a range from {@link #getMin() min} to
  * {@link #getMax() max}.
@@ -48,6 +50,78 @@ public class RangeCharFilter extends AbstractCharFilter {
     return (codePoint >= this.min) && (codePoint <= this.max);
   }
 
+  @Override
+  public int indexOfAccepted(CharSequence string, int start, int end) {
+
+    if ((this.max >= Character.MIN_SURROGATE) || (string instanceof CharBuffer)) {
+      return super.indexOfAccepted(string, start, end);
+    }
+    for (int i = start; i < end; i++) {
+      char c = string.charAt(i);
+      if ((c >= this.min) && (c <= this.max)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOfAccepted(char[] chars, int start, int end) {
+
+    if (this.max >= Character.MIN_SURROGATE) {
+      return super.indexOfAccepted(chars, start, end);
+    }
+    for (int i = start; i < end; i++) {
+      char c = chars[i];
+      if ((c >= this.min) && (c <= this.max)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOfAccepted(byte[] latin1, int start, int end) {
+
+    return Latin1Scanner.indexOf(latin1, start, end, this.min, this.max, true);
+  }
+
+  @Override
+  public int indexOfRejected(CharSequence string, int start, int end) {
+
+    if ((this.max >= Character.MIN_SURROGATE) || (string instanceof CharBuffer)) {
+      return super.indexOfRejected(string, start, end);
+    }
+    for (int i = start; i < end; i++) {
+      char c = string.charAt(i);
+      if ((c < this.min) || (c > this.max)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOfRejected(char[] chars, int start, int end) {
+
+    if (this.max >= Character.MIN_SURROGATE) {
+      return super.indexOfRejected(chars, start, end);
+    }
+    for (int i = start; i < end; i++) {
+      char c = chars[i];
+      if ((c < this.min) || (c > this.max)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOfRejected(byte[] latin1, int start, int end) {
+
+    return Latin1Scanner.indexOf(latin1, start, end, this.min, this.max, false);
+  }
+
   /**
    * @return the minimum {@link #accept(int) accepted} character.
    */
@@ -67,7 +141,9 @@ public class RangeCharFilter extends AbstractCharFilter {
   @Override
   public CharFilter compose(CharFilter filter) {
 
-    if (filter instanceof RangeCharFilter) {
+    if (filter instanceof CompiledCharFilter compiled) {
+      return CompiledCharFilter.union(this, compiled);
+    } else if (filter instanceof RangeCharFilter) {
       RangeCharFilter range = (RangeCharFilter) filter;
       int newMin = this.min;
       if (range.min < newMin) {
@@ -89,7 +165,19 @@ public class RangeCharFilter extends AbstractCharFilter {
         return new RangeCharFilter(newMin, newMax);
       }
     }
+    int[] ranges = CodePointRanges.of(filter);
+    if (ranges != null) {
+      int[] union = CodePointRanges.union(new int[] { this.min, this.max }, ranges);
+      return new RangeSetCharFilter(union, getDescription() + filter.getDescription());
+    }
     return super.compose(filter);
   }
 
+  @Override
+  public CharFilter negate() {
+
+    int[] complement = CodePointRanges.complement(new int[] { this.min, this.max });
+    return new RangeSetCharFilter(complement, "!" + getDescription());
+  }
+
 }
@@ -0,0 +1,137 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.filter;
+
+import java.util.Objects;
+
+/**
+ * {@link CharFilter} that {@link #accept(int) accepts} characters from a set of ranges. The ranges are kept sorted and
+ * coalesced so {@link #accept(int)} is a binary search. {@link #compose(CharFilter) Composition} with
+ * {@link RangeCharFilter}, {@link ListCharFilter}, {@link NegatedCharFilter negations} of those or other
+ * {@link RangeSetCharFilter}s results in a single normalized {@link RangeSetCharFilter} instead of a chain of filters.
+ *
+ * @since 1.0.0
+ */
+public class RangeSetCharFilter extends AbstractCharFilter {
+
+  private final int[] ranges;
+
+  /**
+   * The constructor.
+   *
+   * @param ranges the normalized ranges.
+   * @param description the {@link #getDescription() description} or {@code null} to compute.
+   */
+  RangeSetCharFilter(int[] ranges, String description) {
+
+    super(description);
+    this.ranges = ranges;
+  }
+
+  @Override
+  public boolean accept(int codePoint) {
+
+    return CodePointRanges.contains(this.ranges, codePoint);
+  }
+
+  @Override
+  public CharFilter compose(CharFilter filter) {
+
+    if (filter instanceof CompiledCharFilter compiled) {
+      return CompiledCharFilter.union(this, compiled);
+    }
+    int[] other = CodePointRanges.of(filter);
+    if (other != null) {
+      int[] union = CodePointRanges.union(this.ranges, other);
+      if (union == this.ranges) {
+        return this;
+      }
+      return new RangeSetCharFilter(union, getDescription() + filter.getDescription());
+    }
+    return super.compose(filter);
+  }
+
+  @Override
+  public CharFilter negate() {
+
+    int[] complement = CodePointRanges.complement(this.ranges);
+    return new RangeSetCharFilter(complement, "!" + getDescription());
+  }
+
+  /**
+   * @return the number of ranges.
+   */
+  public int getRangeCount() {
+
+    return this.ranges.length >> 1;
+  }
+
+  /**
+   * @param index the index of the range in the range from {@code 0} to <code>{@link #getRangeCount()} - 1</code>.
+   * @return the minimum {@link #accept(int) accepted} character of the specified range.
+   */
+  public int getMin(int index) {
+
+    return this.ranges[index << 1];
+  }
+
+  /**
+   * @param index the index of the range in the range from {@code 0} to <code>{@link #getRangeCount()} - 1</code>.
+   * @return the maximum {@link #accept(int) accepted} character of the specified range.
+   */
+  public int getMax(int index) {
+
+    return this.ranges[(index << 1) + 1];
+  }
+
+  /**
+   * @return the normalized ranges. Must not be modified.
+   */
+  int[] getRanges() {
+
+    return this.ranges;
+  }
+
+  @Override
+  protected String computeDescription() {
+
+    StringBuilder sb = new StringBuilder(this.ranges.length * 4);
+    for (int i = 0; i < this.ranges.length; i += 2) {
+      sb.append('[');
+      CharFilter.append(this.ranges[i], sb);
+      sb.append('-');
+      CharFilter.append(this.ranges[i + 1], sb);
+      sb.append(']');
+    }
+    return sb.toString();
+  }
+
+  /**
+   * @param ranges the {@code [min, max]} pairs of the ranges to {@link #accept(int) accept}. May be given in any order
+   *        and may overlap.
+   * @return the {@link RangeSetCharFilter} {@link #accept(int) accepting} all characters from the given ranges.
+   */
+  public static RangeSetCharFilter of(int... ranges) {
+
+    Objects.requireNonNull(ranges, "ranges");
+    return new RangeSetCharFilter(CodePointRanges.normalize(ranges), null);
+  }
+
+  /**
+   * @param filter the {@link CharFilter} to convert.
+   * @return the {@link RangeSetCharFilter} that {@link #accept(int) accepts} exactly the same characters as the given
+   *         {@link CharFilter} or {@code null} if it can not be converted (e.g. because it is a lambda).
+   */
+  public static RangeSetCharFilter of(CharFilter filter) {
+
+    if (filter instanceof RangeSetCharFilter rangeSet) {
+      return rangeSet;
+    }
+    int[] ranges = CodePointRanges.of(filter);
+    if (ranges == null) {
+      return null;
+    }
+    return new RangeSetCharFilter(ranges, filter.getDescription());
+  }
+
+}
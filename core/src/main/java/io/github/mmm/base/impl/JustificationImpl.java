@@ -3,12 +3,15 @@
 package io.github.mmm.base.impl;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.github.mmm.base.exception.RuntimeIoException;
 import io.github.mmm.base.justification.Justification;
 
 /**
- * Implementation of a {@link Justification}.
+ * Implementation of a {@link Justification}. It is immutable and thread-safe so instances are cached via
+ * {@link #of(String)}.
  */
 public class JustificationImpl implements Justification {
 
@@ -27,6 +30,14 @@ public class JustificationImpl implements Justification {
 
   private static final char ALIGN_CENTER = '~';
 
+  /** The maximum number of {@link #fillers} to precompute. */
+  private static final int MAX_FILLERS = 256;
+
+  /** The maximum number of instances to cache. */
+  private static final int MAX_CACHE_SIZE = 1024;
+
+  private static final Map<String, JustificationImpl> CACHE = new ConcurrentHashMap<>();
+
   /** The alignment. */
   private final char alignment;
 
@@ -45,6 +56,11 @@ public class JustificationImpl implements Justification {
    */
   private final char mode;
 
+  /**
+   * The precomputed run of {@link #filler} characters to append filler runs as block.
+   */
+  private final String fillers;
+
   /**
    * The constructor.
    *
@@ -78,7 +94,8 @@ public class JustificationImpl implements Justification {
         illegalFormat(format);
       }
     }
-    this.width = Integer.parseInt(format.substring(2, endIndex));
+    this.width = Integer.parseInt(format, 2, endIndex, 10);
+    this.fillers = Character.toString(this.filler).repeat(Math.min(this.width, MAX_FILLERS));
   }
 
   private RuntimeException illegalFormat(String format) {
@@ -89,7 +106,7 @@ public class JustificationImpl implements Justification {
   @Override
   public String justify(CharSequence value) {
 
-    StringBuilder sb = new StringBuilder();
+    StringBuilder sb = new StringBuilder(Math.max(this.width, value.length()));
     justify(value, sb);
     return sb.toString();
   }
@@ -117,22 +134,47 @@ public class JustificationImpl implements Justification {
             throw new IllegalStateException("" + this.alignment);
         }
       }
-      for (int i = 0; i < leftSpace; i++) {
-        target.append(this.filler);
-      }
+      appendFillers(target, leftSpace);
       if ((space < 0) && (this.mode == MODE_TRUNCATE)) {
         target.append(value.subSequence(0, this.width));
       } else {
         target.append(value);
       }
-      for (int i = 0; i < rightSpace; i++) {
-        target.append(this.filler);
-      }
+      appendFillers(target, rightSpace);
     } catch (IOException e) {
       throw new RuntimeIoException(e);
     }
   }
 
+  private void appendFillers(Appendable target, int count) throws IOException {
+
+    int rest = count;
+    while (rest > 0) {
+      int length = Math.min(rest, this.fillers.length());
+      target.append(this.fillers, 0, length);
+      rest -= length;
+    }
+  }
+
+  /**
+   * @param format the format as specified in {@link Justification#of(String)}.
+   * @return the cached {@link JustificationImpl} for the given {@code format}.
+   */
+  public static JustificationImpl of(String format) {
+
+    JustificationImpl justification = CACHE.get(format);
+    if (justification == null) {
+      justification = new JustificationImpl(format);
+      if (CACHE.size() < MAX_CACHE_SIZE) {
+        JustificationImpl existing = CACHE.putIfAbsent(format, justification);
+        if (existing != null) {
+          justification = existing;
+        }
+      }
+    }
+    return justification;
+  }
+
   @Override
   public String toString() {
 
@@ -140,6 +182,9 @@ public class JustificationImpl implements Justification {
     sb.append(this.filler);
     sb.append(this.alignment);
     sb.append(this.width);
+    if (this.mode == MODE_TRUNCATE) {
+      sb.append(MODE_TRUNCATE);
+    }
     return sb.toString();
   }
 }
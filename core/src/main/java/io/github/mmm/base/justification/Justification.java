@@ -104,11 +104,12 @@ public interface Justification {
    * </table>
    *
    * @param format is the format as specified above.
-   * @return the parsed {@link Justification}
+   * @return the parsed {@link Justification}. Parsed instances are immutable, thread-safe and cached so calling this
+   *         method repeatedly with the same {@code format} is cheap.
    */
   public static Justification of(String format) {
 
-    return new JustificationImpl(format);
+    return JustificationImpl.of(format);
   }
 
 }
@@ -0,0 +1,246 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.justification;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Objects;
+
+import io.github.mmm.base.exception.RuntimeIoException;
+
+/**
+ * Writes rows of a table to a {@link Writer} where each cell is {@link Justification#justify(CharSequence, Appendable)
+ * justified} by the {@link Justification} of its column. The rows are streamed through a reusable {@code char} buffer
+ * so no {@link String} or {@link StringBuilder} is created per cell or row.
+ *
+ * <pre>
+ * List&lt;Justification&gt; columns = List.of(Justification.of(" -10"), Justification.of("0+6"));
+ * try (JustifiedTableWriter table = new JustifiedTableWriter(writer, columns)) {
+ *   table.writeRow("Apples", "42");
+ *   table.writeRow("Oranges", "1337");
+ * }
+ * </pre>
+ *
+ * @since 1.0.0
+ */
+public class JustifiedTableWriter implements Flushable, Closeable {
+
+  /** The default capacity of the buffer. */
+  private static final int DEFAULT_CAPACITY = 8192;
+
+  private final Writer writer;
+
+  private final Justification[] columns;
+
+  private final String columnSeparator;
+
+  private final String lineSeparator;
+
+  private final Buffer buffer;
+
+  /**
+   * The constructor.
+   *
+   * @param writer the {@link Writer} to write the table to.
+   * @param columns the {@link Justification}s of the columns.
+   */
+  public JustifiedTableWriter(Writer writer, List<Justification> columns) {
+
+    this(writer, columns, " ", "\n");
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param writer the {@link Writer} to write the table to.
+   * @param columns the {@link Justification}s of the columns.
+   * @param columnSeparator the {@link String} to write between two cells of a row.
+   * @param lineSeparator the {@link String} to write after each row.
+   */
+  public JustifiedTableWriter(Writer writer, List<Justification> columns, String columnSeparator,
+      String lineSeparator) {
+
+    super();
+    Objects.requireNonNull(writer, "writer");
+    Objects.requireNonNull(columnSeparator, "columnSeparator");
+    Objects.requireNonNull(lineSeparator, "lineSeparator");
+    this.writer = writer;
+    this.columns = columns.toArray(new Justification[columns.size()]);
+    if (this.columns.length == 0) {
+      throw new IllegalArgumentException("At least one column is required.");
+    }
+    this.columnSeparator = columnSeparator;
+    this.lineSeparator = lineSeparator;
+    this.buffer = new Buffer(writer, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * @return the number of columns.
+   */
+  public int getColumnCount() {
+
+    return this.columns.length;
+  }
+
+  /**
+   * @param cells the values of the cells to {@link Justification#justify(CharSequence, Appendable) justify} and write
+   *        as row. If less cells than {@link #getColumnCount() columns} are given, the missing cells are treated as
+   *        empty. {@code null} values are also treated as empty.
+   * @return this instance for fluent API calls.
+   */
+  public JustifiedTableWriter writeRow(CharSequence... cells) {
+
+    int length = cells.length;
+    checkCells(length);
+    try {
+      for (int i = 0; i < this.columns.length; i++) {
+        CharSequence cell = null;
+        if (i < length) {
+          cell = cells[i];
+        }
+        writeCell(i, cell);
+      }
+      this.buffer.append(this.lineSeparator);
+    } catch (IOException e) {
+      throw new RuntimeIoException(e);
+    }
+    return this;
+  }
+
+  /**
+   * @param cells the values of the cells to {@link Justification#justify(CharSequence, Appendable) justify} and write
+   *        as row.
+   * @return this instance for fluent API calls.
+   * @see #writeRow(CharSequence...)
+   */
+  public JustifiedTableWriter writeRow(List<? extends CharSequence> cells) {
+
+    int length = cells.size();
+    checkCells(length);
+    try {
+      for (int i = 0; i < this.columns.length; i++) {
+        CharSequence cell = null;
+        if (i < length) {
+          cell = cells.get(i);
+        }
+        writeCell(i, cell);
+      }
+      this.buffer.append(this.lineSeparator);
+    } catch (IOException e) {
+      throw new RuntimeIoException(e);
+    }
+    return this;
+  }
+
+  private void checkCells(int length) {
+
+    if (length > this.columns.length) {
+      throw new IllegalArgumentException(
+          "Row has " + length + " cells but table has only " + this.columns.length + " columns.");
+    }
+  }
+
+  private void writeCell(int column, CharSequence cell) throws IOException {
+
+    if (column > 0) {
+      this.buffer.append(this.columnSeparator);
+    }
+    if (cell == null) {
+      cell = "";
+    }
+    this.columns[column].justify(cell, this.buffer);
+  }
+
+  @Override
+  public void flush() {
+
+    try {
+      this.buffer.flush();
+      this.writer.flush();
+    } catch (IOException e) {
+      throw new RuntimeIoException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+
+    try {
+      this.buffer.flush();
+      this.writer.close();
+    } catch (IOException e) {
+      throw new RuntimeIoException(e);
+    }
+  }
+
+  /**
+   * {@link Appendable} on a reusable {@code char} buffer that is written to the {@link Writer} when full.
+   */
+  private static final class Buffer implements Appendable {
+
+    private final Writer writer;
+
+    private final char[] chars;
+
+    private int length;
+
+    private Buffer(Writer writer, int capacity) {
+
+      super();
+      this.writer = writer;
+      this.chars = new char[capacity];
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+
+      return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+
+      int i = start;
+      while (i < end) {
+        if (this.length == this.chars.length) {
+          flush();
+        }
+        int count = Math.min(end - i, this.chars.length - this.length);
+        if (csq instanceof String string) {
+          string.getChars(i, i + count, this.chars, this.length);
+        } else if (csq instanceof StringBuilder sb) {
+          sb.getChars(i, i + count, this.chars, this.length);
+        } else {
+          for (int j = 0; j < count; j++) {
+            this.chars[this.length + j] = csq.charAt(i + j);
+          }
+        }
+        this.length += count;
+        i += count;
+      }
+      return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+
+      if (this.length == this.chars.length) {
+        flush();
+      }
+      this.chars[this.length++] = c;
+      return this;
+    }
+
+    private void flush() throws IOException {
+
+      if (this.length > 0) {
+        this.writer.write(this.chars, 0, this.length);
+        this.length = 0;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,458 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.number;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.Objects;
+
+/**
+ * Parses numbers directly from ASCII (or UTF-8) encoded bytes in a {@code byte} array, a {@link ByteBuffer}, or a
+ * {@link MemorySegment} without decoding them to a {@link String}. Runs of digits are validated and converted eight at
+ * a time from a single 64-bit word (SWAR). <br>
+ * Parsing starts at the given offset and stops at the first byte that does not belong to the number so callers can
+ * continue scanning after it. The {@link ParsePosition} receives the {@link ParsePosition#getIndex() index} after the
+ * number or the {@link ParsePosition#getErrorIndex() error index} if no valid number was found (in which case
+ * {@code 0} is returned). On success the error index is reset to {@code -1} so the same {@link ParsePosition} can be
+ * reused for subsequent numbers. If no {@link ParsePosition} is given, the entire range has to be a valid number,
+ * otherwise a {@link NumberFormatException} is thrown.
+ *
+ * <pre>
+ * ParsePosition position = new ParsePosition(0);
+ * long id = AsciiNumberParser.parseLong(bytes, offset, length, position);
+ * if (position.getErrorIndex() &lt; 0) {
+ *   offset = position.getIndex(); // continue after the number
+ * }
+ * </pre>
+ *
+ * @see LongParser
+ * @since 1.0.0
+ */
+public final class AsciiNumberParser {
+
+  private static final ValueLayout.OfLong WORD = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+  /** Maximum number of significant digits that always fit into an unsigned {@code long}. */
+  private static final int MAX_DIGITS = 19;
+
+  /** Maximum number of significant digits of the {@code double} fast-path. */
+  private static final int MAX_FAST_DIGITS = 15;
+
+  /** Maximum absolute decimal exponent of the {@code double} fast-path. */
+  private static final int MAX_FAST_EXPONENT = 22;
+
+  private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+  1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+  private static final long[] LONG_POWERS_OF_TEN = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L,
+  100000000L };
+
+  private AsciiNumberParser() {
+
+  }
+
+  /**
+   * @param bytes the array with the ASCII characters.
+   * @param offset the index of the first byte to parse.
+   * @param length the maximum number of bytes to parse.
+   * @param position the {@link ParsePosition} that receives the absolute index after the parsed number or the error
+   *        index. May be {@code null} to require the entire range to be a number.
+   * @return the parsed {@code long} value (an optional sign followed by decimal digits) or {@code 0} in case of an
+   *         error.
+   * @throws NumberFormatException if {@code position} is {@code null} and the range is not a valid {@code long}.
+   */
+  public static long parseLong(byte[] bytes, int offset, int length, ParsePosition position) {
+
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    return parseLong(MemorySegment.ofArray(bytes), offset, offset + length, offset, position);
+  }
+
+  /**
+   * @param buffer the {@link ByteBuffer} with the ASCII characters. Its position is not modified.
+   * @param offset the absolute index of the first byte to parse.
+   * @param length the maximum number of bytes to parse.
+   * @param position the {@link ParsePosition} that receives the absolute index after the parsed number or the error
+   *        index. May be {@code null} to require the entire range to be a number.
+   * @return the parsed {@code long} value or {@code 0} in case of an error.
+   * @throws NumberFormatException if {@code position} is {@code null} and the range is not a valid {@code long}.
+   * @see #parseLong(byte[], int, int, ParsePosition)
+   */
+  public static long parseLong(ByteBuffer buffer, int offset, int length, ParsePosition position) {
+
+    MemorySegment segment = MemorySegment.ofBuffer(buffer.slice(offset, length));
+    return parseLong(segment, 0, length, offset, position);
+  }
+
+  /**
+   * @param segment the {@link MemorySegment} with the ASCII characters.
+   * @param offset the offset of the first byte to parse.
+   * @param length the maximum number of bytes to parse.
+   * @param position the {@link ParsePosition} that receives the index after the parsed number or the error index
+   *        <b>relative</b> to the given {@code offset} (as {@link MemorySegment} offsets may exceed {@code int}). May
+   *        be {@code null} to require the entire range to be a number.
+   * @return the parsed {@code long} value or {@code 0} in case of an error.
+   * @throws NumberFormatException if {@code position} is {@code null} and the range is not a valid {@code long}.
+   * @see #parseLong(byte[], int, int, ParsePosition)
+   */
+  public static long parseLong(MemorySegment segment, long offset, long length, ParsePosition position) {
+
+    Objects.checkFromIndexSize(offset, length, segment.byteSize());
+    return parseLong(segment, offset, offset + length, 0, position);
+  }
+
+  /**
+   * @param bytes the array with the ASCII characters.
+   * @param offset the index of the first byte to parse.
+   * @param length the maximum number of bytes to parse.
+   * @param position the {@link ParsePosition} that receives the absolute index after the parsed number or the error
+   *        index. May be {@code null} to require the entire range to be a number.
+   * @return the parsed {@code int} value or {@code 0} in case of an error.
+   * @throws NumberFormatException if {@code position} is {@code null} and the range is not a valid {@code int}.
+   * @see #parseLong(byte[], int, int, ParsePosition)
+   */
+  public static int parseInt(byte[] bytes, int offset, int length, ParsePosition position) {
+
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    return parseInt(MemorySegment.ofArray(bytes), offset, offset + length, offset, position);
+  }
+
+  /**
+   * @param buffer the {@link ByteBuffer} with the ASCII characters. Its position is not modified.
+   * @param offset the absolute index of the first byte to parse.
+   * @param length the maximum number of bytes to parse.
+   * @param position the {@link ParsePosition} that receives the absolute index after the parsed number or the error
+   *        index. May be {@code null} to require the entire range to be a number.
+   * @return the parsed {@code int} value or {@code 0} in case of an error.
+   * @throws NumberFormatException if {@code position} is {@code null} and the range is not a valid {@code int}.
+   * @see #parseLong(byte[], int, int, ParsePosition)
+   */
+  public static int parseInt(ByteBuffer buffer, int offset, int length, ParsePosition position) {
+
+    MemorySegment segment = MemorySegment.ofBuffer(buffer.slice(offset, length));
+    return parseInt(segment, 0, length, offset, position);
+  }
+
+  /**
+   * @param segment the {@link MemorySegment} with the ASCII characters.
+   * @param offset the offset of the first byte to parse.
+   * @param length the maximum number of bytes to parse.
+   * @param position the {@link ParsePosition} that receives the index after the parsed number or the error index
+   *        <b>relative</b> to the given {@code offset}. May be {@code null} to require the entire range to be a
+   *        number.
+   * @return the parsed {@code int} value or {@code 0} in case of an error.
+   * @throws NumberFormatException if {@code position} is {@code null} and the range is not a valid {@code int}.
+   * @see #parseLong(MemorySegment, long, long, ParsePosition)
+   */
+  public static int parseInt(MemorySegment segment, long offset, long length, ParsePosition position) {
+
+    Objects.checkFromIndexSize(offset, length, segment.byteSize());
+    return parseInt(segment, offset, offset + length, 0, position);
+  }
+
+  /**
+   * @param bytes the array with the ASCII characters.
+   * @param offset the index of the first byte to parse.
+   * @param length the maximum number of bytes to parse.
+   * @param position the {@link ParsePosition} that receives the absolute index after the parsed number or the error
+   *        index. May be {@code null} to require the entire range to be a number.
+   * @return the parsed {@code double} value (an optional sign, decimal digits with an optional decimal point and an
+   *         optional exponent like {@code -12.5e-3}) or {@code 0} in case of an error. {@code NaN} and
+   *         {@code Infinity} are not supported.
+   * @throws NumberFormatException if {@code position} is {@code null} and the range is not a valid {@code double}.
+   */
+  public static double parseDouble(byte[] bytes, int offset, int length, ParsePosition position) {
+
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    return parseDouble(MemorySegment.ofArray(bytes), offset, offset + length, offset, position);
+  }
+
+  /**
+   * @param buffer the {@link ByteBuffer} with the ASCII characters. Its position is not modified.
+   * @param offset the absolute index of the first byte to parse.
+   * @param length the maximum number of bytes to parse.
+   * @param position the {@link ParsePosition} that receives the absolute index after the parsed number or the error
+   *        index. May be {@code null} to require the entire range to be a number.
+   * @return the parsed {@code double} value or {@code 0} in case of an error.
+   * @throws NumberFormatException if {@code position} is {@code null} and the range is not a valid {@code double}.
+   * @see #parseDouble(byte[], int, int, ParsePosition)
+   */
+  public static double parseDouble(ByteBuffer buffer, int offset, int length, ParsePosition position) {
+
+    MemorySegment segment = MemorySegment.ofBuffer(buffer.slice(offset, length));
+    return parseDouble(segment, 0, length, offset, position);
+  }
+
+  /**
+   * @param segment the {@link MemorySegment} with the ASCII characters.
+   * @param offset the offset of the first byte to parse.
+   * @param length the maximum number of bytes to parse.
+   * @param position the {@link ParsePosition} that receives the index after the parsed number or the error index
+   *        <b>relative</b> to the given {@code offset}. May be {@code null} to require the entire range to be a
+   *        number.
+   * @return the parsed {@code double} value or {@code 0} in case of an error.
+   * @throws NumberFormatException if {@code position} is {@code null} and the range is not a valid {@code double}.
+   * @see #parseDouble(byte[], int, int, ParsePosition)
+   */
+  public static double parseDouble(MemorySegment segment, long offset, long length, ParsePosition position) {
+
+    Objects.checkFromIndexSize(offset, length, segment.byteSize());
+    return parseDouble(segment, offset, offset + length, 0, position);
+  }
+
+  private static int parseInt(MemorySegment segment, long offset, long end, int base, ParsePosition position) {
+
+    return (int) parseLong(segment, offset, end, base, position, Integer.MAX_VALUE);
+  }
+
+  private static long parseLong(MemorySegment segment, long offset, long end, int base, ParsePosition position) {
+
+    return parseLong(segment, offset, end, base, position, Long.MAX_VALUE);
+  }
+
+  /**
+   * @param max the maximum value ({@link Long#MAX_VALUE} or {@link Integer#MAX_VALUE}). The minimum value is
+   *        {@code -max - 1}.
+   */
+  private static long parseLong(MemorySegment segment, long offset, long end, int base, ParsePosition position,
+      long max) {
+
+    long i = offset;
+    boolean negative = false;
+    if (i < end) {
+      byte b = get(segment, i);
+      if (b == '-') {
+        negative = true;
+        i++;
+      } else if (b == '+') {
+        i++;
+      }
+    }
+    long start = i;
+    long digitsEnd = scanDigits(segment, start, end);
+    if (digitsEnd == start) {
+      return error(segment, offset, end, i, base, position);
+    }
+    long significant = skipZeros(segment, start, digitsEnd);
+    long count = digitsEnd - significant;
+    long magnitude = 0;
+    if (count > MAX_DIGITS) {
+      return error(segment, offset, end, offset, base, position);
+    } else if (count > 0) {
+      magnitude = digits(segment, significant, digitsEnd);
+    }
+    // for Long.MAX_VALUE the negative limit overflows to 2^63 as unsigned value
+    long limit = negative ? max + 1 : max;
+    if (Long.compareUnsigned(magnitude, limit) > 0) {
+      return error(segment, offset, end, offset, base, position);
+    }
+    success(segment, offset, end, digitsEnd, base, position);
+    if (negative) {
+      return -magnitude;
+    }
+    return magnitude;
+  }
+
+  private static double parseDouble(MemorySegment segment, long offset, long end, int base,
+      ParsePosition position) {
+
+    long i = offset;
+    boolean negative = false;
+    if (i < end) {
+      byte b = get(segment, i);
+      if (b == '-') {
+        negative = true;
+        i++;
+      } else if (b == '+') {
+        i++;
+      }
+    }
+    long integerStart = i;
+    long integerEnd = scanDigits(segment, integerStart, end);
+    long fractionStart = integerEnd;
+    long fractionEnd = integerEnd;
+    if ((integerEnd < end) && (get(segment, integerEnd) == '.')) {
+      fractionStart = integerEnd + 1;
+      fractionEnd = scanDigits(segment, fractionStart, end);
+    }
+    if ((integerEnd == integerStart) && (fractionEnd == fractionStart)) {
+      return error(segment, offset, end, i, base, position);
+    }
+    long numberEnd = fractionEnd;
+    long exponent = 0;
+    boolean exponentOverflow = false;
+    if ((numberEnd < end) && ((get(segment, numberEnd) | 0x20) == 'e')) {
+      long e = numberEnd + 1;
+      boolean negativeExponent = false;
+      if (e < end) {
+        byte b = get(segment, e);
+        if (b == '-') {
+          negativeExponent = true;
+          e++;
+        } else if (b == '+') {
+          e++;
+        }
+      }
+      long exponentEnd = scanDigits(segment, e, end);
+      if (exponentEnd > e) {
+        long significant = skipZeros(segment, e, exponentEnd);
+        if (exponentEnd - significant > 9) {
+          exponentOverflow = true;
+        } else if (exponentEnd > significant) {
+          exponent = digits(segment, significant, exponentEnd);
+        }
+        if (negativeExponent) {
+          exponent = -exponent;
+        }
+        numberEnd = exponentEnd;
+      }
+    }
+    success(segment, offset, end, numberEnd, base, position);
+    if (!exponentOverflow) {
+      // fast-path if mantissa and power of ten are exact so the result is correctly rounded
+      long integerSignificant = skipZeros(segment, integerStart, integerEnd);
+      long integerDigits = integerEnd - integerSignificant;
+      long fractionDigits = fractionEnd - fractionStart;
+      if (integerDigits + fractionDigits <= MAX_FAST_DIGITS) {
+        long mantissa = 0;
+        if (integerDigits > 0) {
+          mantissa = digits(segment, integerSignificant, integerEnd);
+        }
+        if (fractionDigits > 0) {
+          mantissa = mantissa * pow10((int) fractionDigits) + digits(segment, fractionStart, fractionEnd);
+        }
+        long scale = exponent - fractionDigits;
+        double result = mantissa;
+        if (mantissa == 0) {
+          return negative ? -0.0 : 0.0;
+        } else if ((scale >= -MAX_FAST_EXPONENT) && (scale <= MAX_FAST_EXPONENT)) {
+          if (scale < 0) {
+            result = result / POWERS_OF_TEN[(int) -scale];
+          } else {
+            result = result * POWERS_OF_TEN[(int) scale];
+          }
+          return negative ? -result : result;
+        }
+      }
+    }
+    return Double.parseDouble(toString(segment, offset, numberEnd));
+  }
+
+  private static long pow10(int digits) {
+
+    long result = 1;
+    while (digits > 8) {
+      result *= LONG_POWERS_OF_TEN[8];
+      digits -= 8;
+    }
+    return result * LONG_POWERS_OF_TEN[digits];
+  }
+
+  private static byte get(MemorySegment segment, long index) {
+
+    return segment.get(ValueLayout.JAVA_BYTE, index);
+  }
+
+  /**
+   * @param word eight bytes as little-endian {@code long}.
+   * @return {@code true} if all eight bytes are ASCII digits.
+   */
+  private static boolean isEightDigits(long word) {
+
+    // a byte b is a digit if the upper nibble of b and b + 6 is 3 (no carry can make a non digit byte pass)
+    return (((word & 0xF0F0F0F0F0F0F0F0L) | (((word + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4))
+        == 0x3333333333333333L);
+  }
+
+  /**
+   * @param word eight ASCII digits as little-endian {@code long} (first digit in the lowest byte).
+   * @return the value of the eight digits.
+   */
+  private static long eightDigits(long word) {
+
+    long value = word & 0x0F0F0F0F0F0F0F0FL;
+    value = (value * 2561) >>> 8;
+    value = ((value & 0x00FF00FF00FF00FFL) * 6553601) >>> 16;
+    return ((value & 0x0000FFFF0000FFFFL) * 42949672960001L) >>> 32;
+  }
+
+  /**
+   * @return the index after the run of ASCII digits starting at {@code start}.
+   */
+  private static long scanDigits(MemorySegment segment, long start, long end) {
+
+    long i = start;
+    while ((i + 8 <= end) && isEightDigits(segment.get(WORD, i))) {
+      i += 8;
+    }
+    while (i < end) {
+      byte b = get(segment, i);
+      if ((b < '0') || (b > '9')) {
+        break;
+      }
+      i++;
+    }
+    return i;
+  }
+
+  private static long skipZeros(MemorySegment segment, long start, long end) {
+
+    long i = start;
+    while ((i < end) && (get(segment, i) == '0')) {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * @return the unsigned value of the up to {@link #MAX_DIGITS} ASCII digits in the given range.
+   */
+  private static long digits(MemorySegment segment, long start, long end) {
+
+    long value = 0;
+    long i = start;
+    long head = (end - start) & 7;
+    long headEnd = start + head;
+    while (i < headEnd) {
+      value = value * 10 + (get(segment, i++) - '0');
+    }
+    while (i < end) {
+      value = value * 100000000L + eightDigits(segment.get(WORD, i));
+      i += 8;
+    }
+    return value;
+  }
+
+  private static void success(MemorySegment segment, long offset, long end, long index, int base,
+      ParsePosition position) {
+
+    if (position == null) {
+      if (index < end) {
+        throw new NumberFormatException("For input string: \"" + toString(segment, offset, end) + "\"");
+      }
+    } else {
+      position.setIndex(base + (int) (index - offset));
+      position.setErrorIndex(-1);
+    }
+  }
+
+  private static long error(MemorySegment segment, long offset, long end, long errorIndex, int base,
+      ParsePosition position) {
+
+    if (position == null) {
+      throw new NumberFormatException("For input string: \"" + toString(segment, offset, end) + "\"");
+    }
+    position.setErrorIndex(base + (int) (errorIndex - offset));
+    return 0;
+  }
+
+  private static String toString(MemorySegment segment, long start, long end) {
+
+    byte[] bytes = segment.asSlice(start, end - start).toArray(ValueLayout.JAVA_BYTE);
+    return new String(bytes, StandardCharsets.ISO_8859_1);
+  }
+
+}
@@ -47,12 +47,8 @@ public final class LongParser implements FromStringParser<Long> {
       }
       i++;
     }
-    try {
-      return Long.valueOf(string);
-    } catch (NumberFormatException e) {
-      // overflow/underflow, very unlikely
-      return null;
-    }
+    // null in case of overflow/underflow
+    return NumberType.LONG.tryParse(string, 0, length, 10);
   }
 
   /**
@@ -2,10 +2,21 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package io.github.mmm.base.number;
 
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.text.ParsePosition;
 import java.util.Objects;
 
 /**
- * Helper class to compose or decompose numbers from/to bytes.
+ * Helper class to compose or decompose numbers from/to bytes. Besides composing numbers from single bytes it can read
+ * and write numbers in {@link ByteOrder#BIG_ENDIAN big-endian} or {@link ByteOrder#LITTLE_ENDIAN little-endian} order
+ * from/to a {@code byte} array, a {@link ByteBuffer}, or a {@link MemorySegment} loading or storing a whole word at
+ * once. Further it supports the variable length encoding LEB128 (e.g. {@link #writeVarLong(long, byte[], int)}) and
+ * zig-zag encoding (e.g. {@link #encodeZigZag(long)}) for signed values.
  */
 public final class NumberCodec {
 
@@ -15,6 +26,45 @@ public final class NumberCodec {
 
   private static final byte ZERO = 0;
 
+  private static final VarHandle U2_BE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+
+  private static final VarHandle U2_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private static final VarHandle U4_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+  private static final VarHandle U4_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private static final VarHandle U8_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+  private static final VarHandle U8_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private static final ValueLayout.OfShort U2_LAYOUT_BE = ValueLayout.JAVA_SHORT_UNALIGNED
+      .withOrder(ByteOrder.BIG_ENDIAN);
+
+  private static final ValueLayout.OfShort U2_LAYOUT_LE = ValueLayout.JAVA_SHORT_UNALIGNED
+      .withOrder(ByteOrder.LITTLE_ENDIAN);
+
+  private static final ValueLayout.OfInt U4_LAYOUT_BE = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+  private static final ValueLayout.OfInt U4_LAYOUT_LE = ValueLayout.JAVA_INT_UNALIGNED
+      .withOrder(ByteOrder.LITTLE_ENDIAN);
+
+  private static final ValueLayout.OfLong U8_LAYOUT_BE = ValueLayout.JAVA_LONG_UNALIGNED
+      .withOrder(ByteOrder.BIG_ENDIAN);
+
+  private static final ValueLayout.OfLong U8_LAYOUT_LE = ValueLayout.JAVA_LONG_UNALIGNED
+      .withOrder(ByteOrder.LITTLE_ENDIAN);
+
+  /** Maximum number of bytes of a LEB128 encoded {@code int}. */
+  public static final int MAX_VAR_INT_SIZE = 5;
+
+  /** Maximum number of bytes of a LEB128 encoded {@code long}. */
+  public static final int MAX_VAR_LONG_SIZE = 10;
+
+  private static final int VAR_MASK = 0x7f;
+
+  private static final int VAR_CONTINUE = 0x80;
+
   private NumberCodec() {
 
   }
@@ -46,7 +96,7 @@ public final class NumberCodec {
     if (len == 1) {
       return bytes[offset] & BYTE_MASK;
     }
-    return readU2(bytes[offset], bytes[offset + 1]);
+    return ((short) U2_BE.get(bytes, offset)) & 0xffff;
   }
 
   /**
@@ -80,7 +130,7 @@ public final class NumberCodec {
     } else if (len == 3) {
       return readU4(ZERO, bytes[offset], bytes[offset + 1], bytes[offset + 2]);
     }
-    return readU4(bytes[offset], bytes[offset + 1], bytes[offset + 2], bytes[offset + 3]);
+    return (int) U4_BE.get(bytes, offset);
   }
 
   /**
@@ -129,8 +179,1074 @@ public final class NumberCodec {
       return readU8(ZERO, bytes[offset], bytes[offset + 1], bytes[offset + 2], bytes[offset + 3], bytes[offset + 4],
           bytes[offset + 5], bytes[offset + 6]);
     }
-    return readU8(bytes[offset], bytes[offset + 1], bytes[offset + 2], bytes[offset + 3], bytes[offset + 4],
-        bytes[offset + 5], bytes[offset + 6], bytes[offset + 7]);
+    return (long) U8_BE.get(bytes, offset);
+  }
+
+  private static boolean isBigEndian(ByteOrder order) {
+
+    if (order == ByteOrder.BIG_ENDIAN) {
+      return true;
+    } else if (order == ByteOrder.LITTLE_ENDIAN) {
+      return false;
+    }
+    throw new NullPointerException("order");
+  }
+
+  /**
+   * @param bytes an array of bytes.
+   * @param offset the offset where to start reading from the given array.
+   * @param order the {@link ByteOrder}.
+   * @return the u2 number read from the two bytes at the given {@code offset}.
+   * @throws IndexOutOfBoundsException if less than two bytes are available.
+   */
+  public static int readU2(byte[] bytes, int offset, ByteOrder order) {
+
+    if (isBigEndian(order)) {
+      return ((short) U2_BE.get(bytes, offset)) & 0xffff;
+    }
+    return ((short) U2_LE.get(bytes, offset)) & 0xffff;
+  }
+
+  /**
+   * @param bytes an array of bytes.
+   * @param offset the offset where to start reading from the given array.
+   * @param order the {@link ByteOrder}.
+   * @return the u4 number read from the four bytes at the given {@code offset}.
+   * @throws IndexOutOfBoundsException if less than four bytes are available.
+   */
+  public static int readU4(byte[] bytes, int offset, ByteOrder order) {
+
+    if (isBigEndian(order)) {
+      return (int) U4_BE.get(bytes, offset);
+    }
+    return (int) U4_LE.get(bytes, offset);
+  }
+
+  /**
+   * @param bytes an array of bytes.
+   * @param offset the offset where to start reading from the given array.
+   * @param order the {@link ByteOrder}.
+   * @return the u8 number read from the eight bytes at the given {@code offset}.
+   * @throws IndexOutOfBoundsException if less than eight bytes are available.
+   */
+  public static long readU8(byte[] bytes, int offset, ByteOrder order) {
+
+    if (isBigEndian(order)) {
+      return (long) U8_BE.get(bytes, offset);
+    }
+    return (long) U8_LE.get(bytes, offset);
+  }
+
+  /**
+   * @param value the u2 number to write (only the lower 16 bits are written).
+   * @param bytes an array of bytes.
+   * @param offset the offset where to start writing in the given array.
+   * @param order the {@link ByteOrder}.
+   * @return the offset after the written bytes.
+   * @throws IndexOutOfBoundsException if less than two bytes are available.
+   */
+  public static int writeU2(int value, byte[] bytes, int offset, ByteOrder order) {
+
+    if (isBigEndian(order)) {
+      U2_BE.set(bytes, offset, (short) value);
+    } else {
+      U2_LE.set(bytes, offset, (short) value);
+    }
+    return offset + 2;
+  }
+
+  /**
+   * @param value the u4 number to write.
+   * @param bytes an array of bytes.
+   * @param offset the offset where to start writing in the given array.
+   * @param order the {@link ByteOrder}.
+   * @return the offset after the written bytes.
+   * @throws IndexOutOfBoundsException if less than four bytes are available.
+   */
+  public static int writeU4(int value, byte[] bytes, int offset, ByteOrder order) {
+
+    if (isBigEndian(order)) {
+      U4_BE.set(bytes, offset, value);
+    } else {
+      U4_LE.set(bytes, offset, value);
+    }
+    return offset + 4;
+  }
+
+  /**
+   * @param value the u8 number to write.
+   * @param bytes an array of bytes.
+   * @param offset the offset where to start writing in the given array.
+   * @param order the {@link ByteOrder}.
+   * @return the offset after the written bytes.
+   * @throws IndexOutOfBoundsException if less than eight bytes are available.
+   */
+  public static int writeU8(long value, byte[] bytes, int offset, ByteOrder order) {
+
+    if (isBigEndian(order)) {
+      U8_BE.set(bytes, offset, value);
+    } else {
+      U8_LE.set(bytes, offset, value);
+    }
+    return offset + 8;
+  }
+
+  /**
+   * @param buffer the {@link ByteBuffer} to read from.
+   * @param index the absolute index where to read in the {@link ByteBuffer}. Its position is not modified.
+   * @param order the {@link ByteOrder} to use independent of the {@link ByteBuffer#order() order of the buffer}.
+   * @return the u2 number read from the two bytes at the given {@code index}.
+   */
+  public static int readU2(ByteBuffer buffer, int index, ByteOrder order) {
+
+    short s = buffer.getShort(index);
+    if (buffer.order() != order) {
+      s = Short.reverseBytes(s);
+    }
+    return s & 0xffff;
+  }
+
+  /**
+   * @param buffer the {@link ByteBuffer} to read from.
+   * @param index the absolute index where to read in the {@link ByteBuffer}. Its position is not modified.
+   * @param order the {@link ByteOrder} to use independent of the {@link ByteBuffer#order() order of the buffer}.
+   * @return the u4 number read from the four bytes at the given {@code index}.
+   */
+  public static int readU4(ByteBuffer buffer, int index, ByteOrder order) {
+
+    int i = buffer.getInt(index);
+    if (buffer.order() != order) {
+      i = Integer.reverseBytes(i);
+    }
+    return i;
+  }
+
+  /**
+   * @param buffer the {@link ByteBuffer} to read from.
+   * @param index the absolute index where to read in the {@link ByteBuffer}. Its position is not modified.
+   * @param order the {@link ByteOrder} to use independent of the {@link ByteBuffer#order() order of the buffer}.
+   * @return the u8 number read from the eight bytes at the given {@code index}.
+   */
+  public static long readU8(ByteBuffer buffer, int index, ByteOrder order) {
+
+    long l = buffer.getLong(index);
+    if (buffer.order() != order) {
+      l = Long.reverseBytes(l);
+    }
+    return l;
+  }
+
+  /**
+   * @param value the u2 number to write (only the lower 16 bits are written).
+   * @param buffer the {@link ByteBuffer} to write to.
+   * @param index the absolute index where to write in the {@link ByteBuffer}. Its position is not modified.
+   * @param order the {@link ByteOrder} to use independent of the {@link ByteBuffer#order() order of the buffer}.
+   */
+  public static void writeU2(int value, ByteBuffer buffer, int index, ByteOrder order) {
+
+    short s = (short) value;
+    if (buffer.order() != order) {
+      s = Short.reverseBytes(s);
+    }
+    buffer.putShort(index, s);
+  }
+
+  /**
+   * @param value the u4 number to write.
+   * @param buffer the {@link ByteBuffer} to write to.
+   * @param index the absolute index where to write in the {@link ByteBuffer}. Its position is not modified.
+   * @param order the {@link ByteOrder} to use independent of the {@link ByteBuffer#order() order of the buffer}.
+   */
+  public static void writeU4(int value, ByteBuffer buffer, int index, ByteOrder order) {
+
+    if (buffer.order() != order) {
+      value = Integer.reverseBytes(value);
+    }
+    buffer.putInt(index, value);
+  }
+
+  /**
+   * @param value the u8 number to write.
+   * @param buffer the {@link ByteBuffer} to write to.
+   * @param index the absolute index where to write in the {@link ByteBuffer}. Its position is not modified.
+   * @param order the {@link ByteOrder} to use independent of the {@link ByteBuffer#order() order of the buffer}.
+   */
+  public static void writeU8(long value, ByteBuffer buffer, int index, ByteOrder order) {
+
+    if (buffer.order() != order) {
+      value = Long.reverseBytes(value);
+    }
+    buffer.putLong(index, value);
+  }
+
+  /**
+   * @param segment the {@link MemorySegment} to read from.
+   * @param offset the offset in bytes where to read in the {@link MemorySegment}.
+   * @param order the {@link ByteOrder}.
+   * @return the u2 number read from the two bytes at the given {@code offset}.
+   */
+  public static int readU2(MemorySegment segment, long offset, ByteOrder order) {
+
+    if (isBigEndian(order)) {
+      return segment.get(U2_LAYOUT_BE, offset) & 0xffff;
+    }
+    return segment.get(U2_LAYOUT_LE, offset) & 0xffff;
+  }
+
+  /**
+   * @param segment the {@link MemorySegment} to read from.
+   * @param offset the offset in bytes where to read in the {@link MemorySegment}.
+   * @param order the {@link ByteOrder}.
+   * @return the u4 number read from the four bytes at the given {@code offset}.
+   */
+  public static int readU4(MemorySegment segment, long offset, ByteOrder order) {
+
+    if (isBigEndian(order)) {
+      return segment.get(U4_LAYOUT_BE, offset);
+    }
+    return segment.get(U4_LAYOUT_LE, offset);
+  }
+
+  /**
+   * @param segment the {@link MemorySegment} to read from.
+   * @param offset the offset in bytes where to read in the {@link MemorySegment}.
+   * @param order the {@link ByteOrder}.
+   * @return the u8 number read from the eight bytes at the given {@code offset}.
+   */
+  public static long readU8(MemorySegment segment, long offset, ByteOrder order) {
+
+    if (isBigEndian(order)) {
+      return segment.get(U8_LAYOUT_BE, offset);
+    }
+    return segment.get(U8_LAYOUT_LE, offset);
+  }
+
+  /**
+   * @param value the u2 number to write (only the lower 16 bits are written).
+   * @param segment the {@link MemorySegment} to write to.
+   * @param offset the offset in bytes where to write in the {@link MemorySegment}.
+   * @param order the {@link ByteOrder}.
+   */
+  public static void writeU2(int value, MemorySegment segment, long offset, ByteOrder order) {
+
+    if (isBigEndian(order)) {
+      segment.set(U2_LAYOUT_BE, offset, (short) value);
+    } else {
+      segment.set(U2_LAYOUT_LE, offset, (short) value);
+    }
+  }
+
+  /**
+   * @param value the u4 number to write.
+   * @param segment the {@link MemorySegment} to write to.
+   * @param offset the offset in bytes where to write in the {@link MemorySegment}.
+   * @param order the {@link ByteOrder}.
+   */
+  public static void writeU4(int value, MemorySegment segment, long offset, ByteOrder order) {
+
+    if (isBigEndian(order)) {
+      segment.set(U4_LAYOUT_BE, offset, value);
+    } else {
+      segment.set(U4_LAYOUT_LE, offset, value);
+    }
+  }
+
+  /**
+   * @param value the u8 number to write.
+   * @param segment the {@link MemorySegment} to write to.
+   * @param offset the offset in bytes where to write in the {@link MemorySegment}.
+   * @param order the {@link ByteOrder}.
+   */
+  public static void writeU8(long value, MemorySegment segment, long offset, ByteOrder order) {
+
+    if (isBigEndian(order)) {
+      segment.set(U8_LAYOUT_BE, offset, value);
+    } else {
+      segment.set(U8_LAYOUT_LE, offset, value);
+    }
+  }
+
+  /**
+   * @param value the signed value.
+   * @return the zig-zag encoded value that maps signed values with a small absolute value to small unsigned values
+   *         (0 to 0, -1 to 1, 1 to 2, -2 to 3, etc.) so they can be encoded efficiently as
+   *         {@link #writeVarInt(int, byte[], int) varint}.
+   */
+  public static int encodeZigZag(int value) {
+
+    return (value << 1) ^ (value >> 31);
+  }
+
+  /**
+   * @param value the zig-zag encoded value.
+   * @return the decoded signed value.
+   * @see #encodeZigZag(int)
+   */
+  public static int decodeZigZag(int value) {
+
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * @param value the signed value.
+   * @return the zig-zag encoded value.
+   * @see #encodeZigZag(int)
+   */
+  public static long encodeZigZag(long value) {
+
+    return (value << 1) ^ (value >> 63);
+  }
+
+  /**
+   * @param value the zig-zag encoded value.
+   * @return the decoded signed value.
+   * @see #encodeZigZag(long)
+   */
+  public static long decodeZigZag(long value) {
+
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * @param value the value treated as unsigned.
+   * @return the number of bytes required to LEB128 encode the given {@code value} (from 1 to
+   *         {@link #MAX_VAR_INT_SIZE}).
+   */
+  public static int sizeOfVarInt(int value) {
+
+    // (bits + 6) / 7 computed as multiplication
+    int bits = 32 - Integer.numberOfLeadingZeros(value | 1);
+    return (bits * 9 + 64) >>> 6;
+  }
+
+  /**
+   * @param value the value treated as unsigned.
+   * @return the number of bytes required to LEB128 encode the given {@code value} (from 1 to
+   *         {@link #MAX_VAR_LONG_SIZE}).
+   */
+  public static int sizeOfVarLong(long value) {
+
+    int bits = 64 - Long.numberOfLeadingZeros(value | 1);
+    return (bits * 9 + 64) >>> 6;
+  }
+
+  /**
+   * Writes the given {@code value} in unsigned LEB128 encoding (also called varint) that uses 7 bits per byte and the
+   * highest bit to indicate that more bytes follow. Use {@link #encodeZigZag(int)} before for signed values that can be
+   * negative.
+   *
+   * @param value the value treated as unsigned.
+   * @param bytes an array of bytes.
+   * @param offset the offset where to start writing in the given array.
+   * @return the offset after the written bytes.
+   */
+  public static int writeVarInt(int value, byte[] bytes, int offset) {
+
+    while ((value & ~VAR_MASK) != 0) {
+      bytes[offset++] = (byte) ((value & VAR_MASK) | VAR_CONTINUE);
+      value >>>= 7;
+    }
+    bytes[offset++] = (byte) value;
+    return offset;
+  }
+
+  /**
+   * @param value the value treated as unsigned.
+   * @param bytes an array of bytes.
+   * @param offset the offset where to start writing in the given array.
+   * @return the offset after the written bytes.
+   * @see #writeVarInt(int, byte[], int)
+   */
+  public static int writeVarLong(long value, byte[] bytes, int offset) {
+
+    while ((value & ~VAR_MASK) != 0) {
+      bytes[offset++] = (byte) ((value & VAR_MASK) | VAR_CONTINUE);
+      value >>>= 7;
+    }
+    bytes[offset++] = (byte) value;
+    return offset;
+  }
+
+  /**
+   * @param value the value treated as unsigned.
+   * @param buffer the {@link ByteBuffer} where to write at its {@link ByteBuffer#position() position} that is advanced
+   *        accordingly.
+   * @see #writeVarInt(int, byte[], int)
+   */
+  public static void writeVarInt(int value, ByteBuffer buffer) {
+
+    while ((value & ~VAR_MASK) != 0) {
+      buffer.put((byte) ((value & VAR_MASK) | VAR_CONTINUE));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  /**
+   * @param value the value treated as unsigned.
+   * @param buffer the {@link ByteBuffer} where to write at its {@link ByteBuffer#position() position} that is advanced
+   *        accordingly.
+   * @see #writeVarInt(int, byte[], int)
+   */
+  public static void writeVarLong(long value, ByteBuffer buffer) {
+
+    while ((value & ~VAR_MASK) != 0) {
+      buffer.put((byte) ((value & VAR_MASK) | VAR_CONTINUE));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  /**
+   * Reads a LEB128 encoded value. The number of bytes read is {@link #sizeOfVarInt(int) sizeOfVarInt(result)} only if
+   * the value was encoded with the minimum number of bytes (e.g. via {@link #writeVarInt(int, byte[], int)}). Use
+   * {@link #readVarInt(byte[], ParsePosition)} to continue reading after the encoded value.
+   *
+   * @param bytes an array of bytes.
+   * @param offset the offset where to start reading from the given array.
+   * @return the decoded value.
+   * @throws IllegalArgumentException if the encoded value is truncated or too long.
+   */
+  public static int readVarInt(byte[] bytes, int offset) {
+
+    return (int) readVar(bytes, offset, MAX_VAR_INT_SIZE, null);
+  }
+
+  /**
+   * @param bytes an array of bytes.
+   * @param offset the offset where to start reading from the given array.
+   * @return the decoded value.
+   * @throws IllegalArgumentException if the encoded value is truncated or too long.
+   * @see #readVarInt(byte[], int)
+   */
+  public static long readVarLong(byte[] bytes, int offset) {
+
+    return readVar(bytes, offset, MAX_VAR_LONG_SIZE, null);
+  }
+
+  /**
+   * @param bytes an array of bytes.
+   * @param position the {@link ParsePosition} with the {@link ParsePosition#getIndex() index} where to start reading
+   *        from the given array. Will be advanced to the index after the encoded value.
+   * @return the decoded value.
+   * @throws IllegalArgumentException if the encoded value is truncated or too long.
+   * @see #readVarInt(byte[], int)
+   */
+  public static int readVarInt(byte[] bytes, ParsePosition position) {
+
+    return (int) readVar(bytes, position.getIndex(), MAX_VAR_INT_SIZE, position);
+  }
+
+  /**
+   * @param bytes an array of bytes.
+   * @param position the {@link ParsePosition} with the {@link ParsePosition#getIndex() index} where to start reading
+   *        from the given array. Will be advanced to the index after the encoded value.
+   * @return the decoded value.
+   * @throws IllegalArgumentException if the encoded value is truncated or too long.
+   * @see #readVarInt(byte[], ParsePosition)
+   */
+  public static long readVarLong(byte[] bytes, ParsePosition position) {
+
+    return readVar(bytes, position.getIndex(), MAX_VAR_LONG_SIZE, position);
+  }
+
+  /**
+   * @param buffer the {@link ByteBuffer} where to read from its {@link ByteBuffer#position() position} that is
+   *        advanced accordingly.
+   * @return the decoded value.
+   * @throws IllegalArgumentException if the encoded value is truncated or too long.
+   * @see #readVarInt(byte[], int)
+   */
+  public static int readVarInt(ByteBuffer buffer) {
+
+    return (int) readVar(buffer, MAX_VAR_INT_SIZE);
+  }
+
+  /**
+   * @param buffer the {@link ByteBuffer} where to read from its {@link ByteBuffer#position() position} that is
+   *        advanced accordingly.
+   * @return the decoded value.
+   * @throws IllegalArgumentException if the encoded value is truncated or too long.
+   * @see #readVarInt(byte[], int)
+   */
+  public static long readVarLong(ByteBuffer buffer) {
+
+    return readVar(buffer, MAX_VAR_LONG_SIZE);
+  }
+
+  /**
+   * Reads a LEB128 encoded value. An {@code int} is the lower 32 bits of the result.
+   *
+   * @param bytes an array of bytes.
+   * @param offset the offset where to start reading from the given array.
+   * @param maxSize the maximum number of bytes of the encoded value.
+   * @param position the optional {@link ParsePosition} to advance to the index after the encoded value or
+   *        {@code null}.
+   * @return the decoded value.
+   */
+  private static long readVar(byte[] bytes, int offset, int maxSize, ParsePosition position) {
+
+    long result = 0;
+    int end = Math.min(bytes.length, offset + maxSize);
+    int shift = 0;
+    for (int i = offset; i < end; i++) {
+      byte b = bytes[i];
+      result |= (b & BYTE_MASK_LONG & VAR_MASK) << shift;
+      if (b >= 0) {
+        if (position != null) {
+          position.setIndex(i + 1);
+        }
+        return result;
+      }
+      shift += 7;
+    }
+    throw new IllegalArgumentException("" + offset);
+  }
+
+  /**
+   * @param buffer the {@link ByteBuffer} where to read from its {@link ByteBuffer#position() position} that is
+   *        advanced accordingly.
+   * @param maxSize the maximum number of bytes of the encoded value.
+   * @return the decoded value.
+   * @see #readVar(byte[], int, int, ParsePosition)
+   */
+  private static long readVar(ByteBuffer buffer, int maxSize) {
+
+    int position = buffer.position();
+    int end = Math.min(buffer.limit(), position + maxSize);
+    long result = 0;
+    int shift = 0;
+    for (int i = position; i < end; i++) {
+      byte b = buffer.get(i);
+      result |= (b & BYTE_MASK_LONG & VAR_MASK) << shift;
+      if (b >= 0) {
+        buffer.position(i + 1);
+        return result;
+      }
+      shift += 7;
+    }
+    throw new IllegalArgumentException("" + position);
+  }
+
+  /**
+   * @return the number of bytes for {@code count} numbers with {@code width} bytes or {@code -1} if it overflows.
+   */
+  private static int byteSize(int count, int width) {
+
+    long size = ((long) count) * width;
+    if (size > Integer.MAX_VALUE) {
+      return -1;
+    }
+    return (int) size;
+  }
+
+  /**
+   * Reads {@code count} big-endian u2 numbers.
+   *
+   * @param src the array of bytes to read from.
+   * @param offset the offset where to start reading from {@code src}.
+   * @param dst the array where to store the u2 numbers.
+   * @param dstOffset the offset where to start writing in {@code dst}.
+   * @param count the number of u2 numbers to read.
+   * @see #readU2Array(byte[], int, int[], int, int, ByteOrder)
+   */
+  public static void readU2Array(byte[] src, int offset, int[] dst, int dstOffset, int count) {
+
+    readU2Array(src, offset, dst, dstOffset, count, ByteOrder.BIG_ENDIAN);
+  }
+
+  /**
+   * @param src the array of bytes to read from.
+   * @param offset the offset where to start reading from {@code src}.
+   * @param dst the array where to store the u2 numbers.
+   * @param dstOffset the offset where to start writing in {@code dst}.
+   * @param count the number of u2 numbers to read.
+   * @param order the {@link ByteOrder}.
+   * @throws IndexOutOfBoundsException if {@code src} or {@code dst} are too small.
+   */
+  public static void readU2Array(byte[] src, int offset, int[] dst, int dstOffset, int count, ByteOrder order) {
+
+    Objects.checkFromIndexSize(offset, byteSize(count, 2), src.length);
+    Objects.checkFromIndexSize(dstOffset, count, dst.length);
+    if (isBigEndian(order)) {
+      for (int i = 0; i < count; i++) {
+        dst[dstOffset + i] = ((short) U2_BE.get(src, offset + 2 * i)) & 0xffff;
+      }
+    } else {
+      for (int i = 0; i < count; i++) {
+        dst[dstOffset + i] = ((short) U2_LE.get(src, offset + 2 * i)) & 0xffff;
+      }
+    }
+  }
+
+  /**
+   * Reads {@code count} big-endian u4 numbers.
+   *
+   * @param src the array of bytes to read from.
+   * @param offset the offset where to start reading from {@code src}.
+   * @param dst the array where to store the u4 numbers.
+   * @param dstOffset the offset where to start writing in {@code dst}.
+   * @param count the number of u4 numbers to read.
+   * @see #readU4Array(byte[], int, int[], int, int, ByteOrder)
+   */
+  public static void readU4Array(byte[] src, int offset, int[] dst, int dstOffset, int count) {
+
+    readU4Array(src, offset, dst, dstOffset, count, ByteOrder.BIG_ENDIAN);
+  }
+
+  /**
+   * @param src the array of bytes to read from.
+   * @param offset the offset where to start reading from {@code src}.
+   * @param dst the array where to store the u4 numbers.
+   * @param dstOffset the offset where to start writing in {@code dst}.
+   * @param count the number of u4 numbers to read.
+   * @param order the {@link ByteOrder}.
+   * @throws IndexOutOfBoundsException if {@code src} or {@code dst} are too small.
+   */
+  public static void readU4Array(byte[] src, int offset, int[] dst, int dstOffset, int count, ByteOrder order) {
+
+    Objects.checkFromIndexSize(offset, byteSize(count, 4), src.length);
+    Objects.checkFromIndexSize(dstOffset, count, dst.length);
+    if (isBigEndian(order)) {
+      for (int i = 0; i < count; i++) {
+        dst[dstOffset + i] = (int) U4_BE.get(src, offset + 4 * i);
+      }
+    } else {
+      for (int i = 0; i < count; i++) {
+        dst[dstOffset + i] = (int) U4_LE.get(src, offset + 4 * i);
+      }
+    }
+  }
+
+  /**
+   * Reads {@code count} big-endian u8 numbers.
+   *
+   * @param src the array of bytes to read from.
+   * @param offset the offset where to start reading from {@code src}.
+   * @param dst the array where to store the u8 numbers.
+   * @param dstOffset the offset where to start writing in {@code dst}.
+   * @param count the number of u8 numbers to read.
+   * @see #readU8Array(byte[], int, long[], int, int, ByteOrder)
+   */
+  public static void readU8Array(byte[] src, int offset, long[] dst, int dstOffset, int count) {
+
+    readU8Array(src, offset, dst, dstOffset, count, ByteOrder.BIG_ENDIAN);
+  }
+
+  /**
+   * @param src the array of bytes to read from.
+   * @param offset the offset where to start reading from {@code src}.
+   * @param dst the array where to store the u8 numbers.
+   * @param dstOffset the offset where to start writing in {@code dst}.
+   * @param count the number of u8 numbers to read.
+   * @param order the {@link ByteOrder}.
+   * @throws IndexOutOfBoundsException if {@code src} or {@code dst} are too small.
+   */
+  public static void readU8Array(byte[] src, int offset, long[] dst, int dstOffset, int count, ByteOrder order) {
+
+    Objects.checkFromIndexSize(offset, byteSize(count, 8), src.length);
+    Objects.checkFromIndexSize(dstOffset, count, dst.length);
+    if (isBigEndian(order)) {
+      for (int i = 0; i < count; i++) {
+        dst[dstOffset + i] = (long) U8_BE.get(src, offset + 8 * i);
+      }
+    } else {
+      for (int i = 0; i < count; i++) {
+        dst[dstOffset + i] = (long) U8_LE.get(src, offset + 8 * i);
+      }
+    }
+  }
+
+  /**
+   * @param src the array with the u2 numbers to write (only the lower 16 bits are written).
+   * @param srcOffset the offset where to start reading from {@code src}.
+   * @param dst the array of bytes to write to.
+   * @param offset the offset where to start writing in {@code dst}.
+   * @param count the number of u2 numbers to write.
+   * @param order the {@link ByteOrder}.
+   * @return the offset after the written bytes.
+   * @throws IndexOutOfBoundsException if {@code src} or {@code dst} are too small.
+   */
+  public static int writeU2Array(int[] src, int srcOffset, byte[] dst, int offset, int count, ByteOrder order) {
+
+    Objects.checkFromIndexSize(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(offset, byteSize(count, 2), dst.length);
+    if (isBigEndian(order)) {
+      for (int i = 0; i < count; i++) {
+        U2_BE.set(dst, offset + 2 * i, (short) src[srcOffset + i]);
+      }
+    } else {
+      for (int i = 0; i < count; i++) {
+        U2_LE.set(dst, offset + 2 * i, (short) src[srcOffset + i]);
+      }
+    }
+    return offset + 2 * count;
+  }
+
+  /**
+   * @param src the array with the u4 numbers to write.
+   * @param srcOffset the offset where to start reading from {@code src}.
+   * @param dst the array of bytes to write to.
+   * @param offset the offset where to start writing in {@code dst}.
+   * @param count the number of u4 numbers to write.
+   * @param order the {@link ByteOrder}.
+   * @return the offset after the written bytes.
+   * @throws IndexOutOfBoundsException if {@code src} or {@code dst} are too small.
+   */
+  public static int writeU4Array(int[] src, int srcOffset, byte[] dst, int offset, int count, ByteOrder order) {
+
+    Objects.checkFromIndexSize(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(offset, byteSize(count, 4), dst.length);
+    if (isBigEndian(order)) {
+      for (int i = 0; i < count; i++) {
+        U4_BE.set(dst, offset + 4 * i, src[srcOffset + i]);
+      }
+    } else {
+      for (int i = 0; i < count; i++) {
+        U4_LE.set(dst, offset + 4 * i, src[srcOffset + i]);
+      }
+    }
+    return offset + 4 * count;
+  }
+
+  /**
+   * @param src the array with the u8 numbers to write.
+   * @param srcOffset the offset where to start reading from {@code src}.
+   * @param dst the array of bytes to write to.
+   * @param offset the offset where to start writing in {@code dst}.
+   * @param count the number of u8 numbers to write.
+   * @param order the {@link ByteOrder}.
+   * @return the offset after the written bytes.
+   * @throws IndexOutOfBoundsException if {@code src} or {@code dst} are too small.
+   */
+  public static int writeU8Array(long[] src, int srcOffset, byte[] dst, int offset, int count, ByteOrder order) {
+
+    Objects.checkFromIndexSize(srcOffset, count, src.length);
+    Objects.checkFromIndexSize(offset, byteSize(count, 8), dst.length);
+    if (isBigEndian(order)) {
+      for (int i = 0; i < count; i++) {
+        U8_BE.set(dst, offset + 8 * i, src[srcOffset + i]);
+      }
+    } else {
+      for (int i = 0; i < count; i++) {
+        U8_LE.set(dst, offset + 8 * i, src[srcOffset + i]);
+      }
+    }
+    return offset + 8 * count;
+  }
+
+  /**
+   * @param count the number of values to encode.
+   * @return the maximum number of bytes required to {@link #writeDeltaPacked(long[], int, int, byte[], int) delta
+   *         pack} the given number of values.
+   * @throws IllegalArgumentException if {@code count} is negative.
+   * @throws ArithmeticException if the size exceeds {@link Integer#MAX_VALUE}.
+   */
+  public static int maxSizeOfDeltaPacked(int count) {
+
+    if (count < 0) {
+      throw new IllegalArgumentException("" + count);
+    }
+    return Math.addExact(MAX_VAR_INT_SIZE + 2 * MAX_VAR_LONG_SIZE + 1, Math.multiplyExact(8, count));
+  }
+
+  /**
+   * Writes the given values bit-packed with delta and frame-of-reference encoding. This is very compact for monotonic
+   * sequences (e.g. sorted indexes or timestamps) but works for arbitrary values. The format is:
+   * <ul>
+   * <li>the number of values as {@link #writeVarInt(int, byte[], int) varint}</li>
+   * <li>the first value as {@link #encodeZigZag(long) zig-zag} {@link #writeVarLong(long, byte[], int) varint}</li>
+   * <li>the minimum delta between two successive values as zig-zag varint</li>
+   * <li>the number of bits per packed delta as single byte</li>
+   * <li>the deltas minus the minimum delta packed with the given number of bits per delta (least significant bit
+   * first)</li>
+   * </ul>
+   * Values and deltas are omitted if there are none. Use {@link #readVarInt(byte[], int)} to read the number of values.
+   *
+   * @param src the array with the values to write.
+   * @param srcOffset the offset where to start reading from {@code src}.
+   * @param count the number of values to write.
+   * @param dst the array of bytes to write to. Needs to have space for at least
+   *        {@link #maxSizeOfDeltaPacked(int) maxSizeOfDeltaPacked(count)} bytes.
+   * @param offset the offset where to start writing in {@code dst}.
+   * @return the offset after the written bytes.
+   * @see #readDeltaPacked(byte[], int, long[], int)
+   */
+  public static int writeDeltaPacked(long[] src, int srcOffset, int count, byte[] dst, int offset) {
+
+    Objects.checkFromIndexSize(srcOffset, count, src.length);
+    offset = writeVarInt(count, dst, offset);
+    if (count == 0) {
+      return offset;
+    }
+    int end = srcOffset + count;
+    long first = src[srcOffset];
+    offset = writeVarLong(encodeZigZag(first), dst, offset);
+    if (count == 1) {
+      return offset;
+    }
+    // deltas use wrapping arithmetic so they are exact for any values
+    long minDelta = Long.MAX_VALUE;
+    for (int i = srcOffset + 1; i < end; i++) {
+      minDelta = Math.min(minDelta, src[i] - src[i - 1]);
+    }
+    long bitsOr = 0;
+    for (int i = srcOffset + 1; i < end; i++) {
+      bitsOr |= (src[i] - src[i - 1]) - minDelta;
+    }
+    int bits = 64 - Long.numberOfLeadingZeros(bitsOr);
+    offset = writeVarLong(encodeZigZag(minDelta), dst, offset);
+    dst[offset++] = (byte) bits;
+    if (bits == 0) {
+      return offset;
+    }
+    BitWriter writer = new BitWriter(dst, offset, bits);
+    for (int i = srcOffset + 1; i < end; i++) {
+      writer.write((src[i] - src[i - 1]) - minDelta);
+    }
+    return writer.close();
+  }
+
+  /**
+   * @param src the array with the values to write.
+   * @param srcOffset the offset where to start reading from {@code src}.
+   * @param count the number of values to write.
+   * @param dst the array of bytes to write to.
+   * @param offset the offset where to start writing in {@code dst}.
+   * @return the offset after the written bytes.
+   * @see #writeDeltaPacked(long[], int, int, byte[], int)
+   */
+  public static int writeDeltaPacked(int[] src, int srcOffset, int count, byte[] dst, int offset) {
+
+    Objects.checkFromIndexSize(srcOffset, count, src.length);
+    offset = writeVarInt(count, dst, offset);
+    if (count == 0) {
+      return offset;
+    }
+    int end = srcOffset + count;
+    long first = src[srcOffset];
+    offset = writeVarLong(encodeZigZag(first), dst, offset);
+    if (count == 1) {
+      return offset;
+    }
+    long minDelta = Long.MAX_VALUE;
+    for (int i = srcOffset + 1; i < end; i++) {
+      minDelta = Math.min(minDelta, (long) src[i] - src[i - 1]);
+    }
+    long bitsOr = 0;
+    for (int i = srcOffset + 1; i < end; i++) {
+      bitsOr |= ((long) src[i] - src[i - 1]) - minDelta;
+    }
+    int bits = 64 - Long.numberOfLeadingZeros(bitsOr);
+    offset = writeVarLong(encodeZigZag(minDelta), dst, offset);
+    dst[offset++] = (byte) bits;
+    if (bits == 0) {
+      return offset;
+    }
+    BitWriter writer = new BitWriter(dst, offset, bits);
+    for (int i = srcOffset + 1; i < end; i++) {
+      writer.write(((long) src[i] - src[i - 1]) - minDelta);
+    }
+    return writer.close();
+  }
+
+  /**
+   * Reads values written by {@link #writeDeltaPacked(long[], int, int, byte[], int)}.
+   *
+   * @param src the array of bytes to read from.
+   * @param offset the offset where to start reading from {@code src}.
+   * @param dst the array where to store the values. Use {@link #readVarInt(byte[], int) readVarInt(src, offset)} to
+   *        get the number of values.
+   * @param dstOffset the offset where to start writing in {@code dst}.
+   * @return the offset after the read bytes.
+   * @throws IllegalArgumentException if the data is malformed or the number of values is negative or does not fit
+   *         into {@code dst}.
+   */
+  public static int readDeltaPacked(byte[] src, int offset, long[] dst, int dstOffset) {
+
+    ParsePosition parsePosition = new ParsePosition(offset);
+    int count = readCount(src, parsePosition, dst.length, dstOffset);
+    if (count == 0) {
+      return parsePosition.getIndex();
+    }
+    long value = decodeZigZag(readVarLong(src, parsePosition));
+    dst[dstOffset] = value;
+    if (count == 1) {
+      return parsePosition.getIndex();
+    }
+    long minDelta = decodeZigZag(readVarLong(src, parsePosition));
+    offset = parsePosition.getIndex();
+    int bits = readBitWidth(src, offset++);
+    int end = dstOffset + count;
+    long position = ((long) offset) << 3;
+    for (int i = dstOffset + 1; i < end; i++) {
+      value += readBits(src, position, bits) + minDelta;
+      dst[i] = value;
+      position += bits;
+    }
+    return packedEnd(offset, count, bits);
+  }
+
+  /**
+   * Reads values written by {@link #writeDeltaPacked(int[], int, int, byte[], int)}.
+   *
+   * @param src the array of bytes to read from.
+   * @param offset the offset where to start reading from {@code src}.
+   * @param dst the array where to store the values. Use {@link #readVarInt(byte[], int) readVarInt(src, offset)} to
+   *        get the number of values.
+   * @param dstOffset the offset where to start writing in {@code dst}.
+   * @return the offset after the read bytes.
+   * @throws IllegalArgumentException if the data is malformed or the number of values is negative or does not fit
+   *         into {@code dst}.
+   */
+  public static int readDeltaPacked(byte[] src, int offset, int[] dst, int dstOffset) {
+
+    ParsePosition parsePosition = new ParsePosition(offset);
+    int count = readCount(src, parsePosition, dst.length, dstOffset);
+    if (count == 0) {
+      return parsePosition.getIndex();
+    }
+    long value = decodeZigZag(readVarLong(src, parsePosition));
+    dst[dstOffset] = (int) value;
+    if (count == 1) {
+      return parsePosition.getIndex();
+    }
+    long minDelta = decodeZigZag(readVarLong(src, parsePosition));
+    offset = parsePosition.getIndex();
+    int bits = readBitWidth(src, offset++);
+    int end = dstOffset + count;
+    long position = ((long) offset) << 3;
+    for (int i = dstOffset + 1; i < end; i++) {
+      value += readBits(src, position, bits) + minDelta;
+      dst[i] = (int) value;
+      position += bits;
+    }
+    return packedEnd(offset, count, bits);
+  }
+
+  private static int readCount(byte[] src, ParsePosition position, int capacity, int dstOffset) {
+
+    Objects.checkFromIndexSize(dstOffset, 0, capacity);
+    int offset = position.getIndex();
+    int count = readVarInt(src, position);
+    if ((count < 0) || (count > capacity - dstOffset)) {
+      throw new IllegalArgumentException("" + offset);
+    }
+    return count;
+  }
+
+  private static int readBitWidth(byte[] src, int offset) {
+
+    if (offset >= src.length) {
+      throw new IllegalArgumentException("" + offset);
+    }
+    int bits = src[offset];
+    if ((bits < 0) || (bits > 64)) {
+      throw new IllegalArgumentException("" + offset);
+    }
+    return bits;
+  }
+
+  private static int packedEnd(int offset, int count, int bits) {
+
+    return offset + (int) ((((long) (count - 1)) * bits + 7) >>> 3);
+  }
+
+  /**
+   * @param src the array of bytes to read from.
+   * @param position the position in bits.
+   * @param bits the number of bits to read (0-64).
+   * @return the value of the given number of bits at the given bit position (least significant bit first).
+   */
+  private static long readBits(byte[] src, long position, int bits) {
+
+    if (bits == 0) {
+      return 0;
+    }
+    int index = (int) (position >>> 3);
+    int shift = (int) (position & 7);
+    long value = readU8Le(src, index) >>> shift;
+    if (shift + bits > 64) {
+      value |= ((long) src[index + 8]) << (64 - shift);
+    }
+    if (bits < 64) {
+      value &= (1L << bits) - 1;
+    }
+    return value;
+  }
+
+  /**
+   * @return the little-endian u8 at the given {@code index} where missing bytes at the end of the array are treated as
+   *         zero.
+   */
+  private static long readU8Le(byte[] src, int index) {
+
+    if (index + 8 <= src.length) {
+      return (long) U8_LE.get(src, index);
+    } else if (index >= src.length) {
+      throw new IllegalArgumentException("" + index);
+    }
+    long value = 0;
+    for (int i = src.length - 1; i >= index; i--) {
+      value = (value << 8) | (src[i] & BYTE_MASK_LONG);
+    }
+    return value;
+  }
+
+  /**
+   * Writes values with a fixed number of bits to a {@code byte} array (least significant bit first).
+   */
+  private static final class BitWriter {
+
+    private final byte[] bytes;
+
+    private final int bits;
+
+    private int offset;
+
+    /** The pending bits not yet written (less than 8). */
+    private long buffer;
+
+    private int bufferBits;
+
+    private BitWriter(byte[] bytes, int offset, int bits) {
+
+      super();
+      this.bytes = bytes;
+      this.offset = offset;
+      this.bits = bits;
+    }
+
+    private void write(long value) {
+
+      long spill = 0;
+      if (this.bufferBits > 0) {
+        // bits of value that do not fit into the buffer
+        spill = value >>> (64 - this.bufferBits);
+      }
+      this.buffer |= value << this.bufferBits;
+      int total = this.bufferBits + this.bits;
+      if (total >= 64) {
+        U8_LE.set(this.bytes, this.offset, this.buffer);
+        this.offset += 8;
+        this.buffer = spill;
+        total -= 64;
+      }
+      while (total >= 8) {
+        this.bytes[this.offset++] = (byte) this.buffer;
+        this.buffer >>>= 8;
+        total -= 8;
+      }
+      this.bufferBits = total;
+    }
+
+    private int close() {
+
+      if (this.bufferBits > 0) {
+        this.bytes[this.offset++] = (byte) this.buffer;
+      }
+      return this.offset;
+    }
   }
 
 }
@@ -0,0 +1,366 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.number;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+import io.github.mmm.base.exception.RuntimeIoException;
+
+/**
+ * Helper for {@link NumberType#formatTo(Number, int, Appendable)} that writes the ASCII digits of numbers directly to
+ * a {@code byte} array without creating an intermediate {@link String}. The output is the same as
+ * {@link Long#toString(long, int)}, {@link Double#toString(double)}, and {@link Float#toString(float)}.
+ */
+final class NumberFormatter {
+
+  /** Maximum number of characters a {@code long} is formatted to in any radix (radix 2 with sign). */
+  private static final int MAX_LENGTH = 65;
+
+  /** Maximum number of characters a {@code long} is formatted to in decimal format (with sign). */
+  private static final int LONG_MAX_LENGTH = 20;
+
+  /** Maximum number of characters a {@code double} is formatted to (e.g. {@code -2.2250738585072014E-308}). */
+  private static final int DOUBLE_MAX_LENGTH = 24;
+
+  /** Maximum number of characters a {@code float} is formatted to (e.g. {@code -1.17549435E-38}). */
+  private static final int FLOAT_MAX_LENGTH = 15;
+
+  private static final byte[] DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e',
+  'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z' };
+
+  /** The ASCII digits of the numbers from {@code 00} to {@code 99}. */
+  private static final byte[] DIGIT_PAIRS = new byte[200];
+
+  /** Powers of ten that are exactly representable as {@code double}. */
+  private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+  1e13, 1e14, 1e15, 1e16, 1e17 };
+
+  /** Values from this (inclusive) up to {@link #PLAIN_MAX} (exclusive) are formatted without exponent. */
+  private static final double PLAIN_MIN = 1e-3;
+
+  private static final double PLAIN_MAX = 1e7;
+
+  /** 2^53 - maximum integer up to which all integers can be represented exactly as {@code double}. */
+  private static final double DOUBLE_MAX_MANTISSA = 9007199254740992.0;
+
+  /** 2^24 - maximum integer up to which all integers can be represented exactly as {@code float}. */
+  private static final double FLOAT_MAX_MANTISSA = 16777216.0;
+
+  /** Maximum decimal exponent so that the power of ten is exactly representable as {@code float}. */
+  private static final int FLOAT_MAX_EXPONENT = 10;
+
+  static {
+    for (int i = 0; i < 100; i++) {
+      DIGIT_PAIRS[2 * i] = (byte) ('0' + (i / 10));
+      DIGIT_PAIRS[2 * i + 1] = (byte) ('0' + (i % 10));
+    }
+  }
+
+  private NumberFormatter() {
+
+  }
+
+  /**
+   * @param value the {@code long} value.
+   * @return the number of characters of the given {@code value} in decimal format (including the sign).
+   */
+  static int size(long value) {
+
+    int size = 1;
+    if (value >= 0) {
+      size = 0;
+      value = -value;
+    }
+    long limit = -10;
+    for (int i = 1; i < 19; i++) {
+      if (value > limit) {
+        return i + size;
+      }
+      limit = 10 * limit;
+    }
+    return 19 + size;
+  }
+
+  /**
+   * @param value the {@code long} value to format in decimal format.
+   * @param buffer the {@code byte} array where to write the ASCII characters.
+   * @param offset the index in {@code buffer} where to start writing.
+   * @return the index after the last written character.
+   */
+  static int format(long value, byte[] buffer, int offset) {
+
+    int size = size(value);
+    Objects.checkFromIndexSize(offset, size, buffer.length);
+    int end = offset + size;
+    writeDigits(value, buffer, end);
+    return end;
+  }
+
+  /**
+   * Writes the digits of the given {@code value} backwards (in negative space so {@link Long#MIN_VALUE} works).
+   *
+   * @param value the {@code long} value to format.
+   * @param buffer the {@code byte} array where to write the ASCII characters.
+   * @param end the index after the last character to write.
+   */
+  private static void writeDigits(long value, byte[] buffer, int end) {
+
+    int position = end;
+    boolean negative = (value < 0);
+    long l = value;
+    if (!negative) {
+      l = -l;
+    }
+    while (l <= Integer.MIN_VALUE) {
+      long q = l / 100;
+      int r = (int) ((q * 100) - l);
+      l = q;
+      position -= 2;
+      buffer[position] = DIGIT_PAIRS[2 * r];
+      buffer[position + 1] = DIGIT_PAIRS[2 * r + 1];
+    }
+    int i = (int) l;
+    while (i <= -100) {
+      int q = i / 100;
+      int r = (q * 100) - i;
+      i = q;
+      position -= 2;
+      buffer[position] = DIGIT_PAIRS[2 * r];
+      buffer[position + 1] = DIGIT_PAIRS[2 * r + 1];
+    }
+    if (i < -9) {
+      position -= 2;
+      buffer[position] = DIGIT_PAIRS[-2 * i];
+      buffer[position + 1] = DIGIT_PAIRS[-2 * i + 1];
+    } else {
+      buffer[--position] = (byte) ('0' - i);
+    }
+    if (negative) {
+      buffer[--position] = '-';
+    }
+  }
+
+  /**
+   * @param value the {@code long} value to format.
+   * @param radix the radix. If not in the range from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}
+   *        {@code 10} is used (like {@link Long#toString(long, int)}).
+   * @param buffer the {@code byte} array where to write the ASCII characters.
+   * @param offset the index in {@code buffer} where to start writing.
+   * @return the index after the last written character.
+   */
+  static int format(long value, int radix, byte[] buffer, int offset) {
+
+    if ((radix == 10) || (radix < Character.MIN_RADIX) || (radix > Character.MAX_RADIX)) {
+      return format(value, buffer, offset);
+    }
+    boolean negative = (value < 0);
+    long l = value;
+    if (!negative) {
+      l = -l;
+    }
+    int size = 1;
+    for (long q = l / radix; q != 0; q = q / radix) {
+      size++;
+    }
+    if (negative) {
+      size++;
+    }
+    Objects.checkFromIndexSize(offset, size, buffer.length);
+    int end = offset + size;
+    int position = end;
+    do {
+      buffer[--position] = DIGITS[(int) -(l % radix)];
+      l = l / radix;
+    } while (l != 0);
+    if (negative) {
+      buffer[--position] = '-';
+    }
+    return end;
+  }
+
+  /**
+   * @param value the {@code double} value to format like {@link Double#toString(double)}.
+   * @param buffer the {@code byte} array where to write the ASCII characters.
+   * @param offset the index in {@code buffer} where to start writing.
+   * @return the index after the last written character.
+   */
+  static int format(double value, byte[] buffer, int offset) {
+
+    int end = formatPlain(value, DOUBLE_MAX_MANTISSA, POWERS_OF_TEN.length - 1, false, buffer, offset);
+    if (end < 0) {
+      end = copy(Double.toString(value), buffer, offset);
+    }
+    return end;
+  }
+
+  /**
+   * @param value the {@code float} value to format like {@link Float#toString(float)}.
+   * @param buffer the {@code byte} array where to write the ASCII characters.
+   * @param offset the index in {@code buffer} where to start writing.
+   * @return the index after the last written character.
+   */
+  static int format(float value, byte[] buffer, int offset) {
+
+    int end = formatPlain(value, FLOAT_MAX_MANTISSA, FLOAT_MAX_EXPONENT, true, buffer, offset);
+    if (end < 0) {
+      end = copy(Float.toString(value), buffer, offset);
+    }
+    return end;
+  }
+
+  /**
+   * Fast-path for the common case of values in plain notation with few decimal places. It searches the smallest number
+   * of decimal places so that the rounded digits are parsed back to the exact same value. As mantissa and power of ten
+   * are both exactly representable, the division is correctly rounded and this is the shortest representation
+   * computed by {@link Double#toString(double)}.
+   *
+   * @return the index after the last written character or {@code -1} if the fast-path is not applicable.
+   */
+  private static int formatPlain(double value, double maxMantissa, int maxExponent, boolean isFloat, byte[] buffer,
+      int offset) {
+
+    double abs = Math.abs(value);
+    if ((abs < PLAIN_MIN) || (abs >= PLAIN_MAX)) {
+      return -1;
+    }
+    for (int decimals = 0; decimals <= maxExponent; decimals++) {
+      double power = POWERS_OF_TEN[decimals];
+      double mantissa = Math.rint(abs * power);
+      if (mantissa > maxMantissa) {
+        return -1;
+      }
+      double parsed = mantissa / power;
+      if (isFloat) {
+        parsed = (float) parsed;
+      }
+      if (parsed == abs) {
+        return writePlain((long) mantissa, decimals, (value < 0), buffer, offset);
+      }
+    }
+    return -1;
+  }
+
+  private static int writePlain(long mantissa, int decimals, boolean negative, byte[] buffer, int offset) {
+
+    int digits = size(mantissa);
+    int size = Math.max(digits, decimals + 1) + 1;
+    if (decimals == 0) {
+      size++; // ".0"
+    }
+    if (negative) {
+      size++;
+    }
+    Objects.checkFromIndexSize(offset, size, buffer.length);
+    int end = offset + size;
+    int position = end;
+    if (decimals == 0) {
+      buffer[--position] = '0';
+      buffer[--position] = '.';
+      writeDigits(mantissa, buffer, position);
+    } else {
+      // digits after the decimal point (including leading zeros)
+      long l = mantissa;
+      for (int i = 0; i < decimals; i++) {
+        buffer[--position] = (byte) ('0' + (l % 10));
+        l = l / 10;
+      }
+      buffer[--position] = '.';
+      writeDigits(l, buffer, position);
+    }
+    if (negative) {
+      buffer[offset] = '-';
+    }
+    return end;
+  }
+
+  private static int copy(String string, byte[] buffer, int offset) {
+
+    int length = string.length();
+    Objects.checkFromIndexSize(offset, length, buffer.length);
+    for (int i = 0; i < length; i++) {
+      buffer[offset + i] = (byte) string.charAt(i);
+    }
+    return offset + length;
+  }
+
+  /**
+   * Appends the given {@code value} like {@link Long#toString(long, int)}. A {@link StringBuilder} gets the decimal
+   * digits written in place.
+   *
+   * @param value the {@code long} value to format.
+   * @param radix the radix.
+   * @param appendable the {@link Appendable} where to append the formatted {@code value}.
+   */
+  static void append(long value, int radix, Appendable appendable) {
+
+    boolean decimal = (radix == 10) || (radix < Character.MIN_RADIX) || (radix > Character.MAX_RADIX);
+    if (decimal && (appendable instanceof StringBuilder sb)) {
+      sb.append(value);
+    } else {
+      byte[] buffer = new byte[decimal ? LONG_MAX_LENGTH : MAX_LENGTH];
+      append(buffer, format(value, radix, buffer, 0), appendable);
+    }
+  }
+
+  /**
+   * Appends the given {@code value} like {@link Double#toString(double)}. A {@link StringBuilder} gets the characters
+   * written in place.
+   *
+   * @param value the {@code double} value to format.
+   * @param appendable the {@link Appendable} where to append the formatted {@code value}.
+   */
+  static void append(double value, Appendable appendable) {
+
+    if (appendable instanceof StringBuilder sb) {
+      sb.append(value);
+    } else {
+      byte[] buffer = new byte[DOUBLE_MAX_LENGTH];
+      append(buffer, format(value, buffer, 0), appendable);
+    }
+  }
+
+  /**
+   * Appends the given {@code value} like {@link Float#toString(float)}. A {@link StringBuilder} gets the characters
+   * written in place.
+   *
+   * @param value the {@code float} value to format.
+   * @param appendable the {@link Appendable} where to append the formatted {@code value}.
+   */
+  static void append(float value, Appendable appendable) {
+
+    if (appendable instanceof StringBuilder sb) {
+      sb.append(value);
+    } else {
+      byte[] buffer = new byte[FLOAT_MAX_LENGTH];
+      append(buffer, format(value, buffer, 0), appendable);
+    }
+  }
+
+  /**
+   * @param buffer the {@code byte} array with the ASCII characters.
+   * @param end the index after the last character to append.
+   * @param appendable the {@link Appendable} where to append the characters from index {@code 0} to {@code end}. A
+   *        {@link Writer} gets them in a single {@link Writer#write(char[], int, int) write}.
+   */
+  private static void append(byte[] buffer, int end, Appendable appendable) {
+
+    try {
+      if (appendable instanceof Writer writer) {
+        char[] chars = new char[end];
+        for (int i = 0; i < end; i++) {
+          chars[i] = (char) buffer[i];
+        }
+        writer.write(chars, 0, end);
+      } else {
+        for (int i = 0; i < end; i++) {
+          appendable.append((char) buffer[i]);
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeIoException(e);
+    }
+  }
+
+}
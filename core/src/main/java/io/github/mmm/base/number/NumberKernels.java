@@ -0,0 +1,341 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.number;
+
+import java.math.BigInteger;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Kernels for the bulk operations of {@link NumberType} on columns of primitive values. The loops use multiple
+ * independent accumulators without data dependencies between the lanes so the JIT can unroll and auto-vectorize them.
+ */
+final class NumberKernels {
+
+  private NumberKernels() {
+
+  }
+
+  /**
+   * Sums the given values exactly as 128-bit integer so no overflow can occur for any number of values that fit into
+   * an array.
+   *
+   * @param column the values to sum.
+   * @param from the index of the first value.
+   * @param to the index after the last value.
+   * @return an array with the low 64 bits of the sum at index {@code 0} and the high 64 bits at index {@code 1}.
+   */
+  static long[] sum(long[] column, int from, int to) {
+
+    long low = 0;
+    long high = 0;
+    for (int i = from; i < to; i++) {
+      long value = column[i];
+      long sum = low + value;
+      // unsigned carry of low + value
+      long carry = ((low & value) | ((low | value) & ~sum)) >>> 63;
+      high += (value >> 63) + carry;
+      low = sum;
+    }
+    return new long[] { low, high };
+  }
+
+  static long[] sum(LongBuffer column) {
+
+    int from = column.position();
+    int to = column.limit();
+    if (column.hasArray()) {
+      int offset = column.arrayOffset();
+      return sum(column.array(), offset + from, offset + to);
+    }
+    long low = 0;
+    long high = 0;
+    for (int i = from; i < to; i++) {
+      long value = column.get(i);
+      long sum = low + value;
+      long carry = ((low & value) | ((low | value) & ~sum)) >>> 63;
+      high += (value >> 63) + carry;
+      low = sum;
+    }
+    return new long[] { low, high };
+  }
+
+  /**
+   * @param low the low 64 bits.
+   * @param high the high 64 bits.
+   * @return {@code true} if the given 128-bit value fits into a {@code long}.
+   */
+  static boolean isLong(long low, long high) {
+
+    return (high == (low >> 63));
+  }
+
+  /**
+   * @param low the low 64 bits.
+   * @param high the high 64 bits.
+   * @return the given 128-bit value as {@link BigInteger}.
+   */
+  static BigInteger toBigInteger(long low, long high) {
+
+    if (isLong(low, high)) {
+      return BigInteger.valueOf(low);
+    }
+    BigInteger lowUnsigned = BigInteger.valueOf(low >>> 1).shiftLeft(1).add(BigInteger.valueOf(low & 1));
+    return BigInteger.valueOf(high).shiftLeft(64).add(lowUnsigned);
+  }
+
+  /**
+   * Sums the given values via Neumaier's improved Kahan summation that compensates the rounding errors.
+   *
+   * @param column the values to sum.
+   * @param from the index of the first value.
+   * @param to the index after the last value.
+   * @return the compensated sum.
+   */
+  static double sum(double[] column, int from, int to) {
+
+    double sum = 0;
+    double compensation = 0;
+    for (int i = from; i < to; i++) {
+      double value = column[i];
+      double t = sum + value;
+      if (Math.abs(sum) >= Math.abs(value)) {
+        compensation += (sum - t) + value;
+      } else {
+        compensation += (value - t) + sum;
+      }
+      sum = t;
+    }
+    return compensate(sum, compensation);
+  }
+
+  static double sum(DoubleBuffer column) {
+
+    int from = column.position();
+    int to = column.limit();
+    if (column.hasArray()) {
+      int offset = column.arrayOffset();
+      return sum(column.array(), offset + from, offset + to);
+    }
+    double sum = 0;
+    double compensation = 0;
+    for (int i = from; i < to; i++) {
+      double value = column.get(i);
+      double t = sum + value;
+      if (Math.abs(sum) >= Math.abs(value)) {
+        compensation += (sum - t) + value;
+      } else {
+        compensation += (value - t) + sum;
+      }
+      sum = t;
+    }
+    return compensate(sum, compensation);
+  }
+
+  private static double compensate(double sum, double compensation) {
+
+    double result = sum + compensation;
+    if (Double.isNaN(result) && !Double.isNaN(sum)) {
+      // sum is infinite what made the compensation NaN
+      return sum;
+    }
+    return result;
+  }
+
+  static long min(long[] column, int from, int to) {
+
+    long min0 = Long.MAX_VALUE;
+    long min1 = Long.MAX_VALUE;
+    long min2 = Long.MAX_VALUE;
+    long min3 = Long.MAX_VALUE;
+    int i = from;
+    int end = to - 3;
+    while (i < end) {
+      min0 = Math.min(min0, column[i]);
+      min1 = Math.min(min1, column[i + 1]);
+      min2 = Math.min(min2, column[i + 2]);
+      min3 = Math.min(min3, column[i + 3]);
+      i += 4;
+    }
+    while (i < to) {
+      min0 = Math.min(min0, column[i++]);
+    }
+    return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+  }
+
+  static long max(long[] column, int from, int to) {
+
+    long max0 = Long.MIN_VALUE;
+    long max1 = Long.MIN_VALUE;
+    long max2 = Long.MIN_VALUE;
+    long max3 = Long.MIN_VALUE;
+    int i = from;
+    int end = to - 3;
+    while (i < end) {
+      max0 = Math.max(max0, column[i]);
+      max1 = Math.max(max1, column[i + 1]);
+      max2 = Math.max(max2, column[i + 2]);
+      max3 = Math.max(max3, column[i + 3]);
+      i += 4;
+    }
+    while (i < to) {
+      max0 = Math.max(max0, column[i++]);
+    }
+    return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+  }
+
+  static double min(double[] column, int from, int to) {
+
+    double min0 = Double.POSITIVE_INFINITY;
+    double min1 = Double.POSITIVE_INFINITY;
+    double min2 = Double.POSITIVE_INFINITY;
+    double min3 = Double.POSITIVE_INFINITY;
+    int i = from;
+    int end = to - 3;
+    while (i < end) {
+      min0 = Math.min(min0, column[i]);
+      min1 = Math.min(min1, column[i + 1]);
+      min2 = Math.min(min2, column[i + 2]);
+      min3 = Math.min(min3, column[i + 3]);
+      i += 4;
+    }
+    while (i < to) {
+      min0 = Math.min(min0, column[i++]);
+    }
+    return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+  }
+
+  static double max(double[] column, int from, int to) {
+
+    double max0 = Double.NEGATIVE_INFINITY;
+    double max1 = Double.NEGATIVE_INFINITY;
+    double max2 = Double.NEGATIVE_INFINITY;
+    double max3 = Double.NEGATIVE_INFINITY;
+    int i = from;
+    int end = to - 3;
+    while (i < end) {
+      max0 = Math.max(max0, column[i]);
+      max1 = Math.max(max1, column[i + 1]);
+      max2 = Math.max(max2, column[i + 2]);
+      max3 = Math.max(max3, column[i + 3]);
+      i += 4;
+    }
+    while (i < to) {
+      max0 = Math.max(max0, column[i++]);
+    }
+    return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+  }
+
+  static long min(LongBuffer column) {
+
+    int from = column.position();
+    int to = column.limit();
+    if (column.hasArray()) {
+      int offset = column.arrayOffset();
+      return min(column.array(), offset + from, offset + to);
+    }
+    long min = Long.MAX_VALUE;
+    for (int i = from; i < to; i++) {
+      min = Math.min(min, column.get(i));
+    }
+    return min;
+  }
+
+  static long max(LongBuffer column) {
+
+    int from = column.position();
+    int to = column.limit();
+    if (column.hasArray()) {
+      int offset = column.arrayOffset();
+      return max(column.array(), offset + from, offset + to);
+    }
+    long max = Long.MIN_VALUE;
+    for (int i = from; i < to; i++) {
+      max = Math.max(max, column.get(i));
+    }
+    return max;
+  }
+
+  static double min(DoubleBuffer column) {
+
+    int from = column.position();
+    int to = column.limit();
+    if (column.hasArray()) {
+      int offset = column.arrayOffset();
+      return min(column.array(), offset + from, offset + to);
+    }
+    double min = Double.POSITIVE_INFINITY;
+    for (int i = from; i < to; i++) {
+      min = Math.min(min, column.get(i));
+    }
+    return min;
+  }
+
+  static double max(DoubleBuffer column) {
+
+    int from = column.position();
+    int to = column.limit();
+    if (column.hasArray()) {
+      int offset = column.arrayOffset();
+      return max(column.array(), offset + from, offset + to);
+    }
+    double max = Double.NEGATIVE_INFINITY;
+    for (int i = from; i < to; i++) {
+      max = Math.max(max, column.get(i));
+    }
+    return max;
+  }
+
+  /**
+   * Primitive variant of {@link NumberType#wrap(Number, Number, Number)}.
+   *
+   * @param value the value to wrap.
+   * @param min the minimum allowed value.
+   * @param max the maximum allowed value.
+   * @return the wrapped value.
+   */
+  static long wrap(long value, long min, long max) {
+
+    if (value < min) {
+      long result = NumberType.addLong(max, NumberType.addLong(NumberType.subtractLong(value, min), 1));
+      if ((result >= min) && (result <= max)) {
+        return result;
+      }
+      return min;
+    } else if (value > max) {
+      long result = NumberType.addLong(min, NumberType.subtractLong(NumberType.subtractLong(value, max), 1));
+      if ((result >= min) && (result <= max)) {
+        return result;
+      }
+      return max;
+    }
+    return value;
+  }
+
+  /**
+   * Primitive variant of {@link NumberType#wrap(Number, Number, Number)}.
+   *
+   * @param value the value to wrap.
+   * @param min the minimum allowed value.
+   * @param max the maximum allowed value.
+   * @return the wrapped value.
+   */
+  static double wrap(double value, double min, double max) {
+
+    if (value < min) {
+      double result = max + ((value - min) + 1);
+      if ((result >= min) && (result <= max)) {
+        return result;
+      }
+      return min;
+    } else if (value > max) {
+      double result = min + ((value - max) - 1);
+      if ((result >= min) && (result <= max)) {
+        return result;
+      }
+      return max;
+    }
+    return value;
+  }
+
+}
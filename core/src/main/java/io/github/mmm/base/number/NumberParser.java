@@ -0,0 +1,511 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.number;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * Helper for {@link NumberType#tryParse(CharSequence, int, int, int)}. It parses numbers from a range of a
+ * {@link CharSequence} with hand-written digit accumulators that report invalid input or overflow via their return value
+ * instead of throwing (and creating) a {@link NumberFormatException}.
+ */
+final class NumberParser {
+
+  /** Return value of {@link #accumulate(CharSequence, int, int, int, long)} for invalid input. */
+  private static final long INVALID = 1;
+
+  /** Return value of {@link #parseInt(CharSequence, int, int, int, int, int)} for invalid input. */
+  static final long INVALID_INT = Long.MIN_VALUE;
+
+  /** Powers of ten that are exactly representable as {@code double}. */
+  private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+  1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+  /** Maximum mantissa of the {@code double} fast-path (2^53). */
+  private static final long DOUBLE_MAX_MANTISSA = 1L << 53;
+
+  /** Maximum absolute decimal exponent of the {@code double} fast-path. */
+  private static final int DOUBLE_MAX_EXPONENT = 22;
+
+  /** Maximum mantissa of the {@code float} fast-path (2^24). */
+  private static final long FLOAT_MAX_MANTISSA = 1L << 24;
+
+  /** Maximum absolute decimal exponent of the {@code float} fast-path. */
+  private static final int FLOAT_MAX_EXPONENT = 10;
+
+  private NumberParser() {
+
+  }
+
+  private static boolean checkRange(CharSequence number, int from, int to) {
+
+    if (number == null) {
+      return false;
+    }
+    Objects.checkFromToIndex(from, to, number.length());
+    return (from < to);
+  }
+
+  private static void checkRadix(int radix) {
+
+    if ((radix < Character.MIN_RADIX) || (radix > Character.MAX_RADIX)) {
+      throw new IllegalArgumentException("Radix " + radix + " is not supported.");
+    }
+  }
+
+  /**
+   * @param c the character to convert.
+   * @param radix the radix.
+   * @return the value of the given digit or {@code -1} if not a valid digit for the given radix.
+   */
+  static int digit(char c, int radix) {
+
+    int digit;
+    if ((c >= '0') && (c <= '9')) {
+      digit = c - '0';
+    } else if ((c >= 'a') && (c <= 'z')) {
+      digit = c - 'a' + 10;
+    } else if ((c >= 'A') && (c <= 'Z')) {
+      digit = c - 'A' + 10;
+    } else if (c < 128) {
+      return -1;
+    } else {
+      // consistent with Long.parseLong for non-latin digits
+      return Character.digit(c, radix);
+    }
+    if (digit >= radix) {
+      return -1;
+    }
+    return digit;
+  }
+
+  /**
+   * Accumulates the digits negatively (like {@link Long#parseLong(String, int)}) so that {@link Long#MIN_VALUE} can be
+   * represented.
+   *
+   * @param number the {@link CharSequence} to parse.
+   * @param start the index of the first digit.
+   * @param end the index after the last digit.
+   * @param radix the radix.
+   * @param limit the negative limit the result may not be less than.
+   * @return the negated value of the digits or {@link #INVALID} if not only digits are given or the value would
+   *         exceed the {@code limit}.
+   */
+  private static long accumulate(CharSequence number, int start, int end, int radix, long limit) {
+
+    if (start >= end) {
+      return INVALID;
+    }
+    long multiplyLimit = limit / radix;
+    long result = 0;
+    for (int i = start; i < end; i++) {
+      int digit = digit(number.charAt(i), radix);
+      if ((digit < 0) || (result < multiplyLimit)) {
+        return INVALID;
+      }
+      result *= radix;
+      if (result < limit + digit) {
+        return INVALID;
+      }
+      result -= digit;
+    }
+    return result;
+  }
+
+  /**
+   * @param number the {@link CharSequence} to parse.
+   * @param from the start index.
+   * @param to the end index.
+   * @param radix the radix.
+   * @param min the minimum value.
+   * @param max the maximum value.
+   * @return the parsed value or {@link #INVALID_INT} if invalid.
+   */
+  static long parseInt(CharSequence number, int from, int to, int radix, int min, int max) {
+
+    checkRadix(radix);
+    if (!checkRange(number, from, to)) {
+      return INVALID_INT;
+    }
+    char c = number.charAt(from);
+    boolean negative = (c == '-');
+    if (negative || (c == '+')) {
+      from++;
+    }
+    long result;
+    if (negative) {
+      result = accumulate(number, from, to, radix, min);
+    } else {
+      result = accumulate(number, from, to, radix, -max);
+    }
+    if (result == INVALID) {
+      return INVALID_INT;
+    } else if (negative) {
+      return result;
+    }
+    return -result;
+  }
+
+  /**
+   * @param number the {@link CharSequence} to parse.
+   * @param from the start index.
+   * @param to the end index.
+   * @param radix the radix.
+   * @return the parsed {@link Long} or {@code null} if invalid.
+   */
+  static Long parseLong(CharSequence number, int from, int to, int radix) {
+
+    checkRadix(radix);
+    if (!checkRange(number, from, to)) {
+      return null;
+    }
+    char c = number.charAt(from);
+    boolean negative = (c == '-');
+    if (negative || (c == '+')) {
+      from++;
+    }
+    long result;
+    if (negative) {
+      result = accumulate(number, from, to, radix, Long.MIN_VALUE);
+    } else {
+      result = accumulate(number, from, to, radix, -Long.MAX_VALUE);
+    }
+    if (result == INVALID) {
+      return null;
+    } else if (negative) {
+      return Long.valueOf(result);
+    }
+    return Long.valueOf(-result);
+  }
+
+  /**
+   * @param number the {@link CharSequence} to parse.
+   * @param from the start index.
+   * @param to the end index.
+   * @param radix the radix.
+   * @return the parsed {@link BigInteger} or {@code null} if invalid.
+   */
+  static BigInteger parseBigInteger(CharSequence number, int from, int to, int radix) {
+
+    Long l = parseLong(number, from, to, radix);
+    if (l != null) {
+      return BigInteger.valueOf(l.longValue());
+    } else if (!checkRange(number, from, to)) {
+      return null;
+    }
+    // invalid or overflow - only delegate in case of overflow
+    int start = from;
+    char c = number.charAt(start);
+    if ((c == '-') || (c == '+')) {
+      start++;
+    }
+    if (start == to) {
+      return null;
+    }
+    for (int i = start; i < to; i++) {
+      if (digit(number.charAt(i), radix) < 0) {
+        return null;
+      }
+    }
+    return new BigInteger(number.subSequence(from, to).toString(), radix);
+  }
+
+  /**
+   * @param number the {@link CharSequence} to parse.
+   * @param from the start index.
+   * @param to the end index.
+   * @param radix the radix ({@code 10} or {@code 16}).
+   * @return the parsed {@link Double} or {@code null} if invalid.
+   */
+  static Double parseDouble(CharSequence number, int from, int to, int radix) {
+
+    if (radix == 10) {
+      if (!checkRange(number, from, to)) {
+        return null;
+      }
+      double d = parseFast(number, from, to, DOUBLE_MAX_MANTISSA, DOUBLE_MAX_EXPONENT);
+      if (!Double.isNaN(d)) {
+        return Double.valueOf(d);
+      } else if (isDecimal(number, from, to, true) || isPrefixedHex(number, from, to)) {
+        return Double.valueOf(Double.parseDouble(number.subSequence(from, to).toString()));
+      }
+    } else if (radix == 16) {
+      if (!checkRange(number, from, to)) {
+        return null;
+      }
+      String hex = toHex(number, from, to);
+      if (hex != null) {
+        return Double.valueOf(Double.parseDouble(hex));
+      }
+    } else {
+      throw new IllegalArgumentException("Radix " + radix + " is not supported.");
+    }
+    return null;
+  }
+
+  /**
+   * @param number the {@link CharSequence} to parse.
+   * @param from the start index.
+   * @param to the end index.
+   * @param radix the radix ({@code 10} or {@code 16}).
+   * @return the parsed {@link Float} or {@code null} if invalid.
+   */
+  static Float parseFloat(CharSequence number, int from, int to, int radix) {
+
+    if (radix == 10) {
+      if (!checkRange(number, from, to)) {
+        return null;
+      }
+      // mantissa and power of ten are exact floats so rounding the double result is correct
+      double d = parseFast(number, from, to, FLOAT_MAX_MANTISSA, FLOAT_MAX_EXPONENT);
+      if (!Double.isNaN(d)) {
+        return Float.valueOf((float) d);
+      } else if (isDecimal(number, from, to, true) || isPrefixedHex(number, from, to)) {
+        return Float.valueOf(Float.parseFloat(number.subSequence(from, to).toString()));
+      }
+    } else if (radix == 16) {
+      if (!checkRange(number, from, to)) {
+        return null;
+      }
+      String hex = toHex(number, from, to);
+      if (hex != null) {
+        return Float.valueOf(Float.parseFloat(hex));
+      }
+    } else {
+      throw new IllegalArgumentException("Radix " + radix + " is not supported.");
+    }
+    return null;
+  }
+
+  /**
+   * @param number the {@link CharSequence} to parse.
+   * @param from the start index.
+   * @param to the end index.
+   * @return the parsed {@link BigDecimal} or {@code null} if invalid.
+   */
+  static BigDecimal parseBigDecimal(CharSequence number, int from, int to) {
+
+    if (!checkRange(number, from, to) || !isDecimal(number, from, to, false)) {
+      return null;
+    }
+    try {
+      return new BigDecimal(number.subSequence(from, to).toString());
+    } catch (NumberFormatException e) {
+      // exponent overflow, very unlikely
+      return null;
+    }
+  }
+
+  /**
+   * Fast-path for decimal numbers where mantissa and power of ten are both exactly representable so a single
+   * multiplication or division gives the correctly rounded result.
+   *
+   * @return the parsed value or {@link Double#NaN} if the fast-path is not applicable.
+   */
+  private static double parseFast(CharSequence number, int from, int to, long maxMantissa, int maxExponent) {
+
+    int i = from;
+    char c = number.charAt(i);
+    boolean negative = (c == '-');
+    if (negative || (c == '+')) {
+      i++;
+    }
+    long mantissa = 0;
+    int exponent = 0;
+    int digits = 0;
+    boolean dot = false;
+    while (i < to) {
+      c = number.charAt(i);
+      if ((c >= '0') && (c <= '9')) {
+        mantissa = mantissa * 10 + (c - '0');
+        if (mantissa > maxMantissa) {
+          return Double.NaN;
+        }
+        digits++;
+        if (dot) {
+          exponent--;
+        }
+      } else if ((c == '.') && !dot) {
+        dot = true;
+      } else {
+        break;
+      }
+      i++;
+    }
+    if (digits == 0) {
+      return Double.NaN;
+    }
+    if (i < to) {
+      if ((c != 'e') && (c != 'E')) {
+        return Double.NaN;
+      }
+      i++;
+      if (i == to) {
+        return Double.NaN;
+      }
+      c = number.charAt(i);
+      boolean negativeExponent = (c == '-');
+      if (negativeExponent || (c == '+')) {
+        i++;
+      }
+      if ((i == to) || ((to - i) > 3)) {
+        return Double.NaN;
+      }
+      int e = 0;
+      while (i < to) {
+        c = number.charAt(i++);
+        if ((c < '0') || (c > '9')) {
+          return Double.NaN;
+        }
+        e = e * 10 + (c - '0');
+      }
+      if (negativeExponent) {
+        exponent -= e;
+      } else {
+        exponent += e;
+      }
+    }
+    double result = mantissa;
+    if (mantissa != 0) {
+      if ((exponent < -maxExponent) || (exponent > maxExponent)) {
+        return Double.NaN;
+      } else if (exponent < 0) {
+        result = result / POWERS_OF_TEN[-exponent];
+      } else {
+        result = result * POWERS_OF_TEN[exponent];
+      }
+    }
+    if (negative) {
+      return -result;
+    }
+    return result;
+  }
+
+  /**
+   * @param number the {@link CharSequence} to check.
+   * @param from the start index.
+   * @param to the end index.
+   * @param special {@code true} to also accept {@code NaN} and {@code Infinity}.
+   * @return {@code true} if the given range is a valid decimal number, {@code false} otherwise.
+   */
+  private static boolean isDecimal(CharSequence number, int from, int to, boolean special) {
+
+    int i = from;
+    char c = number.charAt(i);
+    if ((c == '-') || (c == '+')) {
+      i++;
+    }
+    if (special && ((to - i) == 3 || (to - i) == 8)) {
+      CharSequence rest = number.subSequence(i, to);
+      if ("Infinity".contentEquals(rest)) {
+        return true;
+      } else if ("NaN".contentEquals(rest)) {
+        return true;
+      }
+    }
+    int digits = 0;
+    boolean dot = false;
+    while (i < to) {
+      c = number.charAt(i);
+      if ((c >= '0') && (c <= '9')) {
+        digits++;
+      } else if ((c == '.') && !dot) {
+        dot = true;
+      } else {
+        break;
+      }
+      i++;
+    }
+    if (digits == 0) {
+      return false;
+    }
+    if (i < to) {
+      if ((c != 'e') && (c != 'E')) {
+        return false;
+      }
+      return isExponent(number, i + 1, to);
+    }
+    return true;
+  }
+
+  private static boolean isExponent(CharSequence number, int start, int to) {
+
+    int i = start;
+    if (i < to) {
+      char c = number.charAt(i);
+      if ((c == '-') || (c == '+')) {
+        i++;
+      }
+    }
+    if (i == to) {
+      return false;
+    }
+    while (i < to) {
+      char c = number.charAt(i++);
+      if ((c < '0') || (c > '9')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the given hexadecimal floating point number with {@code 0x} prefix as accepted by
+   *         {@link Double#parseDouble(String)} or {@code null} if invalid. Like for
+   *         {@link NumberType#parse(String, int)} a sign is not accepted as it would follow the prefix.
+   */
+  private static String toHex(CharSequence number, int from, int to) {
+
+    if (!isHex(number, from, to)) {
+      return null;
+    }
+    StringBuilder sb = new StringBuilder(to - from + 2);
+    sb.append("0x").append(number, from, to);
+    return sb.toString();
+  }
+
+  /**
+   * @return {@code true} if the given range is a hexadecimal number with a {@code 0x} (or {@code 0X}) prefix after the
+   *         optional sign as accepted by {@link Double#parseDouble(String)}, {@code false} otherwise.
+   */
+  private static boolean isPrefixedHex(CharSequence number, int from, int to) {
+
+    int i = from;
+    char c = number.charAt(i);
+    if ((c == '-') || (c == '+')) {
+      i++;
+    }
+    if ((to - i < 2) || (number.charAt(i) != '0')) {
+      return false;
+    }
+    c = number.charAt(i + 1);
+    return ((c == 'x') || (c == 'X')) && isHex(number, i + 2, to);
+  }
+
+  /**
+   * @return {@code true} if the given range contains hexadecimal digits with an optional dot followed by a binary
+   *         exponent (e.g. {@code 1.8p3}), {@code false} otherwise.
+   */
+  private static boolean isHex(CharSequence number, int from, int to) {
+
+    int i = from;
+    char c = 0;
+    int digits = 0;
+    boolean dot = false;
+    while (i < to) {
+      c = number.charAt(i);
+      if (digit(c, 16) >= 0) {
+        digits++;
+      } else if ((c == '.') && !dot) {
+        dot = true;
+      } else {
+        break;
+      }
+      i++;
+    }
+    return (digits > 0) && (i < to) && ((c == 'p') || (c == 'P')) && isExponent(number, i + 1, to);
+  }
+
+}
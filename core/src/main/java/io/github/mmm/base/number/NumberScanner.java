@@ -0,0 +1,474 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.number;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Cursor that scans numbers from a {@link CharSequence} without creating substrings. Each {@code scan} method reads the
+ * number at the current {@link #getIndex() index} and on success moves the index after the number so scanning can
+ * continue with the following text. The methods never throw on invalid input. Instead they return {@code 0} (or
+ * {@code null} for {@link BigDecimal}), leave the {@link #getIndex() index} unchanged, and set the
+ * {@link #getErrorIndex() error index}. <br>
+ * Supported syntax:
+ * <ul>
+ * <li>an optional sign ({@code +} or {@code -})</li>
+ * <li>for integers an optional radix prefix {@code 0x} (hexadecimal) or {@code 0b} (binary)</li>
+ * <li>for decimals an optional fraction ({@code .} followed by digits) and exponent (e.g. {@code e-3})</li>
+ * <li>an optional {@link #setGroupSeparator(char) group separator} between digits (e.g. {@code 1_000_000})</li>
+ * </ul>
+ * Only ASCII digits are accepted. An instance is not thread-safe but can be {@link #reset(CharSequence) reset} and
+ * reused.
+ *
+ * <pre>
+ * NumberScanner scanner = new NumberScanner("x=0x1F, y=1_000.5e3").setGroupSeparator('_');
+ * scanner.setIndex(2);
+ * long x = scanner.scanLong(); // 31
+ * scanner.setIndex(scanner.getIndex() + 4);
+ * double y = scanner.scanDouble(); // 1000500.0
+ * </pre>
+ *
+ * @see AsciiNumberParser
+ * @since 1.0.0
+ */
+public final class NumberScanner {
+
+  /** Digits are accumulated into the mantissa while it is below this limit (10^17) so it never overflows. */
+  private static final long MANTISSA_LIMIT = 100_000_000_000_000_000L;
+
+  /** Maximum mantissa of the {@code double} fast-path (2^53). */
+  private static final long DOUBLE_MAX_MANTISSA = 1L << 53;
+
+  /** Maximum absolute decimal exponent of the {@code double} fast-path. */
+  private static final int DOUBLE_MAX_EXPONENT = 22;
+
+  /** Absolute limit for exponents to prevent overflow (beyond any {@code double} or sane {@link BigDecimal}). */
+  private static final int MAX_EXPONENT = 1_000_000_000;
+
+  private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+  1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+  private CharSequence text;
+
+  private int index;
+
+  private int end;
+
+  private int errorIndex;
+
+  private char groupSeparator;
+
+  // result of scanDecimal
+  private boolean negative;
+
+  private long mantissa;
+
+  private long scale;
+
+  /** {@code true} if digits have been dropped from the mantissa. */
+  private boolean dropped;
+
+  /** {@code true} if non-zero digits have been dropped from the mantissa. */
+  private boolean truncated;
+
+  private int digitsStart;
+
+  private int numberEnd;
+
+  /**
+   * The constructor.
+   */
+  public NumberScanner() {
+
+    this("");
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param text the {@link CharSequence} to scan.
+   */
+  public NumberScanner(CharSequence text) {
+
+    super();
+    reset(text);
+  }
+
+  /**
+   * @param newText the new {@link CharSequence} to scan from the beginning to its end.
+   * @return this scanner for fluent API calls.
+   */
+  public NumberScanner reset(CharSequence newText) {
+
+    return reset(newText, 0, newText.length());
+  }
+
+  /**
+   * @param newText the new {@link CharSequence} to scan.
+   * @param from the index where to start scanning.
+   * @param to the index where to stop scanning (exclusive). Numbers never extend beyond this index.
+   * @return this scanner for fluent API calls.
+   */
+  public NumberScanner reset(CharSequence newText, int from, int to) {
+
+    Objects.checkFromToIndex(from, to, newText.length());
+    this.text = newText;
+    this.index = from;
+    this.end = to;
+    this.errorIndex = -1;
+    return this;
+  }
+
+  /**
+   * @return the current index where the next number will be scanned.
+   */
+  public int getIndex() {
+
+    return this.index;
+  }
+
+  /**
+   * @param index the new value of {@link #getIndex()}.
+   */
+  public void setIndex(int index) {
+
+    Objects.checkIndex(index, this.end + 1);
+    this.index = index;
+  }
+
+  /**
+   * @return the index of the end of the text to scan (exclusive).
+   */
+  public int getEnd() {
+
+    return this.end;
+  }
+
+  /**
+   * @return the index where the last {@code scan} method failed or {@code -1} if it succeeded.
+   */
+  public int getErrorIndex() {
+
+    return this.errorIndex;
+  }
+
+  /**
+   * @return {@code true} if the last {@code scan} method failed, {@code false} otherwise.
+   */
+  public boolean isError() {
+
+    return (this.errorIndex >= 0);
+  }
+
+  /**
+   * @return the group separator allowed between digits or {@code 0} if none.
+   */
+  public char getGroupSeparator() {
+
+    return this.groupSeparator;
+  }
+
+  /**
+   * @param groupSeparator the group separator allowed between two digits (e.g. {@code '_'} or {@code ','}) or
+   *        {@code 0} to disable.
+   * @return this scanner for fluent API calls.
+   */
+  public NumberScanner setGroupSeparator(char groupSeparator) {
+
+    this.groupSeparator = groupSeparator;
+    return this;
+  }
+
+  /**
+   * @return the scanned {@code int} value or {@code 0} in case of an {@link #isError() error} (including overflow).
+   */
+  public int scanInt() {
+
+    return (int) scanInteger(Integer.MAX_VALUE);
+  }
+
+  /**
+   * @return the scanned {@code long} value or {@code 0} in case of an {@link #isError() error} (including overflow).
+   */
+  public long scanLong() {
+
+    return scanInteger(Long.MAX_VALUE);
+  }
+
+  /**
+   * @return the scanned {@code double} value or {@code 0} in case of an {@link #isError() error}.
+   */
+  public double scanDouble() {
+
+    if (!scanDecimal()) {
+      return 0;
+    }
+    this.index = this.numberEnd;
+    if (this.mantissa == 0) {
+      return this.negative ? -0.0 : 0.0;
+    }
+    double result;
+    if (!this.truncated && (this.mantissa <= DOUBLE_MAX_MANTISSA) && (this.scale >= -DOUBLE_MAX_EXPONENT)
+        && (this.scale <= DOUBLE_MAX_EXPONENT)) {
+      // mantissa and power of ten are exact so the result is correctly rounded
+      result = this.mantissa;
+      if (this.scale < 0) {
+        result = result / POWERS_OF_TEN[(int) -this.scale];
+      } else {
+        result = result * POWERS_OF_TEN[(int) this.scale];
+      }
+    } else {
+      result = Double.parseDouble(toPlainString());
+    }
+    return this.negative ? -result : result;
+  }
+
+  /**
+   * @return the scanned {@link BigDecimal} value or {@code null} in case of an {@link #isError() error}.
+   */
+  public BigDecimal scanBigDecimal() {
+
+    int start = this.index;
+    if (!scanDecimal()) {
+      return null;
+    }
+    BigDecimal result;
+    if (!this.dropped && (this.scale > Integer.MIN_VALUE) && (this.scale <= Integer.MAX_VALUE)) {
+      long unscaled = this.negative ? -this.mantissa : this.mantissa;
+      result = BigDecimal.valueOf(unscaled, (int) -this.scale);
+    } else {
+      try {
+        result = new BigDecimal(toPlainString());
+      } catch (NumberFormatException e) {
+        // exponent overflow
+        this.errorIndex = start;
+        return null;
+      }
+      if (this.negative) {
+        result = result.negate();
+      }
+    }
+    this.index = this.numberEnd;
+    return result;
+  }
+
+  /**
+   * @return the value of the given ASCII digit or {@code -1} if not a valid digit for the given radix.
+   */
+  private static int digit(char c, int radix) {
+
+    if (c >= 128) {
+      return -1;
+    }
+    return NumberParser.digit(c, radix);
+  }
+
+  private char charAt(int i) {
+
+    return this.text.charAt(i);
+  }
+
+  private boolean isSeparator(int i, int radix) {
+
+    return (this.groupSeparator != 0) && (charAt(i) == this.groupSeparator) && (i + 1 < this.end)
+        && (digit(charAt(i + 1), radix) >= 0);
+  }
+
+  /**
+   * @param i the index to scan from.
+   * @return the index after an optional sign. Sets {@link #negative}.
+   */
+  private int scanSign(int i) {
+
+    this.negative = false;
+    if (i < this.end) {
+      char c = charAt(i);
+      if (c == '-') {
+        this.negative = true;
+        return i + 1;
+      } else if (c == '+') {
+        return i + 1;
+      }
+    }
+    return i;
+  }
+
+  /**
+   * @param max the maximum value ({@link Long#MAX_VALUE} or {@link Integer#MAX_VALUE}). The minimum value is
+   *        {@code -max - 1}.
+   * @return the scanned value.
+   */
+  private long scanInteger(long max) {
+
+    this.errorIndex = -1;
+    int start = this.index;
+    int i = scanSign(start);
+    int radix = 10;
+    if ((i + 2 < this.end) && (charAt(i) == '0')) {
+      char c = (char) (charAt(i + 1) | 0x20);
+      if (c == 'x') {
+        radix = 16;
+      } else if (c == 'b') {
+        radix = 2;
+      }
+      if ((radix != 10) && (digit(charAt(i + 2), radix) >= 0)) {
+        i += 2;
+      } else {
+        radix = 10;
+      }
+    }
+    // accumulate in negative space to support MIN_VALUE without overflow
+    long limit = this.negative ? -max - 1 : -max;
+    long multiplyMin = limit / radix;
+    long result = 0;
+    int digitsStart = i;
+    while (i < this.end) {
+      int digit = digit(charAt(i), radix);
+      if (digit < 0) {
+        if ((i > digitsStart) && isSeparator(i, radix)) {
+          i++;
+          continue;
+        }
+        break;
+      }
+      if (result < multiplyMin) {
+        return error(start);
+      }
+      result = result * radix;
+      if (result < limit + digit) {
+        return error(start);
+      }
+      result = result - digit;
+      i++;
+    }
+    if (i == digitsStart) {
+      return error(i);
+    }
+    this.index = i;
+    if (this.negative) {
+      return result;
+    }
+    return -result;
+  }
+
+  private long error(int i) {
+
+    this.errorIndex = i;
+    return 0;
+  }
+
+  /**
+   * Scans a decimal number at {@link #index} into {@link #negative}, {@link #mantissa}, {@link #scale},
+   * {@link #dropped}, {@link #truncated}, and {@link #numberEnd}.
+   *
+   * @return {@code true} if a number was found, {@code false} otherwise (and {@link #errorIndex} is set).
+   */
+  private boolean scanDecimal() {
+
+    this.errorIndex = -1;
+    this.mantissa = 0;
+    this.scale = 0;
+    this.dropped = false;
+    this.truncated = false;
+    int i = scanSign(this.index);
+    int integerStart = i;
+    this.digitsStart = i;
+    i = scanDigits(i, false);
+    boolean hasDigits = (i > integerStart);
+    if ((i + 1 < this.end) && (charAt(i) == '.') && (digit(charAt(i + 1), 10) >= 0)) {
+      i = scanDigits(i + 1, true);
+      hasDigits = true;
+    }
+    if (!hasDigits) {
+      this.errorIndex = i;
+      return false;
+    }
+    if ((i + 1 < this.end) && ((charAt(i) | 0x20) == 'e')) {
+      int e = i + 1;
+      boolean negativeExponent = false;
+      char c = charAt(e);
+      if (c == '-') {
+        negativeExponent = true;
+        e++;
+      } else if (c == '+') {
+        e++;
+      }
+      long exponent = 0;
+      int exponentStart = e;
+      while (e < this.end) {
+        int digit = digit(charAt(e), 10);
+        if (digit < 0) {
+          break;
+        }
+        exponent = Math.min(exponent * 10 + digit, MAX_EXPONENT);
+        e++;
+      }
+      if (e > exponentStart) {
+        if (exponent == MAX_EXPONENT) {
+          // force the exact slow-path
+          this.dropped = true;
+        }
+        if (negativeExponent) {
+          exponent = -exponent;
+        }
+        this.scale += exponent;
+        i = e;
+      }
+    }
+    this.numberEnd = i;
+    return true;
+  }
+
+  /**
+   * @param start the index where the digits start.
+   * @param fraction {@code true} for the digits after the decimal point, {@code false} for the integer part.
+   * @return the index after the digits.
+   */
+  private int scanDigits(int start, boolean fraction) {
+
+    int i = start;
+    while (i < this.end) {
+      int digit = digit(charAt(i), 10);
+      if (digit < 0) {
+        if ((i > start) && isSeparator(i, 10)) {
+          i++;
+          continue;
+        }
+        break;
+      }
+      if (this.mantissa < MANTISSA_LIMIT) {
+        this.mantissa = this.mantissa * 10 + digit;
+        if (fraction) {
+          this.scale--;
+        }
+      } else {
+        this.dropped = true;
+        if (digit != 0) {
+          this.truncated = true;
+        }
+        if (!fraction) {
+          this.scale++;
+        }
+      }
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * @return the scanned number from {@link #digitsStart} to {@link #numberEnd} without group separators.
+   */
+  private String toPlainString() {
+
+    StringBuilder sb = new StringBuilder(this.numberEnd - this.digitsStart);
+    for (int i = this.digitsStart; i < this.numberEnd; i++) {
+      char c = charAt(i);
+      if (c != this.groupSeparator) {
+        sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+}
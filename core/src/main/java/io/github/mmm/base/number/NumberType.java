@@ -2,9 +2,14 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package io.github.mmm.base.number;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.util.Objects;
 
+import io.github.mmm.base.exception.RuntimeIoException;
 import io.github.mmm.base.lang.ValueType;
 
 /**
@@ -42,6 +47,23 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
       return Byte.valueOf(number, radix);
     }
 
+    @Override
+    public Byte tryParse(CharSequence number, int from, int to, int radix) {
+
+      long value = NumberParser.parseInt(number, from, to, radix, Byte.MIN_VALUE, Byte.MAX_VALUE);
+      if (value == NumberParser.INVALID_INT) {
+        return null;
+      }
+      return Byte.valueOf((byte) value);
+    }
+
+    @Override
+    Byte fromLong(long value) {
+
+      // like Double.byteValue(): saturate to int and then wrap around
+      return Byte.valueOf((byte) Math.clamp(value, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
   };
 
   /** The {@link NumberType} for {@link Short}. */
@@ -66,6 +88,23 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
       return Short.valueOf(number, radix);
     }
 
+    @Override
+    public Short tryParse(CharSequence number, int from, int to, int radix) {
+
+      long value = NumberParser.parseInt(number, from, to, radix, Short.MIN_VALUE, Short.MAX_VALUE);
+      if (value == NumberParser.INVALID_INT) {
+        return null;
+      }
+      return Short.valueOf((short) value);
+    }
+
+    @Override
+    Short fromLong(long value) {
+
+      // like Double.shortValue(): saturate to int and then wrap around
+      return Short.valueOf((short) Math.clamp(value, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
   };
 
   /** The {@link NumberType} for {@link Integer}. */
@@ -90,6 +129,22 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
       return Integer.valueOf(number, radix);
     }
 
+    @Override
+    public Integer tryParse(CharSequence number, int from, int to, int radix) {
+
+      long value = NumberParser.parseInt(number, from, to, radix, Integer.MIN_VALUE, Integer.MAX_VALUE);
+      if (value == NumberParser.INVALID_INT) {
+        return null;
+      }
+      return Integer.valueOf((int) value);
+    }
+
+    @Override
+    Integer fromLong(long value) {
+
+      return Integer.valueOf(Math.clamp(value, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
   };
 
   /** The {@link NumberType} for {@link Long}. */
@@ -114,6 +169,18 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
       return Long.valueOf(number, radix);
     }
 
+    @Override
+    public Long tryParse(CharSequence number, int from, int to, int radix) {
+
+      return NumberParser.parseLong(number, from, to, radix);
+    }
+
+    @Override
+    Long fromLong(long value) {
+
+      return Long.valueOf(value);
+    }
+
     public String format(Long number, int radix) {
 
       if (number == null) {
@@ -152,6 +219,18 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
       return Float.valueOf(number);
     }
 
+    @Override
+    public Float tryParse(CharSequence number, int from, int to, int radix) {
+
+      return NumberParser.parseFloat(number, from, to, radix);
+    }
+
+    @Override
+    Float fromDouble(double value) {
+
+      return Float.valueOf((float) value);
+    }
+
     public String format(Float number, int radix) {
 
       if (number == null) {
@@ -166,6 +245,16 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
       }
     }
 
+    @Override
+    public void formatTo(Float number, int radix, Appendable appendable) {
+
+      if ((number != null) && (radix == 10)) {
+        NumberFormatter.append(number.floatValue(), appendable);
+      } else {
+        super.formatTo(number, radix, appendable);
+      }
+    }
+
   };
 
   /** The {@link NumberType} for {@link Double}. */
@@ -213,6 +302,18 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
       return Double.valueOf(number);
     }
 
+    @Override
+    public Double tryParse(CharSequence number, int from, int to, int radix) {
+
+      return NumberParser.parseDouble(number, from, to, radix);
+    }
+
+    @Override
+    Double fromDouble(double value) {
+
+      return Double.valueOf(value);
+    }
+
     public String format(Double number, int radix) {
 
       if (number == null) {
@@ -227,6 +328,16 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
       }
     }
 
+    @Override
+    public void formatTo(Double number, int radix, Appendable appendable) {
+
+      if ((number != null) && (radix == 10)) {
+        NumberFormatter.append(number.doubleValue(), appendable);
+      } else {
+        super.formatTo(number, radix, appendable);
+      }
+    }
+
   };
 
   /** The {@link NumberType} for {@link BigInteger}. */
@@ -251,23 +362,41 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
       return new BigInteger(number, radix);
     }
 
+    @Override
+    public BigInteger tryParse(CharSequence number, int from, int to, int radix) {
+
+      return NumberParser.parseBigInteger(number, from, to, radix);
+    }
+
     BigInteger doAdd(Number summand1, Number summand2) {
 
+      if (isBigIntegral(summand1) && isBigIntegral(summand2)) {
+        return toBigInteger(summand1).add(toBigInteger(summand2));
+      }
       return toBigDecimal(summand1).add(toBigDecimal(summand2)).toBigInteger();
     }
 
     BigInteger doSubtract(Number minuend, Number subtrahend) {
 
+      if (isBigIntegral(minuend) && isBigIntegral(subtrahend)) {
+        return toBigInteger(minuend).subtract(toBigInteger(subtrahend));
+      }
       return toBigDecimal(minuend).subtract(toBigDecimal(subtrahend)).toBigInteger();
     }
 
     BigInteger doMultiply(Number multiplier, Number multiplicand) {
 
+      if (isBigIntegral(multiplier) && isBigIntegral(multiplicand)) {
+        return toBigInteger(multiplier).multiply(toBigInteger(multiplicand));
+      }
       return toBigDecimal(multiplier).multiply(toBigDecimal(multiplicand)).toBigInteger();
     }
 
     BigInteger doDivide(Number dividend, Number divisor) {
 
+      if (isBigIntegral(dividend) && isBigIntegral(divisor)) {
+        return toBigInteger(dividend).divide(toBigInteger(divisor));
+      }
       return toBigDecimal(dividend).divide(toBigDecimal(divisor)).toBigInteger();
     }
 
@@ -279,6 +408,16 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
       return number.toString(radix);
     }
 
+    @Override
+    public void formatTo(BigInteger number, int radix, Appendable appendable) {
+
+      if ((number != null) && (number.bitLength() < 64)) {
+        NumberFormatter.append(number.longValue(), radix, appendable);
+      } else {
+        super.formatTo(number, radix, appendable);
+      }
+    }
+
   };
 
   /** The {@link NumberType} for {@link BigDecimal}. */
@@ -299,6 +438,15 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
       return new BigDecimal(number);
     }
 
+    @Override
+    public BigDecimal tryParse(CharSequence number, int from, int to, int radix) {
+
+      if (radix != 10) {
+        throw illegalRadixException(radix);
+      }
+      return NumberParser.parseBigDecimal(number, from, to);
+    }
+
     BigDecimal doAdd(Number summand1, Number summand2) {
 
       return toBigDecimal(summand1).add(toBigDecimal(summand2));
@@ -331,6 +479,8 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
     }
   };
 
+  private static final int LONG_EXACTNESS = 4;
+
   private static final NumberType<?>[] TYPES = { null, BYTE, SHORT, INTEGER, LONG, FLOAT, DOUBLE, BIG_INTEGER,
   BIG_DECIMAL };
 
@@ -502,6 +652,49 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
    */
   public abstract N parse(String number, int radix) throws NumberFormatException;
 
+  /**
+   * @param number the {@link CharSequence} to parse.
+   * @return the parsed number of the according {@link #getType() type} or {@code null} if the given {@code number} is
+   *         {@code null} or has an invalid format for this {@link #getType() type}.
+   * @see #tryParse(CharSequence, int, int, int)
+   */
+  public N tryParse(CharSequence number) {
+
+    if (number == null) {
+      return null;
+    }
+    return tryParse(number, 0, number.length(), 10);
+  }
+
+  /**
+   * Like {@link #parse(String, int)} but returns {@code null} instead of throwing a {@link NumberFormatException} for
+   * invalid input. This is significantly faster in case invalid input is common (e.g. when detecting the type of
+   * values) as no exception is created. The standard {@link NumberType}s parse the digits without creating
+   * intermediate objects. Unlike {@link #parse(String, int)} no type suffixes (e.g. {@code 1.5f}) or surrounding
+   * whitespaces are accepted for {@link #FLOAT} and {@link #DOUBLE}.
+   *
+   * @param number the {@link CharSequence} containing the number to parse.
+   * @param from the index of the first character to parse.
+   * @param to the index after the last character to parse.
+   * @param radix the radix. Typically {@code 10} for decimal format, may be {@code 16} for hex, etc.
+   * @return the parsed number of the according {@link #getType() type} or {@code null} if the given {@code number} is
+   *         {@code null} or the given range has an invalid format for this {@link #getType() type} (including
+   *         overflow).
+   * @throws IndexOutOfBoundsException if the given range is out of the bounds of {@code number}.
+   * @throws IllegalArgumentException if the given {@code radix} is not supported.
+   */
+  public N tryParse(CharSequence number, int from, int to, int radix) {
+
+    if (number == null) {
+      return null;
+    }
+    try {
+      return parse(number.subSequence(from, to).toString(), radix);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
   /**
    * @param number the {@link Number} to format a {@link String}.
    * @param radix the radix. Typically {@code 10} for decimal format, may be {@code 16} for hex, etc.
@@ -522,6 +715,78 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
     return Integer.toString(number.intValue(), radix);
   }
 
+  /**
+   * Same as {@link #format(Number, int)} but appends the result to the given {@link Appendable}. For integral types,
+   * {@link #FLOAT} and {@link #DOUBLE} the characters are computed directly without creating an intermediate
+   * {@link String} and written in place if the {@link Appendable} is a {@link StringBuilder}.
+   *
+   * @param number the {@link Number} to format. If {@code null} nothing is appended.
+   * @param radix the radix. Typically {@code 10} for decimal format, may be {@code 16} for hex, etc.
+   * @param appendable the {@link Appendable} where to append the formatted {@code number}.
+   * @throws IllegalArgumentException if the given {@code radix} is not supported.
+   * @see #format(Number, int)
+   */
+  public void formatTo(N number, int radix, Appendable appendable) throws IllegalArgumentException {
+
+    if (number == null) {
+      return;
+    }
+    if ((this.exactness <= LONG_EXACTNESS) && isIntegral(number)) {
+      NumberFormatter.append(number.longValue(), radix, appendable);
+    } else {
+      try {
+        appendable.append(format(number, radix));
+      } catch (IOException e) {
+        throw new RuntimeIoException(e);
+      }
+    }
+  }
+
+  /**
+   * Writes the given {@code value} in decimal format as ASCII characters to the given {@code buffer} with the same
+   * result as {@link Long#toString(long)} but without creating a {@link String}.
+   *
+   * @param value the {@code long} value to format.
+   * @param buffer the {@code byte} array where to write the ASCII characters. Needs space for up to 20 characters.
+   * @param offset the index in {@code buffer} where to start writing.
+   * @return the index after the last written character.
+   * @throws IndexOutOfBoundsException if the {@code buffer} is too small.
+   */
+  public static int formatTo(long value, byte[] buffer, int offset) {
+
+    return NumberFormatter.format(value, buffer, offset);
+  }
+
+  /**
+   * Writes the given {@code value} as ASCII characters to the given {@code buffer} with the same result as
+   * {@link Double#toString(double)}. Values in plain notation with up to 17 decimal places (e.g. {@code 0.1} or
+   * {@code 42.75}) are formatted without creating a {@link String}.
+   *
+   * @param value the {@code double} value to format.
+   * @param buffer the {@code byte} array where to write the ASCII characters. Needs space for up to 24 characters.
+   * @param offset the index in {@code buffer} where to start writing.
+   * @return the index after the last written character.
+   * @throws IndexOutOfBoundsException if the {@code buffer} is too small.
+   */
+  public static int formatTo(double value, byte[] buffer, int offset) {
+
+    return NumberFormatter.format(value, buffer, offset);
+  }
+
+  /**
+   * @param value the {@code float} value to format.
+   * @param buffer the {@code byte} array where to write the ASCII characters. Needs space for up to 15 characters.
+   * @param offset the index in {@code buffer} where to start writing.
+   * @return the index after the last written character.
+   * @throws IndexOutOfBoundsException if the {@code buffer} is too small.
+   * @see #formatTo(double, byte[], int)
+   * @see Float#toString(float)
+   */
+  public static int formatTo(float value, byte[] buffer, int offset) {
+
+    return NumberFormatter.format(value, buffer, offset);
+  }
+
   /**
    * <b>ATTENTION</b>:<br>
    * We define the minimum value as the smallest actual number that can be represented by this {@link NumberType}.
@@ -605,7 +870,10 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
 
   N doAdd(Number summand1, Number summand2) {
 
-    return valueOf(Double.valueOf(summand1.doubleValue() + summand2.doubleValue()));
+    if ((this.exactness <= LONG_EXACTNESS) && isIntegral(summand1) && isIntegral(summand2)) {
+      return fromLong(addLong(summand1.longValue(), summand2.longValue()));
+    }
+    return fromDouble(addDouble(summand1.doubleValue(), summand2.doubleValue()));
   }
 
   /**
@@ -626,7 +894,10 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
 
   N doSubtract(Number minuend, Number subtrahend) {
 
-    return valueOf(Double.valueOf(minuend.doubleValue() - subtrahend.doubleValue()));
+    if ((this.exactness <= LONG_EXACTNESS) && isIntegral(minuend) && isIntegral(subtrahend)) {
+      return fromLong(subtractLong(minuend.longValue(), subtrahend.longValue()));
+    }
+    return fromDouble(subtractDouble(minuend.doubleValue(), subtrahend.doubleValue()));
   }
 
   /**
@@ -647,7 +918,10 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
 
   N doMultiply(Number multiplier, Number multiplicand) {
 
-    return valueOf(Double.valueOf(multiplier.doubleValue() * multiplicand.doubleValue()));
+    if ((this.exactness <= LONG_EXACTNESS) && isIntegral(multiplier) && isIntegral(multiplicand)) {
+      return fromLong(multiplyLong(multiplier.longValue(), multiplicand.longValue()));
+    }
+    return fromDouble(multiplyDouble(multiplier.doubleValue(), multiplicand.doubleValue()));
   }
 
   /**
@@ -668,7 +942,148 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
 
   N doDivide(Number dividend, Number divisor) {
 
-    return valueOf(Double.valueOf(dividend.doubleValue() / divisor.doubleValue()));
+    if ((this.exactness <= LONG_EXACTNESS) && isIntegral(dividend) && isIntegral(divisor)) {
+      return fromLong(divideLong(dividend.longValue(), divisor.longValue()));
+    }
+    return fromDouble(divideDouble(dividend.doubleValue(), divisor.doubleValue()));
+  }
+
+  /**
+   * @param value the {@code long} value.
+   * @return the given {@code value} as {@link #getType() type} converted like the according {@code double} via
+   *         {@link #valueOf(Number)}: {@code int} and {@code long} are clamped to the {@link #getMin() minimum} and
+   *         {@link #getMax() maximum} while {@code byte} and {@code short} are clamped to the {@code int} range and
+   *         then wrap around.
+   */
+  N fromLong(long value) {
+
+    return valueOf(Long.valueOf(value));
+  }
+
+  /**
+   * @param value the {@code double} value.
+   * @return the given {@code value} as {@link #getType() type}.
+   */
+  N fromDouble(double value) {
+
+    return valueOf(Double.valueOf(value));
+  }
+
+  /**
+   * @param summand1 the first summand.
+   * @param summand2 the second summand.
+   * @return the sum of the given summands. In case of an overflow the result is saturated to {@link Long#MIN_VALUE}
+   *         or {@link Long#MAX_VALUE} (what is consistent with {@link #add(Number, Number)}).
+   * @see Math#addExact(long, long)
+   */
+  public static long addLong(long summand1, long summand2) {
+
+    long sum = summand1 + summand2;
+    // overflow if both summands have the same sign and the sum has the opposite sign (see Math.addExact)
+    if (((summand1 ^ sum) & (summand2 ^ sum)) < 0) {
+      return saturate(summand1);
+    }
+    return sum;
+  }
+
+  /**
+   * @param minuend the value to be subtracted.
+   * @param subtrahend the value to subtract.
+   * @return the difference of the {@code minuend} and the {@code subtrahend}. In case of an overflow the result is
+   *         saturated to {@link Long#MIN_VALUE} or {@link Long#MAX_VALUE}.
+   * @see Math#subtractExact(long, long)
+   */
+  public static long subtractLong(long minuend, long subtrahend) {
+
+    long difference = minuend - subtrahend;
+    if (((minuend ^ subtrahend) & (minuend ^ difference)) < 0) {
+      return saturate(minuend);
+    }
+    return difference;
+  }
+
+  /**
+   * @param multiplier the first factor.
+   * @param multiplicand the second factor.
+   * @return the product of the given factors. In case of an overflow the result is saturated to {@link Long#MIN_VALUE}
+   *         or {@link Long#MAX_VALUE}.
+   * @see Math#multiplyExact(long, long)
+   */
+  public static long multiplyLong(long multiplier, long multiplicand) {
+
+    long product = multiplier * multiplicand;
+    if (Math.multiplyHigh(multiplier, multiplicand) != (product >> 63)) {
+      return saturate(multiplier ^ multiplicand);
+    }
+    return product;
+  }
+
+  /**
+   * @param dividend the value to be divided.
+   * @param divisor the value to divide by.
+   * @return the quotient of the given values rounded towards zero. Dividing by zero is saturated to
+   *         {@link Long#MIN_VALUE} or {@link Long#MAX_VALUE} according to the sign of the {@code dividend} or is
+   *         {@code 0} if the {@code dividend} is also {@code 0}.
+   */
+  public static long divideLong(long dividend, long divisor) {
+
+    if (divisor == 0) {
+      if (dividend == 0) {
+        return 0;
+      }
+      return saturate(dividend);
+    } else if ((divisor == -1) && (dividend == Long.MIN_VALUE)) {
+      return Long.MAX_VALUE;
+    }
+    return dividend / divisor;
+  }
+
+  private static long saturate(long sign) {
+
+    if (sign < 0) {
+      return Long.MIN_VALUE;
+    }
+    return Long.MAX_VALUE;
+  }
+
+  /**
+   * @param summand1 the first summand.
+   * @param summand2 the second summand.
+   * @return the sum of the given summands.
+   */
+  public static double addDouble(double summand1, double summand2) {
+
+    return summand1 + summand2;
+  }
+
+  /**
+   * @param minuend the value to be subtracted.
+   * @param subtrahend the value to subtract.
+   * @return the difference of the {@code minuend} and the {@code subtrahend}.
+   */
+  public static double subtractDouble(double minuend, double subtrahend) {
+
+    return minuend - subtrahend;
+  }
+
+  /**
+   * @param multiplier the first factor.
+   * @param multiplicand the second factor.
+   * @return the product of the given factors.
+   */
+  public static double multiplyDouble(double multiplier, double multiplicand) {
+
+    return multiplier * multiplicand;
+  }
+
+  /**
+   * @param dividend the value to be divided.
+   * @param divisor the value to divide by.
+   * @return the quotient of the given values.
+   */
+  public static double divideDouble(double dividend, double divisor) {
+
+    return dividend / divisor;
   }
 
   /**
@@ -917,6 +1332,269 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
     return isGreaterEqual(number, getZero());
   }
 
+  /**
+   * Sums the given {@code long} values. For {@link #isDecimal() non-decimal} types the sum is computed exactly and only
+   * converted at the end like the result of {@link #add(Number, Number)} (or converted exactly for {@link #BIG_INTEGER}
+   * and {@link #BIG_DECIMAL}).
+   *
+   * @param column the array with the values to sum.
+   * @param from the index of the first value.
+   * @param to the index after the last value.
+   * @return the sum of the values in the given range as {@link #getType() type}.
+   */
+  public N sum(long[] column, int from, int to) {
+
+    Objects.checkFromToIndex(from, to, column.length);
+    long[] sum = NumberKernels.sum(column, from, to);
+    return fromSum(sum[0], sum[1]);
+  }
+
+  /**
+   * @param column the {@link LongBuffer} with the values to sum from its {@link LongBuffer#position() position} to its
+   *        {@link LongBuffer#limit() limit}. May be a direct (off-heap) buffer. Its position is not modified.
+   * @return the sum of the values as {@link #getType() type}.
+   * @see #sum(long[], int, int)
+   */
+  public N sum(LongBuffer column) {
+
+    long[] sum = NumberKernels.sum(column);
+    return fromSum(sum[0], sum[1]);
+  }
+
+  private N fromSum(long low, long high) {
+
+    if (NumberKernels.isLong(low, high)) {
+      return fromLong(low);
+    } else if (this.exactness <= LONG_EXACTNESS) {
+      return fromLong(saturate(high));
+    }
+    return valueOf(NumberKernels.toBigInteger(low, high));
+  }
+
+  /**
+   * Sums the given {@code double} values with compensated (Kahan) summation to minimize rounding errors.
+   *
+   * @param column the array with the values to sum.
+   * @param from the index of the first value.
+   * @param to the index after the last value.
+   * @return the sum of the values in the given range as {@link #getType() type}.
+   */
+  public N sum(double[] column, int from, int to) {
+
+    Objects.checkFromToIndex(from, to, column.length);
+    return fromDouble(NumberKernels.sum(column, from, to));
+  }
+
+  /**
+   * @param column the {@link DoubleBuffer} with the values to sum from its {@link DoubleBuffer#position() position} to
+   *        its {@link DoubleBuffer#limit() limit}. May be a direct (off-heap) buffer. Its position is not modified.
+   * @return the sum of the values as {@link #getType() type}.
+   * @see #sum(double[], int, int)
+   */
+  public N sum(DoubleBuffer column) {
+
+    return fromDouble(NumberKernels.sum(column));
+  }
+
+  /**
+   * @param column the array with the values.
+   * @param from the index of the first value.
+   * @param to the index after the last value.
+   * @return the minimum of the values in the given range as {@link #getType() type} or {@code null} if the range is
+   *         empty.
+   */
+  public N min(long[] column, int from, int to) {
+
+    Objects.checkFromToIndex(from, to, column.length);
+    if (from == to) {
+      return null;
+    }
+    return fromLong(NumberKernels.min(column, from, to));
+  }
+
+  /**
+   * @param column the {@link LongBuffer} with the values from its {@link LongBuffer#position() position} to its
+   *        {@link LongBuffer#limit() limit}.
+   * @return the minimum of the values as {@link #getType() type} or {@code null} if the buffer has no remaining values.
+   */
+  public N min(LongBuffer column) {
+
+    if (!column.hasRemaining()) {
+      return null;
+    }
+    return fromLong(NumberKernels.min(column));
+  }
+
+  /**
+   * @param column the array with the values.
+   * @param from the index of the first value.
+   * @param to the index after the last value.
+   * @return the minimum of the values in the given range as {@link #getType() type} or {@code null} if the range is
+   *         empty. If any value is {@link Double#NaN NaN} the result is {@link Double#NaN NaN}.
+   * @see Math#min(double, double)
+   */
+  public N min(double[] column, int from, int to) {
+
+    Objects.checkFromToIndex(from, to, column.length);
+    if (from == to) {
+      return null;
+    }
+    return fromDouble(NumberKernels.min(column, from, to));
+  }
+
+  /**
+   * @param column the {@link DoubleBuffer} with the values from its {@link DoubleBuffer#position() position} to its
+   *        {@link DoubleBuffer#limit() limit}.
+   * @return the minimum of the values as {@link #getType() type} or {@code null} if the buffer has no remaining values.
+   */
+  public N min(DoubleBuffer column) {
+
+    if (!column.hasRemaining()) {
+      return null;
+    }
+    return fromDouble(NumberKernels.min(column));
+  }
+
+  /**
+   * @param column the array with the values.
+   * @param from the index of the first value.
+   * @param to the index after the last value.
+   * @return the maximum of the values in the given range as {@link #getType() type} or {@code null} if the range is
+   *         empty.
+   */
+  public N max(long[] column, int from, int to) {
+
+    Objects.checkFromToIndex(from, to, column.length);
+    if (from == to) {
+      return null;
+    }
+    return fromLong(NumberKernels.max(column, from, to));
+  }
+
+  /**
+   * @param column the {@link LongBuffer} with the values from its {@link LongBuffer#position() position} to its
+   *        {@link LongBuffer#limit() limit}.
+   * @return the maximum of the values as {@link #getType() type} or {@code null} if the buffer has no remaining values.
+   */
+  public N max(LongBuffer column) {
+
+    if (!column.hasRemaining()) {
+      return null;
+    }
+    return fromLong(NumberKernels.max(column));
+  }
+
+  /**
+   * @param column the array with the values.
+   * @param from the index of the first value.
+   * @param to the index after the last value.
+   * @return the maximum of the values in the given range as {@link #getType() type} or {@code null} if the range is
+   *         empty. If any value is {@link Double#NaN NaN} the result is {@link Double#NaN NaN}.
+   * @see Math#max(double, double)
+   */
+  public N max(double[] column, int from, int to) {
+
+    Objects.checkFromToIndex(from, to, column.length);
+    if (from == to) {
+      return null;
+    }
+    return fromDouble(NumberKernels.max(column, from, to));
+  }
+
+  /**
+   * @param column the {@link DoubleBuffer} with the values from its {@link DoubleBuffer#position() position} to its
+   *        {@link DoubleBuffer#limit() limit}.
+   * @return the maximum of the values as {@link #getType() type} or {@code null} if the buffer has no remaining values.
+   */
+  public N max(DoubleBuffer column) {
+
+    if (!column.hasRemaining()) {
+      return null;
+    }
+    return fromDouble(NumberKernels.max(column));
+  }
+
+  /**
+   * Compares all values of the given range with the given {@code value}. Unlike the other column operations this is
+   * independent of a {@link NumberType} as it operates on the primitive values as given.
+   *
+   * @param column the array with the values to compare.
+   * @param from the index of the first value.
+   * @param to the index after the last value.
+   * @param value the value to compare with.
+   * @param result the array where to store the result of {@link Long#compare(long, long) comparing} each value in the
+   *        given range with the given {@code value} as {@code -1}, {@code 0}, or {@code 1} starting at index {@code 0}.
+   */
+  public static void compareAll(long[] column, int from, int to, long value, byte[] result) {
+
+    Objects.checkFromToIndex(from, to, column.length);
+    Objects.checkFromIndexSize(0, to - from, result.length);
+    for (int i = from; i < to; i++) {
+      result[i - from] = (byte) Long.compare(column[i], value);
+    }
+  }
+
+  /**
+   * Compares all values of the given range with the given {@code value}. Unlike the other column operations this is
+   * independent of a {@link NumberType} as it operates on the primitive values as given.
+   *
+   * @param column the array with the values to compare.
+   * @param from the index of the first value.
+   * @param to the index after the last value.
+   * @param value the value to compare with.
+   * @param result the array where to store the result of {@link Double#compare(double, double) comparing} each value
+   *        in the given range with the given {@code value} as {@code -1}, {@code 0}, or {@code 1} starting at index
+   *        {@code 0}.
+   */
+  public static void compareAll(double[] column, int from, int to, double value, byte[] result) {
+
+    Objects.checkFromToIndex(from, to, column.length);
+    Objects.checkFromIndexSize(0, to - from, result.length);
+    for (int i = from; i < to; i++) {
+      result[i - from] = (byte) Integer.signum(Double.compare(column[i], value));
+    }
+  }
+
+  /**
+   * {@link #wrap(Number, Number, Number) Wraps} all values of the given range in place. Unlike
+   * {@link #wrap(Number, Number, Number)} this is independent of a {@link NumberType} as it operates on the primitive
+   * values as given so the result is not narrowed to any {@link #getType() type}.
+   *
+   * @param column the array with the values to wrap.
+   * @param from the index of the first value.
+   * @param to the index after the last value.
+   * @param minimum the minimum allowed value.
+   * @param maximum the maximum allowed value.
+   * @see #wrap(Number, Number, Number)
+   */
+  public static void wrapAll(long[] column, int from, int to, long minimum, long maximum) {
+
+    Objects.checkFromToIndex(from, to, column.length);
+    for (int i = from; i < to; i++) {
+      column[i] = NumberKernels.wrap(column[i], minimum, maximum);
+    }
+  }
+
+  /**
+   * {@link #wrap(Number, Number, Number) Wraps} all values of the given range in place. Unlike
+   * {@link #wrap(Number, Number, Number)} this is independent of a {@link NumberType} as it operates on the primitive
+   * values as given so the result is not narrowed to any {@link #getType() type}.
+   *
+   * @param column the array with the values to wrap.
+   * @param from the index of the first value.
+   * @param to the index after the last value.
+   * @param minimum the minimum allowed value.
+   * @param maximum the maximum allowed value.
+   * @see #wrap(Number, Number, Number)
+   */
+  public static void wrapAll(double[] column, int from, int to, double minimum, double maximum) {
+
+    Objects.checkFromToIndex(from, to, column.length);
+    for (int i = from; i < to; i++) {
+      column[i] = NumberKernels.wrap(column[i], minimum, maximum);
+    }
+  }
+
   private static IllegalArgumentException illegalRadixException(int radix) {
 
     throw new IllegalArgumentException("Radix " + radix + " is not supported.");
@@ -928,6 +1606,34 @@ public abstract class NumberType<N extends Number> extends ValueType<N> {
     return this.type.getSimpleName();
   }
 
+  /**
+   * @param number the {@link Number} to check.
+   * @return {@code true} if the given {@link Number} is a {@link Long}, {@link Integer}, {@link Short}, or
+   *         {@link Byte} and can therefore be computed exactly as {@code long}.
+   */
+  private static boolean isIntegral(Number number) {
+
+    return (number instanceof Long) || (number instanceof Integer) || (number instanceof Short)
+        || (number instanceof Byte);
+  }
+
+  /**
+   * @param number the {@link Number} to check.
+   * @return {@code true} if the given {@link Number} is {@link #isIntegral(Number) integral} or a {@link BigInteger}.
+   */
+  private static boolean isBigIntegral(Number number) {
+
+    return isIntegral(number) || (number instanceof BigInteger);
+  }
+
+  private static BigInteger toBigInteger(Number number) {
+
+    if (number instanceof BigInteger) {
+      return (BigInteger) number;
+    }
+    return BigInteger.valueOf(number.longValue());
+  }
+
   private static BigDecimal toBigDecimal(Number number) {
 
     if (number instanceof BigDecimal) {
@@ -2,7 +2,12 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package io.github.mmm.base.text;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.util.Locale;
+import java.util.Objects;
 
 /**
  * Represents the different character cases and allows {@link #convert(String) conversion}.
@@ -16,22 +21,7 @@ public enum CaseConversion {
     @Override
     public void append(StringBuilder sb, String text) {
 
-      int len = text.length();
-      int i = 0;
-      while (i < len) {
-        int cp = text.codePointAt(i);
-        if ((cp >= 'A') && (cp <= 'Z')) {
-          cp += 32; // A = 65, a = 97 (65+32)
-        } else if ((cp < 0) || (cp > 256)) {
-          cp = Character.toLowerCase(cp);
-        }
-        sb.appendCodePoint(cp);
-        if (cp > 0x010000) {
-          i = i + 2;
-        } else {
-          i++;
-        }
-      }
+      appendConverted(sb, text, false);
     }
   },
 
@@ -40,22 +30,7 @@ public enum CaseConversion {
     @Override
     public void append(StringBuilder sb, String text) {
 
-      int len = text.length();
-      int i = 0;
-      while (i < len) {
-        int cp = text.codePointAt(i);
-        if ((cp >= 'a') && (cp <= 'z')) {
-          cp -= 32; // a = 97, A = 65 (97-32)
-        } else if ((cp < 0) || (cp > 256)) {
-          cp = Character.toUpperCase(cp);
-        }
-        sb.appendCodePoint(cp);
-        if (cp > 0x010000) {
-          i = i + 2;
-        } else {
-          i++;
-        }
-      }
+      appendConverted(sb, text, true);
     }
   },
 
@@ -75,6 +50,23 @@ public enum CaseConversion {
    */
   public static final char EXAMPLE_CHAR_FOR_ORIGINAL_CASE = '$';
 
+  private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /** Every byte set to {@code 0x80}. */
+  private static final long HIGH = 0x8080808080808080L;
+
+  /** {@code 0x80 - 'A'} in every byte so the high bit of an ASCII lane is set after addition if {@code >= 'A'}. */
+  private static final long UPPER_MIN = 0x3F3F3F3F3F3F3F3FL;
+
+  /** {@code 0x80 - 'Z' - 1} in every byte so the high bit of an ASCII lane is set after addition if {@code > 'Z'}. */
+  private static final long UPPER_MAX = 0x2525252525252525L;
+
+  /** {@code 0x80 - 'a'} in every byte so the high bit of an ASCII lane is set after addition if {@code >= 'a'}. */
+  private static final long LOWER_MIN = 0x1F1F1F1F1F1F1F1FL;
+
+  /** {@code 0x80 - 'z' - 1} in every byte so the high bit of an ASCII lane is set after addition if {@code > 'z'}. */
+  private static final long LOWER_MAX = 0x0505050505050505L;
+
   /**
    * @param string the original {@link String}.
    * @return the converted {@link String}.
@@ -94,6 +86,12 @@ public enum CaseConversion {
     if (string == null) {
       return null;
     }
+    if ((this != ORIGINAL_CASE) && isStandard(locale)) {
+      String ascii = convertAscii(string);
+      if (ascii != null) {
+        return ascii;
+      }
+    }
     switch (this) {
       case LOWER_CASE:
         return CaseHelper.toLowerCase(string, locale);
@@ -105,6 +103,145 @@ public enum CaseConversion {
     }
   }
 
+  /**
+   * @param string the {@link String} to convert.
+   * @return the converted {@link String} (the given instance if unchanged) or {@code null} if the given {@link String}
+   *         is not entirely ASCII.
+   */
+  private String convertAscii(String string) {
+
+    int length = string.length();
+    int first = -1;
+    for (int i = 0; i < length; i++) {
+      char c = string.charAt(i);
+      if (c >= 0x80) {
+        return null;
+      } else if ((first < 0) && isAsciiToConvert(c)) {
+        first = i;
+      }
+    }
+    if (first < 0) {
+      return string;
+    }
+    char[] chars = string.toCharArray();
+    for (int i = first; i < length; i++) {
+      if (isAsciiToConvert(chars[i])) {
+        chars[i] ^= 0x20;
+      }
+    }
+    return new String(chars);
+  }
+
+  private boolean isAsciiToConvert(char c) {
+
+    if (this == LOWER_CASE) {
+      return (c >= 'A') && (c <= 'Z');
+    } else {
+      return (c >= 'a') && (c <= 'z');
+    }
+  }
+
+  /**
+   * Converts the given Latin-1 encoded bytes in place. ASCII data is converted 8 bytes at once. Latin-1 characters
+   * whose case counterpart is not a Latin-1 character (e.g. {@code 'ß'} or {@code 'ÿ'} for {@link #UPPER_CASE}) are
+   * kept unchanged.
+   *
+   * @param latin1 the Latin-1 (or ASCII) encoded bytes to convert.
+   * @param offset the index of the first byte to convert.
+   * @param length the number of bytes to convert.
+   * @return {@code true} if at least one byte has been changed, {@code false} otherwise.
+   */
+  public boolean convert(byte[] latin1, int offset, int length) {
+
+    Objects.checkFromIndexSize(offset, length, latin1.length);
+    if (this == ORIGINAL_CASE) {
+      return false;
+    }
+    boolean upper = (this == UPPER_CASE);
+    long min;
+    long max;
+    if (upper) {
+      min = LOWER_MIN;
+      max = LOWER_MAX;
+    } else {
+      min = UPPER_MIN;
+      max = UPPER_MAX;
+    }
+    boolean changed = false;
+    int i = offset;
+    int end = offset + length;
+    int limit = end - 8;
+    while (i <= limit) {
+      long word = (long) LONG.get(latin1, i);
+      if ((word & HIGH) == 0) {
+        // all 8 bytes are ASCII so adding min or max to a lane can not overflow into the next lane
+        long mask = (word + min) & ~(word + max) & HIGH;
+        if (mask != 0) {
+          LONG.set(latin1, i, word ^ (mask >>> 2));
+          changed = true;
+        }
+      } else {
+        for (int j = i; j < i + 8; j++) {
+          changed |= convertLatin1(latin1, j, upper);
+        }
+      }
+      i += 8;
+    }
+    while (i < end) {
+      changed |= convertLatin1(latin1, i++, upper);
+    }
+    return changed;
+  }
+
+  private static boolean convertLatin1(byte[] latin1, int index, boolean upper) {
+
+    int c = latin1[index] & 0xFF;
+    int converted;
+    if (upper) {
+      converted = Character.toUpperCase(c);
+    } else {
+      converted = Character.toLowerCase(c);
+    }
+    if ((converted != c) && (converted <= 0xFF)) {
+      latin1[index] = (byte) converted;
+      return true;
+    }
+    return false;
+  }
+
+  private static void appendConverted(StringBuilder sb, String text, boolean upper) {
+
+    int length = text.length();
+    int start = 0;
+    int i = 0;
+    while (i < length) {
+      int cp = text.charAt(i);
+      int converted;
+      if (cp < 0x80) {
+        if (upper ? ((cp >= 'a') && (cp <= 'z')) : ((cp >= 'A') && (cp <= 'Z'))) {
+          converted = cp ^ 0x20;
+        } else {
+          converted = cp;
+        }
+      } else {
+        cp = text.codePointAt(i);
+        if (upper) {
+          converted = Character.toUpperCase(cp);
+        } else {
+          converted = Character.toLowerCase(cp);
+        }
+      }
+      int next = i + Character.charCount(cp);
+      if (converted != cp) {
+        sb.append(text, start, i);
+        sb.appendCodePoint(converted);
+        start = next;
+      }
+      i = next;
+    }
+    sb.append(text, start, length);
+  }
+
   /**
    * @param c the original character.
    * @return the converted character.
@@ -122,6 +259,59 @@ public enum CaseConversion {
     }
   }
 
+  /**
+   * @param appendable the {@link Appendable} to append to.
+   * @param codePoint the {@link String#codePointAt(int) code-point} to convert and append.
+   * @param locale the explicit {@link Locale} to use or {@code null} for the standard {@link Locale}.
+   * @throws IOException if thrown by the given {@link Appendable}.
+   */
+  void append(Appendable appendable, int codePoint, Locale locale) throws IOException {
+
+    if (this == ORIGINAL_CASE) {
+      appendCodePoint(appendable, codePoint);
+    } else if ((codePoint <= 0xFF) && isStandard(locale) && ((this == LOWER_CASE) || (codePoint != 0xDF))) {
+      // in Latin-1 only sharp s has a special (two char) upper case
+      int converted;
+      if (this == LOWER_CASE) {
+        converted = Character.toLowerCase(codePoint);
+      } else {
+        converted = Character.toUpperCase(codePoint);
+      }
+      appendable.append((char) converted);
+    } else {
+      appendable.append(convert(new String(Character.toChars(codePoint)), locale));
+    }
+  }
+
+  /**
+   * @param appendable the {@link Appendable} to append to.
+   * @param codePoint the {@link String#codePointAt(int) code-point} to append.
+   * @throws IOException if thrown by the given {@link Appendable}.
+   */
+  static void appendCodePoint(Appendable appendable, int codePoint) throws IOException {
+
+    if (Character.isBmpCodePoint(codePoint)) {
+      appendable.append((char) codePoint);
+    } else {
+      appendable.append(Character.highSurrogate(codePoint));
+      appendable.append(Character.lowSurrogate(codePoint));
+    }
+  }
+
+  /**
+   * @param locale the {@link Locale} to check. May be {@code null} for the standard {@link Locale}.
+   * @return {@code true} if the given {@link Locale} has no special case mappings (unlike Turkish, Azerbaijani and
+   *         Lithuanian), {@code false} otherwise.
+   */
+  private static boolean isStandard(Locale locale) {
+
+    if (locale == null) {
+      return true;
+    }
+    String language = locale.getLanguage();
+    return !("tr".equals(language) || "az".equals(language) || "lt".equals(language));
+  }
+
   /**
    * @param sb the {@link StringBuilder} to {@link StringBuilder#append(String) append} to.
    * @param text the text to append.
@@ -6,13 +6,17 @@ import static io.github.mmm.base.text.CaseConversion.LOWER_CASE;
 import static io.github.mmm.base.text.CaseConversion.ORIGINAL_CASE;
 import static io.github.mmm.base.text.CaseConversion.UPPER_CASE;
 
+import java.io.IOException;
 import java.text.CharacterIterator;
 import java.text.StringCharacterIterator;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.mmm.base.exception.RuntimeIoException;
 
 /**
  * Defines the different styles of lower-/upper-case usage such as {@link #CAML_CASE camlCase}, {@link #TRAIN_CASE
@@ -51,11 +55,17 @@ import java.util.regex.Pattern;
  */
 public class CaseSyntax {
 
-  private static final List<CaseSyntax> CONSTANTS = new ArrayList<>();
+  private static final Map<Integer, CaseSyntax> CONSTANTS = new HashMap<>();
+
+  /** Maximum number of custom {@link CaseSyntax} instances to intern. */
+  private static final int MAX_INTERNED = 1024;
 
-  private static final String REGEX_SPECIAL_CHARS = "[^\\p{IsAlphabetic}^\\p{IsDigit}]+";
+  private static final Map<Integer, CaseSyntax> INTERNED = new ConcurrentHashMap<>();
 
-  private static final Pattern PATTERN_SPECIAL_CHARS = Pattern.compile(REGEX_SPECIAL_CHARS);
+  /** Maximum number of {@link #ofExample(String, boolean) examples} to cache. */
+  private static final int MAX_EXAMPLES = 1024;
+
+  private static final Map<String, CaseSyntax> EXAMPLES = new ConcurrentHashMap<>();
 
   /**
    * The {@link #getWordSeparator() word separator} used to keep any special (separator) characters untouched by
@@ -190,7 +200,7 @@ public class CaseSyntax {
       this.example = example;
     }
     if (register) {
-      CONSTANTS.add(this);
+      CONSTANTS.putIfAbsent(Integer.valueOf(key(separator, firstCharCase, wordStartCharCase, otherCharCase)), this);
     }
   }
 
@@ -262,122 +272,186 @@ public class CaseSyntax {
     if ((string == null) || (string.isEmpty())) {
       return string;
     }
-    // fast and simple cases first...
-    if ((!hasWordSeparator()) && (this.wordStartCase == this.otherCase)) {
-      String s = string;
-      if (this.wordSeparator == null) {
-        s = removeSpecialCharacters(s);
-      }
-      if (this.firstCase == this.wordStartCase) {
-        s = this.firstCase.convert(s, locale);
+    StringBuilder buffer = new StringBuilder(string.length() + 4);
+    convert(string, buffer, locale);
+    return buffer.toString();
+  }
+
+  /**
+   * Converts to this {@link CaseSyntax} in a single pass without intermediate {@link String}s.
+   *
+   * @param string the {@link CharSequence} to convert. May be {@code null} what will append nothing.
+   * @param appendable the {@link Appendable} where to append the converted {@code string}.
+   * @param locale the explicit {@link Locale} to use or {@code null} for the standard {@link Locale}.
+   * @see #convert(String, Locale)
+   */
+  public void convert(CharSequence string, Appendable appendable, Locale locale) {
+
+    if (string == null) {
+      return;
+    }
+    try {
+      if ((!hasWordSeparator()) && (this.wordStartCase == this.otherCase)) {
+        convertWithoutWords(string, appendable, locale);
       } else {
-        String first = this.firstCase.convert(s.substring(0, 1), locale);
-        String rest = this.otherCase.convert(s.substring(1), locale);
-        s = first + rest;
+        convertWords(string, appendable, locale);
       }
-      return s;
+    } catch (IOException e) {
+      throw new RuntimeIoException(e);
     }
-    StringBuilder buffer = new StringBuilder(string.length() + 4);
-    CharacterIterator charIterator = new StringCharacterIterator(string);
-    char c = charIterator.first();
-    CharClass previousClass = CharClass.of(c);
-    while (previousClass.isSeparatorOrDollar()) {
-      if ((buffer.length() == 0) && hasWordSeparator()) {
-        buffer.append(this.wordSeparator);
-      }
-      c = charIterator.next();
-      if (c == CharacterIterator.DONE) {
-        return buffer.toString();
+  }
+
+  /**
+   * {@link #convert(String) Converts} many {@link String}s at once. Large inputs are converted in parallel.
+   *
+   * @param in the {@link String}s to {@link #convert(String) convert}.
+   * @param out the array where to store the {@link #convert(String) converted} {@link String}s at the same index. May
+   *        be the same array as {@code in}.
+   */
+  public void convertAll(String[] in, String[] out) {
+
+    CaseSyntaxBatch.convertAll((string, buffer) -> convert(string, buffer, null), in, out);
+  }
+
+  /**
+   * @param in the {@link List} of {@link String}s to {@link #convert(String) convert}.
+   * @return a fixed-size {@link List} with the {@link #convert(String) converted} {@link String}s in the same order.
+   * @see #convertAll(String[], String[])
+   */
+  public List<String> convertAll(List<String> in) {
+
+    return CaseSyntaxBatch.convertAll((string, buffer) -> convert(string, buffer, null), in);
+  }
+
+  /**
+   * @param maxEntries the maximum number of entries to cache.
+   * @return a new {@link CaseSyntaxCache} that caches the results of {@link #convert(String) conversions} to this
+   *         {@link CaseSyntax}. Should be kept and reused for repetitive conversions of the same names.
+   */
+  public CaseSyntaxCache cached(int maxEntries) {
+
+    return new CaseSyntaxCache(this, maxEntries);
+  }
+
+  private void convertWithoutWords(CharSequence string, Appendable appendable, Locale locale) throws IOException {
+
+    boolean removeSpecialChars = (this.wordSeparator == null);
+    CaseConversion caseConversion = this.firstCase;
+    int length = string.length();
+    int i = 0;
+    while (i < length) {
+      int cp = Character.codePointAt(string, i);
+      i += Character.charCount(cp);
+      if (!removeSpecialChars || Character.isAlphabetic(cp) || Character.isDigit(cp)) {
+        caseConversion.append(appendable, cp, locale);
+        caseConversion = this.otherCase;
       }
-      previousClass = CharClass.of(c);
     }
-    appendCasedChar(buffer, c, this.firstCase);
-    CaseConversion previousCase = CaseConversion.ofExample(c, false);
-    int start = 1;
-    int end = start;
+  }
+
+  private void convertWords(CharSequence string, Appendable appendable, Locale locale) throws IOException {
+
+    int length = string.length();
+    int i = 0;
+    int cp;
+    CharClass currentClass;
+    boolean leadingSeparator = false;
     while (true) {
-      c = charIterator.next();
-      if (c == CharacterIterator.DONE) {
+      if (i >= length) {
+        return;
+      }
+      cp = Character.codePointAt(string, i);
+      i += Character.charCount(cp);
+      currentClass = CharClass.of(cp);
+      if (!currentClass.isSeparatorOrDollar()) {
         break;
       }
-      CharClass currentClass = CharClass.of(c);
-      CaseConversion currentCase = CaseConversion.ofExample(c, false);
+      if (!leadingSeparator && hasWordSeparator()) {
+        appendable.append(this.wordSeparator.charValue());
+        leadingSeparator = true;
+      }
+    }
+    appendCasedChar(appendable, cp, this.firstCase, locale);
+    CharClass previousClass = currentClass;
+    CaseConversion previousCase = caseOf(cp);
+    int index = 0;
+    while (i < length) {
+      cp = Character.codePointAt(string, i);
+      i += Character.charCount(cp);
+      index++;
+      currentClass = CharClass.of(cp);
+      CaseConversion currentCase = caseOf(cp);
       switch (currentClass) {
         case LETTER:
           if (previousClass.isSeparatorOrDollar()) {
-            appendCasedChar(buffer, c, this.wordStartCase);
-            start++;
-          } else if (currentCase != previousCase) {
-            if ((currentCase == UPPER_CASE) && (end > 1)) {
-              assert (previousCase == LOWER_CASE);
-              start = appendOthers(string, buffer, start, end);
-              if (hasWordSeparator()) {
-                buffer.append(this.wordSeparator);
-              }
-              appendCasedChar(buffer, c, this.wordStartCase);
+            appendCasedChar(appendable, cp, this.wordStartCase, locale);
+          } else if ((currentCase == UPPER_CASE) && (previousCase != UPPER_CASE) && (index > 1)) {
+            if (hasWordSeparator()) {
+              appendable.append(this.wordSeparator.charValue());
             }
+            appendCasedChar(appendable, cp, this.wordStartCase, locale);
+          } else {
+            this.otherCase.append(appendable, cp, locale);
           }
           break;
         case SEPARATOR:
         case DOLLAR:
           if (!previousClass.isSeparatorOrDollar()) {
-            start = appendOthers(string, buffer, start, end);
             if (KEEP_SPECIAL_CHARS.equals(this.wordSeparator)) {
-              buffer.append(c);
+              CaseConversion.appendCodePoint(appendable, cp);
             } else if (this.wordSeparator != null) {
-              buffer.append(this.wordSeparator);
+              appendable.append(this.wordSeparator.charValue());
             }
-          } else {
-            start++;
           }
           break;
         default:
+          CaseConversion.appendCodePoint(appendable, cp);
           break;
       }
       if (currentClass != CharClass.DIGIT) {
         previousClass = currentClass;
         previousCase = currentCase;
       }
-      end++;
     }
-    if (start < end) {
-      appendOthers(string, buffer, start, end);
-    }
-    return buffer.toString();
-  }
-
-  private int appendOthers(String string, StringBuilder buffer, int start, int end) {
-
-    buffer.append(this.otherCase.convert(string.substring(start, end)));
-    return end + 1;
   }
 
-  private void appendCasedChar(StringBuilder buffer, char c, CaseConversion targetCase) {
+  private void appendCasedChar(Appendable appendable, int cp, CaseConversion targetCase, Locale locale)
+      throws IOException {
 
-    if (targetCase == ORIGINAL_CASE) {
-      buffer.append(c);
+    CaseConversion currentCase = caseOf(cp);
+    if ((targetCase == ORIGINAL_CASE) || (currentCase == targetCase)) {
+      CaseConversion.appendCodePoint(appendable, cp);
+    } else if ((this.otherCase == targetCase) || (cp < 0x80)) {
+      targetCase.append(appendable, cp, locale);
     } else {
-      CaseConversion currentCase = CaseConversion.ofExample(c, false);
-      if (currentCase == targetCase) {
-        buffer.append(c);
-      } else {
-        String string = targetCase.convert(Character.toString(c));
-        if ((this.otherCase != targetCase) && (string.length() > 1)) {
-          buffer.append(string.charAt(0));
-          CaseConversion restCase;
-          if (this.otherCase == ORIGINAL_CASE) {
-            restCase = currentCase;
-          } else {
-            restCase = this.otherCase;
-          }
-          buffer.append(restCase.convert(string.charAt(0)));
+      String string = targetCase.convert(new String(Character.toChars(cp)), locale);
+      int firstLength = Character.charCount(string.codePointAt(0));
+      if (string.length() > firstLength) {
+        // e.g. sharp s to "Ss" instead of "SS"
+        appendable.append(string, 0, firstLength);
+        CaseConversion restCase;
+        if (this.otherCase == ORIGINAL_CASE) {
+          restCase = currentCase;
         } else {
-          buffer.append(string);
+          restCase = this.otherCase;
         }
+        appendable.append(restCase.convert(string.substring(firstLength), locale));
+      } else {
+        appendable.append(string);
       }
     }
   }
 
+  private static CaseConversion caseOf(int cp) {
+
+    if (Character.isUpperCase(cp)) {
+      return UPPER_CASE;
+    } else if (Character.isLowerCase(cp)) {
+      return LOWER_CASE;
+    }
+    return ORIGINAL_CASE;
+  }
+
   @Override
   public boolean equals(Object obj) {
 
@@ -446,14 +520,26 @@ public class CaseSyntax {
    * @param firstCharCase - see {@link #getFirstCase()}.
    * @param wordStartCharCase - see {@link #getWordStartCase()}.
    * @param otherCharCase - see {@link #getOtherCase()}.
-   * @return the requested {@link CaseSyntax}.
+   * @return the requested {@link CaseSyntax}. This is the according constant if predefined. Other combinations are
+   *         shared up to a limited number of distinct instances. Beyond that a new instance is returned so use
+   *         {@link #equals(Object)} to compare.
    */
   public static CaseSyntax of(Character separator, CaseConversion firstCharCase, CaseConversion wordStartCharCase,
       CaseConversion otherCharCase) {
 
-    CaseSyntax syntax = ofStandardized(separator, firstCharCase, wordStartCharCase, otherCharCase);
+    Integer key = Integer.valueOf(key(separator, firstCharCase, wordStartCharCase, otherCharCase));
+    CaseSyntax syntax = CONSTANTS.get(key);
     if (syntax == null) {
-      syntax = new CaseSyntax(separator, firstCharCase, wordStartCharCase, otherCharCase, null, false);
+      syntax = INTERNED.get(key);
+      if (syntax == null) {
+        syntax = new CaseSyntax(separator, firstCharCase, wordStartCharCase, otherCharCase, null, false);
+        if (INTERNED.size() < MAX_INTERNED) {
+          CaseSyntax existing = INTERNED.putIfAbsent(key, syntax);
+          if (existing != null) {
+            syntax = existing;
+          }
+        }
+      }
     }
     return syntax;
   }
@@ -485,16 +571,28 @@ public class CaseSyntax {
     return string;
   }
 
-  private static CaseSyntax ofStandardized(Character separator, CaseConversion first, CaseConversion wordStart,
-      CaseConversion other) {
+  /**
+   * @return the unique key of the given properties of a {@link CaseSyntax} as {@code int} value.
+   */
+  private static int key(Character separator, CaseConversion first, CaseConversion wordStart, CaseConversion other) {
 
-    for (CaseSyntax syntax : CONSTANTS) {
-      if (Objects.equals(separator, syntax.wordSeparator) && (first == syntax.firstCase)
-          && (wordStart == syntax.wordStartCase) && (other == syntax.otherCase)) {
-        return syntax;
-      }
+    int key;
+    if (separator == null) {
+      key = 0x10000;
+    } else {
+      key = separator.charValue();
     }
-    return null;
+    return (key << 6) | (first.ordinal() << 4) | (wordStart.ordinal() << 2) | other.ordinal();
+  }
+
+  /**
+   * @param from the {@link CaseSyntax} of the names to translate.
+   * @param to the {@link CaseSyntax} to translate to.
+   * @return the {@link CaseSyntaxTranslator} to translate names from {@link CaseSyntax} {@code from} to {@code to}.
+   */
+  public static CaseSyntaxTranslator translator(CaseSyntax from, CaseSyntax to) {
+
+    return new CaseSyntaxTranslator(from, to);
   }
 
   /**
@@ -506,17 +604,7 @@ public class CaseSyntax {
     if (example == null) {
       return null;
     }
-    return LOWER_CASE.convert(removeSpecialCharacters(example));
-  }
-
-  private static String removeSpecialCharacters(String string) {
-
-    return replaceSpecialCharacters(string, "");
-  }
-
-  private static String replaceSpecialCharacters(String string, String replacement) {
-
-    return PATTERN_SPECIAL_CHARS.matcher(string).replaceAll(replacement);
+    return LOWERCASE.convert(example);
   }
 
   /**
@@ -544,11 +632,34 @@ public class CaseSyntax {
    *        {@link #normalizeExample(String)} normalize} them before resolving.
    * @param standardize - {@code true} if existing constants such as {@link #PASCAL_CASE} or {@link #TRAIN_CASE} shall
    *        be returned if {@link #equals(Object) equal} to the requested {@link CaseSyntax}, {@code false} otherwise.
-   * @return the {@link CaseSyntax} for the given {@code example} as described above.
+   * @return the {@link CaseSyntax} for the given {@code example} as described above. The result is cached so the same
+   *         {@code example} always results in the same instance.
    */
   public static CaseSyntax ofExample(String example, boolean standardize) {
 
     Objects.requireNonNull(example, "example");
+    CaseSyntax syntax = EXAMPLES.get(example);
+    if (syntax == null) {
+      syntax = parseExample(example);
+      if (EXAMPLES.size() < MAX_EXAMPLES) {
+        CaseSyntax existing = EXAMPLES.putIfAbsent(example, syntax);
+        if (existing != null) {
+          syntax = existing;
+        }
+      }
+    }
+    if (standardize) {
+      CaseSyntax standardized = CONSTANTS
+          .get(Integer.valueOf(key(syntax.wordSeparator, syntax.firstCase, syntax.wordStartCase, syntax.otherCase)));
+      if (standardized != null) {
+        return standardized;
+      }
+    }
+    return syntax;
+  }
+
+  private static CaseSyntax parseExample(String example) {
+
     CharacterIterator charIterator = new StringCharacterIterator(example);
     Character separator = null;
     CaseConversion other = null;
@@ -647,14 +758,7 @@ public class CaseSyntax {
     } else if (other == null) {
       other = wordStart;
     }
-    CaseSyntax syntax = null;
-    if (standardize) {
-      syntax = ofStandardized(separator, first, wordStart, other);
-    }
-    if (syntax == null) {
-      syntax = new CaseSyntax(separator, first, wordStart, other, example, false);
-    }
-    return syntax;
+    return new CaseSyntax(separator, first, wordStart, other, example, false);
   }
 
   private enum CharClass {
@@ -677,7 +781,7 @@ public class CaseSyntax {
       return (this == CharClass.LETTER) || (this == DOLLAR);
     }
 
-    private static CharClass of(char c) {
+    private static CharClass of(int c) {
 
       if (Character.isLetter(c)) {
         return LETTER;
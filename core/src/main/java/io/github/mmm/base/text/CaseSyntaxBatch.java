@@ -0,0 +1,119 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.text;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * {@link RecursiveAction} to convert many {@link String}s at once (e.g. all column names of a schema). Each leaf task
+ * reuses a single {@link StringBuilder} as scratch buffer for all its {@link String}s and large inputs are split and
+ * processed in parallel via the {@link ForkJoinPool#commonPool() common pool}.
+ */
+final class CaseSyntaxBatch extends RecursiveAction {
+
+  private static final long serialVersionUID = 1L;
+
+  /** Minimum number of {@link String}s to convert in parallel. */
+  private static final int PARALLEL_THRESHOLD = 4096;
+
+  /** Number of {@link String}s converted sequentially by a single leaf task. */
+  private static final int LEAF_SIZE = 1024;
+
+  private final transient Converter converter;
+
+  private final String[] in;
+
+  private final String[] out;
+
+  private final int start;
+
+  private final int end;
+
+  private CaseSyntaxBatch(Converter converter, String[] in, String[] out, int start, int end) {
+
+    super();
+    this.converter = converter;
+    this.in = in;
+    this.out = out;
+    this.start = start;
+    this.end = end;
+  }
+
+  @Override
+  protected void compute() {
+
+    if ((this.end - this.start) <= LEAF_SIZE) {
+      convert(this.converter, this.in, this.out, this.start, this.end);
+    } else {
+      int mid = (this.start + this.end) >>> 1;
+      invokeAll(new CaseSyntaxBatch(this.converter, this.in, this.out, this.start, mid),
+          new CaseSyntaxBatch(this.converter, this.in, this.out, mid, this.end));
+    }
+  }
+
+  private static void convert(Converter converter, String[] in, String[] out, int start, int end) {
+
+    StringBuilder buffer = new StringBuilder(32);
+    for (int i = start; i < end; i++) {
+      String string = in[i];
+      if ((string != null) && !string.isEmpty()) {
+        buffer.setLength(0);
+        converter.convert(string, buffer);
+        if (!string.contentEquals(buffer)) {
+          string = buffer.toString();
+        }
+      }
+      out[i] = string;
+    }
+  }
+
+  /**
+   * @param converter the {@link Converter}.
+   * @param in the {@link String}s to convert.
+   * @param out the array where to store the converted {@link String}s. May be the same as {@code in}.
+   */
+  static void convertAll(Converter converter, String[] in, String[] out) {
+
+    Objects.requireNonNull(in, "in");
+    Objects.requireNonNull(out, "out");
+    if (out.length < in.length) {
+      throw new IllegalArgumentException("Output length " + out.length + " is less than input length " + in.length);
+    }
+    if (in.length < PARALLEL_THRESHOLD) {
+      convert(converter, in, out, 0, in.length);
+    } else {
+      ForkJoinPool.commonPool().invoke(new CaseSyntaxBatch(converter, in, out, 0, in.length));
+    }
+  }
+
+  /**
+   * @param converter the {@link Converter}.
+   * @param in the {@link List} of {@link String}s to convert.
+   * @return a fixed-size {@link List} with the converted {@link String}s in the same order.
+   */
+  static List<String> convertAll(Converter converter, List<String> in) {
+
+    String[] array = in.toArray(new String[in.size()]);
+    convertAll(converter, array, array);
+    return Arrays.asList(array);
+  }
+
+  /**
+   * Function to convert a single {@link String}.
+   */
+  @FunctionalInterface
+  interface Converter {
+
+    /**
+     * @param string the {@link String} to convert.
+     * @param buffer the empty {@link StringBuilder} where to append the converted {@code string}.
+     */
+    void convert(String string, StringBuilder buffer);
+
+  }
+
+}
@@ -0,0 +1,204 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.text;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded and thread-safe cache for the results of {@link CaseSyntax#convert(String)}. Useful if the same (limited)
+ * set of names (e.g. properties or columns) is converted over and over again. Lookups are lock-free and only record
+ * that the entry was used. If the cache is full, an entry that was not used recently is evicted (CLOCK algorithm as
+ * approximation of LRU). Use {@link #getHitCount()} and {@link #getMissCount()} to verify the effectiveness.
+ *
+ * @see CaseSyntax#cached(int)
+ * @since 1.0.0
+ */
+public final class CaseSyntaxCache {
+
+  private final CaseSyntax syntax;
+
+  private final ConcurrentHashMap<String, Entry> map;
+
+  private final Entry[] entries;
+
+  private final LongAdder hits;
+
+  private final LongAdder misses;
+
+  private int size;
+
+  private int hand;
+
+  /**
+   * The constructor.
+   *
+   * @param syntax the {@link CaseSyntax} to {@link CaseSyntax#convert(String) convert} to.
+   * @param capacity the maximum number of entries to cache.
+   */
+  CaseSyntaxCache(CaseSyntax syntax, int capacity) {
+
+    super();
+    Objects.requireNonNull(syntax, "syntax");
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity: " + capacity);
+    }
+    this.syntax = syntax;
+    this.map = new ConcurrentHashMap<>(Math.min(capacity, 1024));
+    this.entries = new Entry[capacity];
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+  }
+
+  /**
+   * @return the {@link CaseSyntax} to {@link CaseSyntax#convert(String) convert} to.
+   */
+  public CaseSyntax getSyntax() {
+
+    return this.syntax;
+  }
+
+  /**
+   * @param string the {@link String} to convert.
+   * @return the result of {@link CaseSyntax#convert(String)} from the cache or computed and added to the cache.
+   */
+  public String convert(String string) {
+
+    if ((string == null) || string.isEmpty()) {
+      return string;
+    }
+    Entry entry = this.map.get(string);
+    if (entry != null) {
+      if (!entry.used) {
+        entry.used = true;
+      }
+      this.hits.increment();
+      return entry.value;
+    }
+    this.misses.increment();
+    String result = this.syntax.convert(string);
+    add(string, result);
+    return result;
+  }
+
+  /**
+   * @param string the {@link String} to convert.
+   * @param locale the explicit {@link Locale} to use. Results are only cached for {@code null} (the standard
+   *        {@link Locale}).
+   * @return the result of {@link CaseSyntax#convert(String, Locale)}.
+   */
+  public String convert(String string, Locale locale) {
+
+    if (locale == null) {
+      return convert(string);
+    }
+    return this.syntax.convert(string, locale);
+  }
+
+  private synchronized void add(String key, String value) {
+
+    if (this.map.containsKey(key)) {
+      return; // added concurrently
+    }
+    int slot;
+    if (this.size < this.entries.length) {
+      slot = this.size++;
+    } else {
+      while (true) {
+        Entry victim = this.entries[this.hand];
+        if (victim.used) {
+          victim.used = false;
+          this.hand = next(this.hand);
+        } else {
+          this.map.remove(victim.key);
+          slot = this.hand;
+          this.hand = next(this.hand);
+          break;
+        }
+      }
+    }
+    Entry entry = new Entry(key, value);
+    this.entries[slot] = entry;
+    this.map.put(key, entry);
+  }
+
+  private int next(int index) {
+
+    int i = index + 1;
+    if (i == this.entries.length) {
+      i = 0;
+    }
+    return i;
+  }
+
+  /**
+   * Removes all entries from this cache and resets the counters.
+   */
+  public synchronized void clear() {
+
+    this.map.clear();
+    Arrays.fill(this.entries, null);
+    this.size = 0;
+    this.hand = 0;
+    this.hits.reset();
+    this.misses.reset();
+  }
+
+  /**
+   * @return the current number of cached entries.
+   */
+  public int size() {
+
+    return this.map.size();
+  }
+
+  /**
+   * @return the maximum number of cached entries.
+   */
+  public int getCapacity() {
+
+    return this.entries.length;
+  }
+
+  /**
+   * @return the number of {@link #convert(String) conversions} served from the cache.
+   */
+  public long getHitCount() {
+
+    return this.hits.sum();
+  }
+
+  /**
+   * @return the number of {@link #convert(String) conversions} that had to be computed.
+   */
+  public long getMissCount() {
+
+    return this.misses.sum();
+  }
+
+  @Override
+  public String toString() {
+
+    return this.syntax + "[size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "]";
+  }
+
+  private static final class Entry {
+
+    private final String key;
+
+    private final String value;
+
+    private volatile boolean used;
+
+    private Entry(String key, String value) {
+
+      super();
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+}
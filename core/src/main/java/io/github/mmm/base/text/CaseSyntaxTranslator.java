@@ -0,0 +1,185 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.text;
+
+import static io.github.mmm.base.text.CaseConversion.LOWER_CASE;
+import static io.github.mmm.base.text.CaseConversion.UPPER_CASE;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+import io.github.mmm.base.exception.RuntimeIoException;
+
+/**
+ * Translates names from a known {@link #getSource() source} {@link CaseSyntax} to a {@link #getTarget() target}
+ * {@link CaseSyntax}. Unlike {@link CaseSyntax#convert(String)} the word boundaries are not detected heuristically from
+ * the case of every character but are determined once from the {@link #getSource() source} syntax: only for syntaxes
+ * like {@link CaseSyntax#CAML_CASE camlCase} the change from lower to upper case starts a new word. Like in
+ * {@link CaseSyntax#convert(String)} any character other than a {@link Character#isLetterOrDigit(int) letter or digit}
+ * is a word separator. Separators at the start or end of the input are omitted.
+ *
+ * @see CaseSyntax#translator(CaseSyntax, CaseSyntax)
+ * @since 1.0.0
+ */
+public final class CaseSyntaxTranslator {
+
+  private final CaseSyntax source;
+
+  private final CaseSyntax target;
+
+  private final boolean caseChange;
+
+  private final int targetSeparator;
+
+  private final boolean keepSeparator;
+
+  /**
+   * The constructor.
+   *
+   * @param source the {@link #getSource() source}.
+   * @param target the {@link #getTarget() target}.
+   */
+  CaseSyntaxTranslator(CaseSyntax source, CaseSyntax target) {
+
+    super();
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+    this.source = source;
+    this.target = target;
+    this.caseChange = (source.getWordStartCase() == UPPER_CASE) && (source.getOtherCase() != UPPER_CASE);
+    if (target.hasWordSeparator()) {
+      this.targetSeparator = target.getWordSeparator().charValue();
+    } else {
+      this.targetSeparator = -1;
+    }
+    this.keepSeparator = CaseSyntax.KEEP_SPECIAL_CHARS.equals(target.getWordSeparator());
+  }
+
+  /**
+   * @return the {@link CaseSyntax} of the names to {@link #translate(String) translate}.
+   */
+  public CaseSyntax getSource() {
+
+    return this.source;
+  }
+
+  /**
+   * @return the {@link CaseSyntax} to {@link #translate(String) translate} to.
+   */
+  public CaseSyntax getTarget() {
+
+    return this.target;
+  }
+
+  /**
+   * @param string the name in {@link #getSource() source} syntax.
+   * @return the given name translated to the {@link #getTarget() target} syntax.
+   */
+  public String translate(String string) {
+
+    if ((string == null) || string.isEmpty()) {
+      return string;
+    }
+    StringBuilder buffer = new StringBuilder(string.length() + 4);
+    translate(string, buffer);
+    return buffer.toString();
+  }
+
+  /**
+   * @param string the name in {@link #getSource() source} syntax.
+   * @param appendable the {@link Appendable} where to append the given name translated to the {@link #getTarget()
+   *        target} syntax.
+   */
+  public void translate(CharSequence string, Appendable appendable) {
+
+    if (string == null) {
+      return;
+    }
+    try {
+      doTranslate(string, appendable);
+    } catch (IOException e) {
+      throw new RuntimeIoException(e);
+    }
+  }
+
+  private void doTranslate(CharSequence string, Appendable appendable) throws IOException {
+
+    int length = string.length();
+    boolean first = true;
+    boolean wordStart = true;
+    int pendingSeparator = -1;
+    CaseConversion previousCase = null;
+    int i = 0;
+    while (i < length) {
+      int cp = Character.codePointAt(string, i);
+      i += Character.charCount(cp);
+      if (!Character.isLetterOrDigit(cp)) {
+        if (!first && (pendingSeparator < 0)) {
+          pendingSeparator = cp;
+        }
+        wordStart = true;
+        continue;
+      }
+      boolean letter = Character.isLetter(cp);
+      if (this.caseChange && letter && !wordStart && (previousCase == LOWER_CASE) && Character.isUpperCase(cp)) {
+        wordStart = true;
+        pendingSeparator = 0;
+      }
+      if (wordStart) {
+        if (pendingSeparator >= 0) {
+          if (this.targetSeparator >= 0) {
+            appendable.append((char) this.targetSeparator);
+          } else if (this.keepSeparator && (pendingSeparator > 0)) {
+            CaseConversion.appendCodePoint(appendable, pendingSeparator);
+          }
+          pendingSeparator = -1;
+        }
+        if (first) {
+          this.target.getFirstCase().append(appendable, cp, null);
+          first = false;
+        } else {
+          this.target.getWordStartCase().append(appendable, cp, null);
+        }
+        wordStart = false;
+      } else {
+        this.target.getOtherCase().append(appendable, cp, null);
+      }
+      if (letter) {
+        if (Character.isLowerCase(cp)) {
+          previousCase = LOWER_CASE;
+        } else {
+          previousCase = UPPER_CASE;
+        }
+      }
+    }
+  }
+
+  /**
+   * @param in the names in {@link #getSource() source} syntax.
+   * @param out the array where to store the {@link #translate(String) translated} names at the same index. May be the
+   *        same array as {@code in}.
+   * @see CaseSyntax#convertAll(String[], String[])
+   */
+  public void translateAll(String[] in, String[] out) {
+
+    CaseSyntaxBatch.convertAll(this::translate, in, out);
+  }
+
+  /**
+   * @param in the {@link List} of names in {@link #getSource() source} syntax.
+   * @return a fixed-size {@link List} with the {@link #translate(String) translated} names in the same order.
+   * @see CaseSyntax#convertAll(List)
+   */
+  public List<String> translateAll(List<String> in) {
+
+    return CaseSyntaxBatch.convertAll(this::translate, in);
+  }
+
+  @Override
+  public String toString() {
+
+    return this.source + "->" + this.target;
+  }
+
+}
@@ -0,0 +1,175 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.text;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of {@link TextFormatMessageHandler} that is thread-safe and lock-free so many parsers running in
+ * parallel can report to a single instance without contention. It counts the {@link TextFormatMessage}s per
+ * {@link TextFormatMessageType type} but only retains up to a given capacity of them and counts the
+ * {@link #getDroppedCount() dropped} ones. With a capacity of {@code 0} only the counts are kept and no
+ * {@link TextFormatMessage} is created at all via {@link #add(TextFormatMessageType, int, int, String)}. The storage
+ * for the retained {@link TextFormatMessage}s is only allocated when the first one is added so a large capacity does
+ * not cost anything as long as no message occurs.
+ *
+ * @since 1.0.0
+ */
+public class ConcurrentTextFormatMessageHandler implements TextFormatMessageHandler {
+
+  private static final TextFormatMessageType[] TYPES = TextFormatMessageType.values();
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<ConcurrentTextFormatMessageHandler, AtomicReferenceArray> MESSAGES =
+      AtomicReferenceFieldUpdater.newUpdater(ConcurrentTextFormatMessageHandler.class, AtomicReferenceArray.class,
+          "messages");
+
+  private final boolean throwOnError;
+
+  private final int capacity;
+
+  private volatile AtomicReferenceArray<TextFormatMessage> messages;
+
+  private final AtomicInteger size;
+
+  private final LongAdder[] counts;
+
+  private final LongAdder dropped;
+
+  /**
+   * The constructor.
+   *
+   * @param throwOnError - {@code true} to throw a {@link RuntimeException} when an {@link TextFormatMessageType#ERROR
+   *        error} {@link TextFormatMessage message} is added.
+   * @param capacity the maximum number of {@link TextFormatMessage}s to retain. Use {@code 0} to only keep the
+   *        {@link #getCount(TextFormatMessageType) counts}.
+   */
+  public ConcurrentTextFormatMessageHandler(boolean throwOnError, int capacity) {
+
+    super();
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity: " + capacity);
+    }
+    this.throwOnError = throwOnError;
+    this.capacity = capacity;
+    this.size = new AtomicInteger();
+    this.counts = new LongAdder[TYPES.length];
+    for (int i = 0; i < TYPES.length; i++) {
+      this.counts[i] = new LongAdder();
+    }
+    this.dropped = new LongAdder();
+  }
+
+  @Override
+  public void add(TextFormatMessage message) {
+
+    TextFormatMessageType type = message.getType();
+    count(type, message.getText());
+    int index = reserve();
+    if (index >= 0) {
+      messages().set(index, message);
+    }
+  }
+
+  @Override
+  public void add(TextFormatMessageType type, int line, int column, String text) {
+
+    count(type, text);
+    int index = reserve();
+    if (index >= 0) {
+      messages().set(index, new TextFormatMessage(line, column, text, type));
+    }
+  }
+
+  private void count(TextFormatMessageType type, String text) {
+
+    this.counts[type.ordinal()].increment();
+    if (this.throwOnError && (type == TextFormatMessageType.ERROR)) {
+      throw new IllegalStateException(text);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private AtomicReferenceArray<TextFormatMessage> messages() {
+
+    AtomicReferenceArray<TextFormatMessage> array = this.messages;
+    if (array == null) {
+      array = new AtomicReferenceArray<>(this.capacity);
+      if (!MESSAGES.compareAndSet(this, null, array)) {
+        array = this.messages;
+      }
+    }
+    return array;
+  }
+
+  /**
+   * @return the index of the reserved slot or {@code -1} if the capacity is exhausted.
+   */
+  private int reserve() {
+
+    if (this.size.get() < this.capacity) {
+      int index = this.size.getAndIncrement();
+      if (index < this.capacity) {
+        return index;
+      }
+    }
+    this.dropped.increment();
+    return -1;
+  }
+
+  /**
+   * @return a snapshot {@link List} of the retained {@link TextFormatMessage}s in the order they have been added.
+   *         Messages that are concurrently added while this method is called may be missing.
+   */
+  @Override
+  public List<TextFormatMessage> getMessages() {
+
+    int length = Math.min(this.size.get(), this.capacity);
+    AtomicReferenceArray<TextFormatMessage> array = this.messages;
+    if ((length == 0) || (array == null)) {
+      return Collections.emptyList();
+    }
+    List<TextFormatMessage> list = new ArrayList<>(length);
+    for (int i = 0; i < length; i++) {
+      TextFormatMessage message = array.get(i);
+      if (message != null) {
+        list.add(message);
+      }
+    }
+    return Collections.unmodifiableList(list);
+  }
+
+  /**
+   * @param type the {@link TextFormatMessageType}.
+   * @return the total number of {@link TextFormatMessage}s of the given {@link TextFormatMessageType} that have been
+   *         added (including the {@link #getDroppedCount() dropped} ones).
+   */
+  public long getCount(TextFormatMessageType type) {
+
+    return this.counts[type.ordinal()].sum();
+  }
+
+  /**
+   * @return the number of {@link TextFormatMessage}s that have been counted but not retained because the capacity was
+   *         exhausted.
+   */
+  public long getDroppedCount() {
+
+    return this.dropped.sum();
+  }
+
+  /**
+   * @return the maximum number of {@link TextFormatMessage}s to retain.
+   */
+  public int getCapacity() {
+
+    return this.capacity;
+  }
+
+}
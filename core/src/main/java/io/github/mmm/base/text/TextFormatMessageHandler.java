@@ -14,6 +14,20 @@ public interface TextFormatMessageHandler {
    */
   void add(TextFormatMessage message);
 
+  /**
+   * Adds a new {@link TextFormatMessage} created from the given values. Implementations may override to avoid creating
+   * the {@link TextFormatMessage} if it will not be retained.
+   *
+   * @param type the {@link TextFormatMessage#getType() type of the message}.
+   * @param line the {@link TextFormatMessage#getLine() line}.
+   * @param column the {@link TextFormatMessage#getColumn() column}.
+   * @param text the {@link TextFormatMessage#getText() text of the message}.
+   */
+  default void add(TextFormatMessageType type, int line, int column, String text) {
+
+    add(new TextFormatMessage(line, column, text, type));
+  }
+
   /**
    * @return the {@link List} of {@link TextFormatMessage}s.
    */
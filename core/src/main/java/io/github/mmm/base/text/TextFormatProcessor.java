@@ -52,7 +52,12 @@ public interface TextFormatProcessor extends TextPosition {
     if (type == null) {
       return;
     }
-    addMessage(new TextFormatMessage(getLine(), getColumn(), text, type));
+    TextFormatMessageHandler handler = getMessageHandler();
+    if (handler == null) {
+      addMessage(new TextFormatMessage(getLine(), getColumn(), text, type));
+    } else {
+      handler.add(type, getLine(), getColumn(), text);
+    }
   }
 
   /**
@@ -62,7 +67,12 @@ public interface TextFormatProcessor extends TextPosition {
    */
   default void addMessage(TextFormatMessage message) {
 
-    getMessages().add(message);
+    TextFormatMessageHandler handler = getMessageHandler();
+    if (handler == null) {
+      getMessages().add(message);
+    } else {
+      handler.add(message);
+    }
   }
 
   /**
@@ -70,4 +80,16 @@ public interface TextFormatProcessor extends TextPosition {
    */
   List<TextFormatMessage> getMessages();
 
+  /**
+   * @return the {@link TextFormatMessageHandler} that receives the {@link #addMessage(TextFormatMessage) added}
+   *         {@link TextFormatMessage}s or {@code null} (default) to add them directly to {@link #getMessages()}. If
+   *         present, {@link #addMessage(TextFormatMessageType, String)} uses
+   *         {@link TextFormatMessageHandler#add(TextFormatMessageType, int, int, String)} so the handler may avoid
+   *         creating the {@link TextFormatMessage}.
+   */
+  default TextFormatMessageHandler getMessageHandler() {
+
+    return null;
+  }
+
 }
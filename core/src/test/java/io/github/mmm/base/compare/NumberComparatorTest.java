@@ -0,0 +1,158 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.compare;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link NumberComparator}.
+ */
+class NumberComparatorTest extends Assertions {
+
+  private static final NumberComparator COMPARATOR = NumberComparator.INSTANCE;
+
+  /** Test of {@link NumberComparator#compare(long, double)}. */
+  @Test
+  void testCompareLongDouble() {
+
+    long big = (1L << 53) + 1;
+    // (double) big == big + 1 would wrongly give 0
+    assertThat(NumberComparator.compare(big, (double) (1L << 53))).isEqualTo(1);
+    assertThat(NumberComparator.compare(big, (double) big + 2)).isEqualTo(-1);
+    assertThat(NumberComparator.compare(Long.MAX_VALUE, 0x1p63)).isEqualTo(-1);
+    assertThat(NumberComparator.compare(Long.MIN_VALUE, -0x1p63)).isEqualTo(0);
+    assertThat(NumberComparator.compare(Long.MIN_VALUE, Math.nextDown(-0x1p63))).isEqualTo(1);
+    assertThat(NumberComparator.compare(0L, -0.0)).isEqualTo(0);
+    assertThat(NumberComparator.compare(1L, 1.5)).isEqualTo(-1);
+    assertThat(NumberComparator.compare(-2L, -1.5)).isEqualTo(-1);
+    assertThat(NumberComparator.compare(-1L, -1.5)).isEqualTo(1);
+    assertThat(NumberComparator.compare(1L, Double.NaN)).isEqualTo(-1);
+    assertThat(NumberComparator.compare(Double.NEGATIVE_INFINITY, Long.MIN_VALUE)).isEqualTo(-1);
+    assertThat(NumberComparator.compare(Double.POSITIVE_INFINITY, Long.MAX_VALUE)).isEqualTo(1);
+  }
+
+  /** Test of {@link NumberComparator#compare(Number, Number)} with mixed types. */
+  @Test
+  void testCompareMixed() {
+
+    assertThat(COMPARATOR.compare(null, null)).isEqualTo(0);
+    assertThat(COMPARATOR.compare(null, 1)).isEqualTo(-1);
+    assertThat(COMPARATOR.compare(1, null)).isEqualTo(1);
+    assertThat(COMPARATOR.compare(Long.MAX_VALUE, Long.MAX_VALUE - 1)).isEqualTo(1);
+    assertThat(COMPARATOR.compare(Long.MAX_VALUE, (double) Long.MAX_VALUE)).isEqualTo(-1);
+    assertThat(COMPARATOR.compare(1.5f, 1)).isEqualTo(1);
+    assertThat(COMPARATOR.compare(Double.NaN, Double.NaN)).isEqualTo(0);
+    assertThat(COMPARATOR.compare(Double.NaN, Double.POSITIVE_INFINITY)).isEqualTo(1);
+    assertThat(COMPARATOR.compare(-0.0, 0.0)).isEqualTo(0);
+    assertThat(COMPARATOR.compare(BigInteger.ONE, 1.5)).isEqualTo(-1);
+    assertThat(COMPARATOR.compare(BigInteger.TWO.pow(64), 0x1p64)).isEqualTo(0);
+    assertThat(COMPARATOR.compare(BigInteger.TWO.pow(64).add(BigInteger.ONE), 0x1p64)).isEqualTo(1);
+    assertThat(COMPARATOR.compare(BigInteger.TWO.pow(64).negate(), Long.MIN_VALUE)).isEqualTo(-1);
+    assertThat(COMPARATOR.compare(BigInteger.TWO.pow(2000), Double.MAX_VALUE)).isEqualTo(1);
+    assertThat(COMPARATOR.compare(BigInteger.TWO.pow(2000), Double.POSITIVE_INFINITY)).isEqualTo(-1);
+    // decimal representation of double
+    assertThat(COMPARATOR.compare(new BigDecimal("0.1"), 0.1)).isEqualTo(0);
+    assertThat(COMPARATOR.compare(new BigDecimal("0.1000000000000000055511151231257828"), 0.1)).isEqualTo(1);
+    assertThat(COMPARATOR.compare(new BigDecimal("1.00"), 1)).isEqualTo(0);
+    assertThat(COMPARATOR.compare(new BigDecimal("1e-400"), Double.MIN_VALUE)).isEqualTo(-1);
+    assertThat(COMPARATOR.compare(new BigDecimal("1e400"), Double.MAX_VALUE)).isEqualTo(1);
+    assertThat(COMPARATOR.compare(new BigDecimal("-9223372036854775808.5"), Long.MIN_VALUE)).isEqualTo(-1);
+    assertThat(COMPARATOR.compare(Long.MIN_VALUE, new BigDecimal("-9223372036854775808"))).isEqualTo(0);
+    assertThat(COMPARATOR.compare(new BigDecimal("5"), BigInteger.TEN)).isEqualTo(-1);
+  }
+
+  /** Test of {@link NumberComparator#compare(Number, Number)} against the {@link BigDecimal} comparison. */
+  @Test
+  void testCompareExact() {
+
+    Random random = new Random(42);
+    List<Number> numbers = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      long l = random.nextLong() >> random.nextInt(64);
+      double d = (double) l;
+      numbers.add(l);
+      numbers.add(d);
+      numbers.add(Math.nextUp(d));
+      numbers.add(random.nextDouble() * Math.pow(10, random.nextInt(60) - 30));
+      numbers.add(BigInteger.valueOf(l).shiftLeft(random.nextInt(70)));
+      numbers.add(new BigDecimal(d).movePointLeft(random.nextInt(5)));
+      numbers.add(BigDecimal.valueOf(l, random.nextInt(40) - 20));
+    }
+    for (Number n1 : numbers) {
+      for (Number n2 : numbers) {
+        int expected = toBigDecimal(n1).compareTo(toBigDecimal(n2));
+        assertThat(COMPARATOR.compare(n1, n2)).as(n1 + " <=> " + n2).isEqualTo(expected);
+      }
+    }
+  }
+
+  /** Test that {@link NumberComparator#compare(Number, Number)} is transitive for mixed types. */
+  @Test
+  void testTransitive() {
+
+    List<Number> numbers = new ArrayList<>();
+    double[] doubles = { 1e23, 0x1p60, 0x1p63, 0x1p64, -0x1p63, 0.1, -0.000000001, Double.MIN_VALUE,
+    4503599627370497.0 };
+    for (double d : doubles) {
+      numbers.add(d);
+      numbers.add(Math.nextUp(d));
+      numbers.add(Math.nextDown(d));
+      BigDecimal exact = new BigDecimal(d);
+      BigDecimal decimal = BigDecimal.valueOf(d);
+      numbers.add(exact);
+      numbers.add(decimal);
+      numbers.add(exact.toBigInteger());
+      numbers.add(decimal.toBigInteger());
+      numbers.add(decimal.toBigInteger().add(BigInteger.ONE));
+      if (exact.abs().compareTo(new BigDecimal(Long.MAX_VALUE)) <= 0) {
+        numbers.add(exact.longValue());
+      }
+    }
+    numbers.add(Long.MIN_VALUE);
+    numbers.add(Long.MAX_VALUE);
+    // compare(BigDecimal("1E23"), 1e23) and compare(BigDecimal("1E23"), TEN.pow(23)) imply compare(TEN.pow(23), 1e23)
+    assertThat(COMPARATOR.compare(new BigDecimal("1E23"), 1e23)).isEqualTo(1);
+    assertThat(COMPARATOR.compare(new BigDecimal("1E23"), BigInteger.TEN.pow(23))).isEqualTo(0);
+    assertThat(COMPARATOR.compare(BigInteger.TEN.pow(23), 1e23)).isEqualTo(1);
+    for (Number n1 : numbers) {
+      for (Number n2 : numbers) {
+        int c12 = COMPARATOR.compare(n1, n2);
+        assertThat(COMPARATOR.compare(n2, n1)).as(n2 + " <=> " + n1).isEqualTo(-c12);
+        for (Number n3 : numbers) {
+          int c23 = COMPARATOR.compare(n2, n3);
+          if ((c12 <= 0) && (c23 <= 0)) {
+            int c13 = COMPARATOR.compare(n1, n3);
+            assertThat(c13 <= 0).as(n1 + " <= " + n2 + " <= " + n3).isTrue();
+            if ((c12 == 0) && (c23 == 0)) {
+              assertThat(c13).as(n1 + " == " + n2 + " == " + n3).isEqualTo(0);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private static BigDecimal toBigDecimal(Number number) {
+
+    if (number instanceof BigDecimal) {
+      return (BigDecimal) number;
+    } else if (number instanceof BigInteger) {
+      return new BigDecimal((BigInteger) number);
+    } else if (number instanceof Long) {
+      return BigDecimal.valueOf(number.longValue());
+    }
+    double d = number.doubleValue();
+    if (d == Math.rint(d)) {
+      return new BigDecimal(d);
+    }
+    return BigDecimal.valueOf(d);
+  }
+
+}
@@ -2,6 +2,9 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package io.github.mmm.base.filter;
 
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -23,4 +26,100 @@ class CharFilterTest extends Assertions {
             .isEqualTo("äöüÄÖÜ-. _");
   }
 
+  /** Test of {@link CharFilter#indexOfAccepted(CharSequence, int)} and related scanning methods. */
+  @Test
+  void testScanning() {
+
+    String string = "abc123_😀-xyz";
+    CharFilter[] filters = { CharFilter.LATIN_DIGIT, CharFilter.LATIN_LETTER, CharFilter.IDENTIFIER,
+    new ListCharFilter("_-"), new RangeCharFilter(0x1F600, 0x1F64F) };
+    for (CharFilter filter : filters) {
+      // lambda forces the generic default implementation
+      CharFilter generic = cp -> filter.accept(cp);
+      char[] chars = string.toCharArray();
+      CharBuffer buffer = CharBuffer.wrap(("#" + string).toCharArray(), 1, string.length()).slice();
+      for (int i = 0; i <= string.length(); i++) {
+        int accepted = generic.indexOfAccepted(string, i);
+        assertThat(filter.indexOfAccepted(string, i)).as(filter + "@" + i).isEqualTo(accepted);
+        assertThat(filter.indexOfAccepted(chars, i, chars.length)).isEqualTo(accepted);
+        assertThat(filter.indexOfAccepted(buffer, i)).isEqualTo(accepted);
+        int rejected = generic.indexOfRejected(string, i);
+        assertThat(filter.indexOfRejected(string, i)).as(filter + "@" + i).isEqualTo(rejected);
+        assertThat(filter.indexOfRejected(chars, i, chars.length)).isEqualTo(rejected);
+        assertThat(filter.indexOfRejected(buffer, i)).isEqualTo(rejected);
+        assertThat(filter.spanAccepted(string, i)).isEqualTo(generic.spanAccepted(string, i));
+        assertThat(filter.lastIndexOfAccepted(string, i)).isEqualTo(generic.lastIndexOfAccepted(string, i));
+      }
+      int count = filter.filter(string).codePointCount(0, filter.filter(string).length());
+      assertThat(filter.countAccepted(string)).isEqualTo(count);
+      assertThat(filter.countAccepted(chars, 0, chars.length)).isEqualTo(count);
+    }
+    assertThat(CharFilter.LATIN_DIGIT.indexOfAccepted(string, 0)).isEqualTo(3);
+    assertThat(CharFilter.LATIN_DIGIT.indexOfRejected(string, 3)).isEqualTo(6);
+    assertThat(CharFilter.LATIN_DIGIT.spanAccepted(string, 3)).isEqualTo(3);
+    assertThat(CharFilter.LATIN_DIGIT.lastIndexOfAccepted(string, string.length())).isEqualTo(5);
+    assertThat(CharFilter.IDENTIFIER.indexOfRejected(string, 0)).isEqualTo(7);
+    assertThat(CharFilter.IDENTIFIER.countAccepted(string)).isEqualTo(11);
+    assertThat(new RangeCharFilter(0x1F600, 0x1F64F).indexOfAccepted(string, 0)).isEqualTo(7);
+  }
+
+  /** Test of {@link CharFilter#indexOfAccepted(byte[], int, int)} and related methods for Latin-1. */
+  @Test
+  void testScanningLatin1() {
+
+    byte[] bytes = new byte[256 + 13];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) (i * 7);
+    }
+    CharFilter[] filters = { CharFilter.LATIN_DIGIT, CharFilter.HEX_DIGIT, new RangeCharFilter(0, 0x7F),
+    new RangeCharFilter(0x80, 0xFF), new RangeCharFilter(0xC0, 0x17F), new RangeCharFilter(0x7F, 0x80),
+    new ListCharFilter("\r\n\t ,;"), new ListCharFilter("\u00e4\u00f6\u00fc\u00df\u0100"),
+    new ListCharFilter("abcdefghijklmnop") };
+    for (CharFilter filter : filters) {
+      CharFilter generic = cp -> filter.accept(cp);
+      for (int start = 0; start < bytes.length; start++) {
+        for (int end = start; end <= bytes.length; end += 5) {
+          assertThat(filter.indexOfAccepted(bytes, start, end)).as(filter + "@" + start + "-" + end)
+              .isEqualTo(generic.indexOfAccepted(bytes, start, end));
+          assertThat(filter.indexOfRejected(bytes, start, end)).as(filter + "@" + start + "-" + end)
+              .isEqualTo(generic.indexOfRejected(bytes, start, end));
+        }
+      }
+    }
+    byte[] log = "2024-01-01 INFO  message".getBytes(StandardCharsets.ISO_8859_1);
+    assertThat(CharFilter.LATIN_DIGIT.indexOfRejected(log, 0, log.length)).isEqualTo(4);
+    assertThat(CharFilter.NEWLINE_OR_SPACE.indexOfAccepted(log, 0, log.length)).isEqualTo(10);
+  }
+
+  /** Test of {@link CharFilter#filter(String)} and its variants. */
+  @Test
+  void testFilter() {
+
+    CharFilter filter = CharFilter.IDENTIFIER;
+    String identifier = "my.identifier_1-2";
+    assertThat(filter.filter(identifier)).isSameAs(identifier);
+    assertThat(filter.filter("")).isEmpty();
+    assertThat(filter.filter((String) null)).isNull();
+    String string = "a😀b c\u00e4d";
+    assertThat(filter.filter(string)).isEqualTo("abcd");
+    assertThat(filter.negate().filter(string)).isEqualTo("😀 \u00e4");
+    StringBuilder sb = new StringBuilder("x");
+    filter.filter(string, sb);
+    assertThat(sb).hasToString("xabcd");
+    char[] chars = string.toCharArray();
+    int length = filter.negate().filter(chars, 0, chars.length, chars);
+    assertThat(new String(chars, 0, length)).isEqualTo("😀 \u00e4");
+  }
+
+  /** Test of {@link CharFilter#WHITESPACE}. */
+  @Test
+  void testWhitespace() {
+
+    for (int cp = 0; cp <= Character.MAX_CODE_POINT; cp++) {
+      if (CharFilter.WHITESPACE.accept(cp) != Character.isWhitespace(cp)) {
+        fail("Mismatch for U+" + Integer.toHexString(cp));
+      }
+    }
+  }
+
 }
@@ -0,0 +1,110 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.filter;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link CharFilterTokenizer}.
+ */
+class CharFilterTokenizerTest extends Assertions {
+
+  /** Test of {@link CharFilterTokenizer#next()} with a {@link java.io.Reader}. */
+  @Test
+  void testReader() {
+
+    CharFilterTokenizer tokenizer = new CharFilterTokenizer(new StringReader("  Hello  world!\n"), CharFilter.WHITESPACE);
+    assertThat(tokenizer.next()).isTrue();
+    assertThat(tokenizer.isAccepted()).isTrue();
+    assertThat(tokenizer.getToken()).hasToString("  ");
+    assertThat(tokenizer.next()).isTrue();
+    assertThat(tokenizer.isAccepted()).isFalse();
+    assertThat(tokenizer.getToken()).hasToString("Hello");
+    assertThat(tokenizer.getToken().length()).isEqualTo(5);
+    assertThat(tokenizer.getToken().charAt(1)).isEqualTo('e');
+    assertThat(tokenizer.next()).isTrue();
+    assertThat(tokenizer.getToken()).hasToString("  ");
+    assertThat(tokenizer.next()).isTrue();
+    assertThat(tokenizer.getToken()).hasToString("world!");
+    assertThat(tokenizer.next()).isTrue();
+    assertThat(tokenizer.getToken()).hasToString("\n");
+    assertThat(tokenizer.next()).isFalse();
+    assertThat(tokenizer.next()).isFalse();
+  }
+
+  /** Test of {@link CharFilterTokenizer#tokenize(CharFilterTokenizer.Visitor)} with tokens exceeding the buffer. */
+  @Test
+  void testBufferBoundary() {
+
+    String text = "a bb ccc dddddddddddddddddddd eeeee ffffff 😀😀 g";
+    CharFilterTokenizer tokenizer = new CharFilterTokenizer(new StringReader(text), CharFilter.WHITESPACE, 4);
+    assertThat(tokenize(tokenizer)).containsExactly("a", "bb", "ccc", "dddddddddddddddddddd", "eeeee", "ffffff",
+        "😀😀", "g");
+  }
+
+  /** Test of {@link CharFilterTokenizer} with a {@link java.nio.channels.ReadableByteChannel}. */
+  @Test
+  void testChannel() {
+
+    String text = "Grüße, schöne Welt 😀! ";
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    CharFilterTokenizer tokenizer = new CharFilterTokenizer(Channels.newChannel(new ByteArrayInputStream(bytes)),
+        StandardCharsets.UTF_8, CharFilter.WHITESPACE, 3);
+    assertThat(tokenize(tokenizer)).containsExactly("Grüße,", "schöne", "Welt", "😀!");
+  }
+
+  /**
+   * Test of {@link CharFilterTokenizer} with a {@link CharFilter} accepting supplementary code points whose surrogate
+   * pairs are split by the buffer boundary.
+   */
+  @Test
+  void testSurrogateBoundary() {
+
+    CharFilter emoticons = new RangeCharFilter(0x1F600, 0x1F64F);
+    String[][] cases = { { "a😀😀b", "-a", "+😀😀", "-b" }, { "😀😀😀😀😀", "+😀😀😀😀😀" },
+    { "x😀y😀😀z😀", "-x", "+😀", "-y", "+😀😀", "-z", "+😀" }, { "ab😀cd😀😀e", "-ab", "+😀", "-cd", "+😀😀", "-e" } };
+    for (String[] testCase : cases) {
+      String text = testCase[0];
+      List<String> expected = List.of(testCase).subList(1, testCase.length);
+      byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+      for (int capacity = 2; capacity <= 8; capacity++) {
+        assertThat(tokenizeAll(new CharFilterTokenizer(new StringReader(text), emoticons, capacity)))
+            .as(text + " with capacity " + capacity).isEqualTo(expected);
+        assertThat(tokenizeAll(new CharFilterTokenizer(Channels.newChannel(new ByteArrayInputStream(bytes)),
+            StandardCharsets.UTF_8, emoticons, capacity))).as(text + " from channel with capacity " + capacity)
+            .isEqualTo(expected);
+      }
+    }
+  }
+
+  private static List<String> tokenizeAll(CharFilterTokenizer tokenizer) {
+
+    List<String> tokens = new ArrayList<>();
+    tokenizer.tokenize((token, accepted) -> {
+      tokens.add((accepted ? "+" : "-") + token);
+      return true;
+    });
+    return tokens;
+  }
+
+  private static List<String> tokenize(CharFilterTokenizer tokenizer) {
+
+    List<String> tokens = new ArrayList<>();
+    tokenizer.tokenize((token, accepted) -> {
+      if (!accepted) {
+        tokens.add(token.toString());
+      }
+      return true;
+    });
+    return tokens;
+  }
+
+}
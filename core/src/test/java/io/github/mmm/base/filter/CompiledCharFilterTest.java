@@ -0,0 +1,109 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.filter;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link CompiledCharFilter}.
+ */
+class CompiledCharFilterTest extends Assertions {
+
+  /** Test of {@link CharFilter#compile()} with composed filters. */
+  @Test
+  void testCompose() {
+
+    CharFilter composed = new RangeCharFilter('a', 'c').compose(new ListCharFilter("xyz"))
+        .compose(new RangeCharFilter(0x1F600, 0x1F64F));
+    CharFilter compiled = composed.compile();
+    assertThat(compiled).isInstanceOf(CompiledCharFilter.class).hasToString(composed.getDescription());
+    assertThat(compiled.compile()).isSameAs(compiled);
+    assertSameAcceptance(composed, compiled);
+    assertThat(compiled.filter("abcdefxyz😀")).isEqualTo("abcxyz😀");
+  }
+
+  /** Test of {@link CharFilter#compile()} with negated filters. */
+  @Test
+  void testNegate() {
+
+    CharFilter negated = CharFilter.HEX_DIGIT.negate();
+    assertSameAcceptance(negated, negated.compile());
+    CharFilter range = new RangeCharFilter(0x10000, 0x1FFFF);
+    CharFilter negatedRange = new NegatedCharFilter(range);
+    assertSameAcceptance(negatedRange, negatedRange.compile());
+    assertSameAcceptance(range, negatedRange.compile().negate());
+  }
+
+  /** Test of {@link CharFilter#compile()} with arbitrary lambda. */
+  @Test
+  void testLambda() {
+
+    CharFilter whitespace = CharFilter.of(Character::isWhitespace, "whitespace");
+    CharFilter compiled = whitespace.compile();
+    assertThat(compiled).hasToString("whitespace");
+    assertSameAcceptance(whitespace, compiled);
+    CharFilter supplementary = CharFilter.of(Character::isLetter, "letter");
+    assertSameAcceptance(supplementary, supplementary.compile());
+  }
+
+  /** Test of the precompiled {@link CharFilter} constants. */
+  @Test
+  void testConstants() {
+
+    assertThat(CharFilter.LATIN_LETTER_OR_DIGIT).isInstanceOf(CompiledCharFilter.class)
+        .hasToString("[a-z][A-Z][0-9]");
+    assertThat(CharFilter.IDENTIFIER).isInstanceOf(CompiledCharFilter.class).hasToString("[a-z][A-Z][0-9]{._-}");
+    assertThat(CharFilter.HEX_DIGIT).isInstanceOf(CompiledCharFilter.class).hasToString("[0-9][a-f][A-F]");
+    assertThat(CharFilter.HEX_DIGIT.filter("0123456789abcdefghABCDEFGH")).isEqualTo("0123456789abcdefABCDEF");
+  }
+
+  /** Test of {@link CharFilter#ofCategory(byte...)}, {@link CharFilter#ofScript(Character.UnicodeScript)}, etc. */
+  @Test
+  void testUnicode() {
+
+    CharFilter upper = CharFilter.ofCategory(Character.UPPERCASE_LETTER, Character.TITLECASE_LETTER);
+    assertThat(upper).isInstanceOf(CompiledCharFilter.class).hasToString("category:1,3");
+    assertSameAcceptance(CharFilter.of(c -> Character.getType(c) == Character.TITLECASE_LETTER, "lt")
+        .compose(CharFilter.of(c -> Character.getType(c) == Character.UPPERCASE_LETTER, "lu")), upper);
+    CharFilter greek = CharFilter.ofScript(Character.UnicodeScript.GREEK);
+    assertThat(greek.filter("a\u03b1b\u03b2")).isEqualTo("\u03b1\u03b2");
+    assertThat(greek.accept(0x1D200)).isTrue();
+    CharFilter emoticons = CharFilter.ofBlock(Character.UnicodeBlock.EMOTICONS);
+    assertThat(emoticons.filter("a😀b")).isEqualTo("😀");
+    CharFilter composed = greek.compose(emoticons).compose(CharFilter.LATIN_DIGIT);
+    assertThat(composed).isInstanceOf(CompiledCharFilter.class);
+    assertThat(composed.filter("a\u03b1😀1")).isEqualTo("\u03b1😀1");
+    assertThat(composed.negate().filter("a\u03b1😀1")).isEqualTo("a");
+    assertThat(CharFilter.WHITESPACE).isInstanceOf(RangeSetCharFilter.class).hasToString("whitespace");
+    assertSameAcceptance(CharFilter.of(Character::isWhitespace, "whitespace"), CharFilter.WHITESPACE);
+  }
+
+  /** Test that composition with a {@link CompiledCharFilter} stays compiled in any order. */
+  @Test
+  void testComposeSymmetric() {
+
+    CharFilter compiled = CharFilter.ofBlock(Character.UnicodeBlock.EMOTICONS);
+    CharFilter[] filters = { CharFilter.LATIN_DIGIT, CharFilter.WHITESPACE, new ListCharFilter("xyz"),
+    new RangeCharFilter('a', 'c').negate(), new NegatedCharFilter(new RangeCharFilter('a', 'c')) };
+    for (CharFilter filter : filters) {
+      CharFilter composed = filter.compose(compiled);
+      assertThat(composed).as(filter.toString()).isInstanceOf(CompiledCharFilter.class)
+          .hasToString(filter.getDescription() + compiled.getDescription());
+      CharFilter reverse = compiled.compose(filter);
+      assertThat(reverse).isInstanceOf(CompiledCharFilter.class);
+      assertThat(composed.filter("a1 x😀")).isEqualTo(reverse.filter("a1 x😀"));
+    }
+    assertThat(CharFilter.LATIN_DIGIT.compose(CharFilter.HEX_DIGIT)).isInstanceOf(CompiledCharFilter.class);
+  }
+
+  private static void assertSameAcceptance(CharFilter expected, CharFilter actual) {
+
+    for (int cp = 0; cp <= Character.MAX_CODE_POINT; cp++) {
+      if (expected.accept(cp) != actual.accept(cp)) {
+        fail("Mismatch for code-point " + Integer.toHexString(cp) + " of " + actual);
+      }
+    }
+  }
+
+}
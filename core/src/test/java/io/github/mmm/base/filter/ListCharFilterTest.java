@@ -43,4 +43,44 @@ class ListCharFilterTest extends Assertions {
     assertThat(filter4).hasToString("{ \\r\\t\\u00a0}").hasToString(filter3.getDescription());
   }
 
+  /** Test of {@link ListCharFilter} with many and supplementary characters. */
+  @Test
+  void testLarge() {
+
+    StringBuilder sb = new StringBuilder();
+    for (char c = '!'; c <= '~'; c++) {
+      if (!Character.isLetterOrDigit(c)) {
+        sb.append(c);
+      }
+    }
+    for (char c = '\u2000'; c <= '\u20FF'; c++) {
+      sb.append(c);
+    }
+    ListCharFilter symbols = new ListCharFilter(sb.toString());
+    assertThat(symbols.accept('!')).isTrue();
+    assertThat(symbols.accept('\u20AC')).isTrue();
+    assertThat(symbols.accept('a')).isFalse();
+    assertThat(symbols.accept('\u2100')).isFalse();
+    assertThat(symbols.join(new ListCharFilter("#$%"))).isSameAs(symbols);
+    ListCharFilter emoji = new ListCharFilter("a😀");
+    assertThat(emoji.accept('a')).isTrue();
+    assertThat(emoji.accept(0x1F600)).isTrue();
+    assertThat(emoji.accept(0x1F601)).isFalse();
+    assertThat(emoji.compile().accept(0x1F600)).isTrue();
+    assertThat(emoji.filter("ba😀😁")).isEqualTo("a😀");
+    ListCharFilter joined = symbols.join(emoji);
+    assertThat(joined.getChars()).isEqualTo(sb + "a😀");
+    assertThat(joined.accept(0x1F600)).isTrue();
+    assertThat(joined.accept('\u2001')).isTrue();
+    assertThat(new ListCharFilter("ab").join('c', 'c', 'a')).hasToString("{abc}");
+    // supplementary code-points sharing the same high surrogate
+    ListCharFilter smileys = new ListCharFilter("a").join("😀😁😀".toCharArray());
+    assertThat(smileys.getChars()).isEqualTo("a😀😁");
+    assertThat(smileys.accept(0x1F600)).isTrue();
+    assertThat(smileys.accept(0x1F601)).isTrue();
+    assertThat(smileys.accept(0x1F602)).isFalse();
+    assertThat(emoji.join("😁😀".toCharArray()).getChars()).isEqualTo("a😀😁");
+    assertThat(smileys.join(emoji)).isSameAs(smileys);
+  }
+
 }
@@ -40,9 +40,9 @@ class RangeCharFilterTest extends Assertions {
     assertThat(a_a.compose(a_b)).isSameAs(a_b);
     assertThat(a_b.compose(a_a)).isSameAs(a_b);
     assertThat(c_f.compose(a_b)).isInstanceOf(RangeCharFilter.class).hasToString("[a-f]");
-    assertThat(a_a.compose(c_f)).isInstanceOf(ComposedCharFilter.class).hasToString("[a-a][c-f]");
+    assertThat(a_a.compose(c_f)).isInstanceOf(RangeSetCharFilter.class).hasToString("[a-a][c-f]");
     assertThat(c_f.compose(f_h)).isInstanceOf(RangeCharFilter.class).hasToString("[c-h]");
-    assertThat(c_f.compose(i_j)).isInstanceOf(ComposedCharFilter.class).hasToString("[c-f][i-j]");
+    assertThat(c_f.compose(i_j)).isInstanceOf(RangeSetCharFilter.class).hasToString("[c-f][i-j]");
   }
 
 }
@@ -0,0 +1,79 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.filter;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link RangeSetCharFilter}.
+ */
+class RangeSetCharFilterTest extends Assertions {
+
+  /** Test of {@link RangeSetCharFilter#of(int...)}. */
+  @Test
+  void testOf() {
+
+    RangeSetCharFilter filter = RangeSetCharFilter.of('x', 'z', 'a', 'c', 'b', 'f', 'g', 'g');
+    assertThat(filter).hasToString("[a-g][x-z]");
+    assertThat(filter.getRangeCount()).isEqualTo(2);
+    assertThat(filter.getMin(0)).isEqualTo('a');
+    assertThat(filter.getMax(0)).isEqualTo('g');
+    assertThat(filter.getMin(1)).isEqualTo('x');
+    assertThat(filter.getMax(1)).isEqualTo('z');
+    assertThat(filter.filter("0abcdefghijklmnopqrstuvwxyz")).isEqualTo("abcdefgxyz");
+  }
+
+  /** Test of {@link RangeSetCharFilter#compose(CharFilter)} and {@link RangeSetCharFilter#negate()}. */
+  @Test
+  void testComposeAndNegate() {
+
+    CharFilter hex = new RangeCharFilter('0', '9').compose(new RangeCharFilter('a', 'f'))
+        .compose(new RangeCharFilter('A', 'F'));
+    assertThat(hex).isInstanceOf(RangeSetCharFilter.class).hasToString("[0-9][a-f][A-F]");
+    RangeSetCharFilter normalized = RangeSetCharFilter.of(hex);
+    assertThat(normalized.getRangeCount()).isEqualTo(3);
+    CharFilter withList = hex.compose(new ListCharFilter("xX"));
+    assertThat(withList).isInstanceOf(RangeSetCharFilter.class);
+    assertThat(withList.filter("0aFgxX")).isEqualTo("0aFxX");
+    CharFilter negated = hex.negate();
+    assertThat(negated).isInstanceOf(RangeSetCharFilter.class).hasToString("![0-9][a-f][A-F]");
+    assertThat(negated.filter("0aFgxX-")).isEqualTo("gxX-");
+    assertThat(negated.negate().filter("0aFgxX-")).isEqualTo("0aF");
+    CharFilter notDigit = new NegatedCharFilter(new ListCharFilter("0123456789"));
+    CharFilter composed = notDigit.compose(new RangeCharFilter('5', '6'));
+    assertThat(composed).isInstanceOf(RangeSetCharFilter.class);
+    assertThat(composed.filter("0123456789ab")).isEqualTo("56ab");
+    CharFilter lambda = CharFilter.of(Character::isWhitespace, "whitespace");
+    assertThat(hex.compose(lambda)).isInstanceOf(ComposedCharFilter.class);
+    assertThat(RangeSetCharFilter.of(lambda)).isNull();
+    assertThat(hex.compose(CharFilter.WHITESPACE)).isInstanceOf(RangeSetCharFilter.class);
+    assertThat(hex.compile().filter("0aFgxX-")).isEqualTo("0aF");
+  }
+
+  /**
+   * Test of {@link RangeSetCharFilter#negate()} and {@link RangeCharFilter#negate()} with values outside of the
+   * code-point domain.
+   */
+  @Test
+  void testNegateOutOfRange() {
+
+    int[] values = { Integer.MIN_VALUE, -1, 0, '5', 'x', Character.MAX_CODE_POINT, Character.MAX_CODE_POINT + 1,
+        Integer.MAX_VALUE };
+    CharFilter digit = new RangeCharFilter('0', '9');
+    CharFilter hex = RangeSetCharFilter.of('0', '9', 'a', 'f');
+    CharFilter notHex = new NegatedCharFilter(new ListCharFilter("0123456789abcdef"));
+    CharFilter all = new RangeCharFilter(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    for (CharFilter filter : new CharFilter[] { digit, hex, notHex.compose(digit), all }) {
+      CharFilter negated = filter.negate();
+      for (int cp : values) {
+        assertThat(negated.accept(cp)).as(filter + " " + cp).isEqualTo(!filter.accept(cp));
+        assertThat(negated.negate().accept(cp)).as(filter + " " + cp).isEqualTo(filter.accept(cp));
+      }
+    }
+    assertThat(digit.negate().compile().filter("0a9-")).isEqualTo("a-");
+    assertThat(RangeSetCharFilter.of(Integer.MIN_VALUE, -1, 0x110000, Integer.MAX_VALUE))
+        .hasToString("[\\u80000000-\\uffffffff][\\u00110000-\\u7fffffff]");
+  }
+
+}
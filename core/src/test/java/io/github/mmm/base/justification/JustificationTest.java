@@ -2,6 +2,8 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package io.github.mmm.base.justification;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -60,4 +62,17 @@ class JustificationTest extends Assertions {
     assertThat(justification.justify("abcdef")).isEqualTo("abcde");
   }
 
+  /**
+   * Test of {@link Justification#of(String)} with cached instances.
+   */
+  @Test
+  void testCached() {
+
+    Justification justification = Justification.of("-+5|");
+    assertThat(justification).isSameAs(Justification.of("-+5|")).hasToString("-+5|");
+    assertThat(justification.justify("abc")).isEqualTo("--abc");
+    assertThat(Justification.of(" ~300").justify("x")).isEqualTo(" ".repeat(149) + "x" + " ".repeat(150));
+    assertThrows(IllegalArgumentException.class, () -> Justification.of("0*4"));
+  }
+
 }
@@ -0,0 +1,49 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.justification;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link JustifiedTableWriter}.
+ */
+class JustifiedTableWriterTest extends Assertions {
+
+  /** Test of {@link JustifiedTableWriter#writeRow(CharSequence...)}. */
+  @Test
+  void testWriteRow() {
+
+    StringWriter writer = new StringWriter();
+    try (JustifiedTableWriter table = new JustifiedTableWriter(writer,
+        List.of(Justification.of(".-8"), Justification.of("0+4"), Justification.of("_~5|")), "|", "\n")) {
+      assertThat(table.getColumnCount()).isEqualTo(3);
+      table.writeRow("Apples", "42", "x");
+      table.writeRow(List.of("Oranges", "1337", "toolong"));
+      table.writeRow("Pears");
+      assertThat(writer.toString()).isEmpty();
+    }
+    assertThat(writer.toString()).isEqualTo("Apples..|0042|__x__\n" //
+        + "Oranges.|1337|toolo\n" //
+        + "Pears...|0000|_____\n");
+  }
+
+  /** Test of {@link JustifiedTableWriter} with more data than the buffer capacity. */
+  @Test
+  void testLarge() {
+
+    StringWriter writer = new StringWriter();
+    JustifiedTableWriter table = new JustifiedTableWriter(writer, List.of(Justification.of(" +1000")));
+    for (int i = 0; i < 100; i++) {
+      table.writeRow(Integer.toString(i));
+    }
+    table.flush();
+    String result = writer.toString();
+    assertThat(result.length()).isEqualTo(100 * 1001);
+    assertThat(result.substring(1001 * 42, 1001 * 43)).isEqualTo(" ".repeat(998) + "42\n");
+  }
+
+}
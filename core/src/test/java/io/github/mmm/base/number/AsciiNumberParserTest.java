@@ -0,0 +1,169 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.number;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.Random;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link AsciiNumberParser}.
+ */
+class AsciiNumberParserTest extends Assertions {
+
+  private static byte[] ascii(String string) {
+
+    return string.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  private static long parseLong(String string) {
+
+    byte[] bytes = ascii(string);
+    return AsciiNumberParser.parseLong(bytes, 0, bytes.length, null);
+  }
+
+  /**
+   * Test of {@link AsciiNumberParser#parseLong(byte[], int, int, ParsePosition)}.
+   */
+  @Test
+  void testParseLong() {
+
+    assertThat(parseLong("0")).isEqualTo(0L);
+    assertThat(parseLong("-0")).isEqualTo(0L);
+    assertThat(parseLong("+42")).isEqualTo(42L);
+    assertThat(parseLong("12345678")).isEqualTo(12345678L);
+    assertThat(parseLong("-1234567890123456")).isEqualTo(-1234567890123456L);
+    assertThat(parseLong("000000000000000000000000001")).isEqualTo(1L);
+    assertThat(parseLong("9223372036854775807")).isEqualTo(Long.MAX_VALUE);
+    assertThat(parseLong("-9223372036854775808")).isEqualTo(Long.MIN_VALUE);
+    for (String invalid : new String[] { "", "-", "+", "9223372036854775808", "-9223372036854775809",
+    "18446744073709551616", "12345678901234567890", "1x", "12345678 " }) {
+      assertThrows(NumberFormatException.class, () -> parseLong(invalid));
+    }
+    Random random = new Random(42);
+    for (int i = 0; i < 10000; i++) {
+      long value = random.nextLong() >> random.nextInt(64);
+      assertThat(parseLong(Long.toString(value))).isEqualTo(value);
+    }
+  }
+
+  /**
+   * Test of {@link AsciiNumberParser#parseLong(byte[], int, int, ParsePosition)} with {@link ParsePosition} to
+   * continue scanning.
+   */
+  @Test
+  void testParsePosition() {
+
+    byte[] bytes = ascii("id=123456789012,-7;x");
+    ParsePosition position = new ParsePosition(0);
+    assertThat(AsciiNumberParser.parseLong(bytes, 3, bytes.length - 3, position)).isEqualTo(123456789012L);
+    assertThat(position.getIndex()).isEqualTo(15);
+    assertThat(position.getErrorIndex()).isEqualTo(-1);
+    assertThat(AsciiNumberParser.parseInt(bytes, 16, bytes.length - 16, position)).isEqualTo(-7);
+    assertThat(position.getIndex()).isEqualTo(18);
+    assertThat(AsciiNumberParser.parseLong(bytes, 19, 1, position)).isEqualTo(0L);
+    assertThat(position.getErrorIndex()).isEqualTo(19);
+    // success after an error resets the error index
+    assertThat(AsciiNumberParser.parseInt(bytes, 16, bytes.length - 16, position)).isEqualTo(-7);
+    assertThat(position.getIndex()).isEqualTo(18);
+    assertThat(position.getErrorIndex()).isEqualTo(-1);
+    assertThat(AsciiNumberParser.parseDouble(bytes, 19, 1, position)).isEqualTo(0.0);
+    assertThat(position.getErrorIndex()).isEqualTo(19);
+    assertThat(AsciiNumberParser.parseDouble(bytes, 3, 12, position)).isEqualTo(123456789012.0);
+    assertThat(position.getErrorIndex()).isEqualTo(-1);
+    position = new ParsePosition(0);
+    assertThat(AsciiNumberParser.parseLong(bytes, 16, 1, position)).isEqualTo(0L);
+    assertThat(position.getErrorIndex()).isEqualTo(17);
+    // length limits the range
+    position = new ParsePosition(0);
+    assertThat(AsciiNumberParser.parseLong(bytes, 3, 4, position)).isEqualTo(1234L);
+    assertThat(position.getIndex()).isEqualTo(7);
+    assertThrows(IndexOutOfBoundsException.class, () -> AsciiNumberParser.parseLong(bytes, 3, bytes.length, null));
+  }
+
+  /**
+   * Test of {@link AsciiNumberParser#parseInt(byte[], int, int, ParsePosition)}.
+   */
+  @Test
+  void testParseInt() {
+
+    byte[] max = ascii("2147483647");
+    assertThat(AsciiNumberParser.parseInt(max, 0, max.length, null)).isEqualTo(Integer.MAX_VALUE);
+    byte[] min = ascii("-2147483648");
+    assertThat(AsciiNumberParser.parseInt(min, 0, min.length, null)).isEqualTo(Integer.MIN_VALUE);
+    byte[] overflow = ascii("x2147483648");
+    assertThrows(NumberFormatException.class, () -> AsciiNumberParser.parseInt(overflow, 1, 10, null));
+    ParsePosition position = new ParsePosition(0);
+    assertThat(AsciiNumberParser.parseInt(overflow, 1, 10, position)).isEqualTo(0);
+    assertThat(position.getErrorIndex()).isEqualTo(1);
+  }
+
+  /**
+   * Test of {@link AsciiNumberParser#parseDouble(byte[], int, int, ParsePosition)}.
+   */
+  @Test
+  void testParseDouble() {
+
+    String[] values = { "0", "-0.0", "1", "1.5", "-12.25", ".5", "5.", "3.141592653589793", "1e10", "1E-10",
+    "-2.5e+3", "0.1", "0.000001", "123456789012345678901234567890", "4.9e-324", "1.7976931348623157e308", "1e400",
+    "0.30000000000000004", "9007199254740993" };
+    for (String value : values) {
+      byte[] bytes = ascii(value);
+      assertThat(AsciiNumberParser.parseDouble(bytes, 0, bytes.length, null)).as(value)
+          .isEqualTo(Double.parseDouble(value));
+    }
+    byte[] bytes = ascii("1.25e3ms");
+    ParsePosition position = new ParsePosition(0);
+    assertThat(AsciiNumberParser.parseDouble(bytes, 0, bytes.length, position)).isEqualTo(1250.0);
+    assertThat(position.getIndex()).isEqualTo(6);
+    // exponent without digits does not belong to the number
+    bytes = ascii("2e+x");
+    assertThat(AsciiNumberParser.parseDouble(bytes, 0, bytes.length, position)).isEqualTo(2.0);
+    assertThat(position.getIndex()).isEqualTo(1);
+    bytes = ascii("-.e1");
+    assertThat(AsciiNumberParser.parseDouble(bytes, 0, bytes.length, position)).isEqualTo(0.0);
+    assertThat(position.getErrorIndex()).isEqualTo(1);
+    Random random = new Random(42);
+    for (int i = 0; i < 10000; i++) {
+      double value = random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+      String string = Double.toString(value);
+      bytes = ascii(string);
+      assertThat(AsciiNumberParser.parseDouble(bytes, 0, bytes.length, null)).as(string).isEqualTo(value);
+    }
+  }
+
+  /**
+   * Test of {@link AsciiNumberParser} with {@link ByteBuffer} and {@link MemorySegment}.
+   */
+  @Test
+  void testBufferAndSegment() {
+
+    byte[] bytes = ascii("[-9876543210987654,2.5]");
+    for (ByteBuffer buffer : new ByteBuffer[] { ByteBuffer.wrap(bytes),
+    ByteBuffer.allocateDirect(bytes.length).put(bytes).flip() }) {
+      ParsePosition position = new ParsePosition(0);
+      assertThat(AsciiNumberParser.parseLong(buffer, 1, bytes.length - 1, position)).isEqualTo(-9876543210987654L);
+      assertThat(position.getIndex()).isEqualTo(18);
+      assertThat(AsciiNumberParser.parseDouble(buffer, 19, 3, null)).isEqualTo(2.5);
+      assertThat(buffer.position()).isEqualTo(0);
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      MemorySegment segment = arena.allocate(bytes.length);
+      MemorySegment.copy(MemorySegment.ofArray(bytes), 0, segment, 0, bytes.length);
+      ParsePosition position = new ParsePosition(0);
+      assertThat(AsciiNumberParser.parseLong(segment, 1, bytes.length - 1, position)).isEqualTo(-9876543210987654L);
+      // relative to offset
+      assertThat(position.getIndex()).isEqualTo(17);
+      assertThat(AsciiNumberParser.parseInt(segment, 19, 1, null)).isEqualTo(2);
+    }
+  }
+
+}
@@ -4,6 +4,13 @@ package io.github.mmm.base.number;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.text.ParsePosition;
+import java.util.Random;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -73,4 +80,190 @@ class NumberCodecTest extends Assertions {
     }
   }
 
+  /** Test of {@link NumberCodec#readU4(byte[], int, ByteOrder)} and the other reads and writes with byte order. */
+  @Test
+  void testByteOrder() {
+
+    assertThat(NumberCodec.readU2(BYTES, 0, ByteOrder.BIG_ENDIAN)).isEqualTo(0xFEDC);
+    assertThat(NumberCodec.readU2(BYTES, 0, ByteOrder.LITTLE_ENDIAN)).isEqualTo(0xDCFE);
+    assertThat(NumberCodec.readU4(BYTES, 4, ByteOrder.BIG_ENDIAN)).isEqualTo(0x76543210);
+    assertThat(NumberCodec.readU4(BYTES, 4, ByteOrder.LITTLE_ENDIAN)).isEqualTo(0x10325476);
+    assertThat(NumberCodec.readU8(BYTES, 0, ByteOrder.BIG_ENDIAN)).isEqualTo(0xFEDCBA9876543210L);
+    assertThat(NumberCodec.readU8(BYTES, 0, ByteOrder.LITTLE_ENDIAN)).isEqualTo(0x1032547698BADCFEL);
+    assertThrows(IndexOutOfBoundsException.class, () -> NumberCodec.readU4(BYTES, 5, ByteOrder.BIG_ENDIAN));
+    byte[] bytes = new byte[14];
+    int offset = NumberCodec.writeU2(0xFEDC, bytes, 0, ByteOrder.LITTLE_ENDIAN);
+    offset = NumberCodec.writeU4(0xBA987654, bytes, offset, ByteOrder.BIG_ENDIAN);
+    offset = NumberCodec.writeU8(0x1032547698BADCFEL, bytes, offset, ByteOrder.LITTLE_ENDIAN);
+    assertThat(offset).isEqualTo(14);
+    assertThat(NumberCodec.readU2(bytes, 0, ByteOrder.BIG_ENDIAN)).isEqualTo(0xDCFE);
+    assertThat(NumberCodec.readU4(bytes, 2, ByteOrder.LITTLE_ENDIAN)).isEqualTo(0x547698BA);
+    assertThat(NumberCodec.readU8(bytes, 6, ByteOrder.BIG_ENDIAN)).isEqualTo(0xFEDCBA9876543210L);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+    NumberCodec.writeU2(0xFEDC, buffer, 0, ByteOrder.LITTLE_ENDIAN);
+    NumberCodec.writeU4(0xBA987654, buffer, 2, ByteOrder.LITTLE_ENDIAN);
+    NumberCodec.writeU8(0xFEDCBA9876543210L, buffer, 6, ByteOrder.BIG_ENDIAN);
+    assertThat(buffer.get(0)).isEqualTo((byte) 0xDC);
+    assertThat(NumberCodec.readU2(buffer, 0, ByteOrder.LITTLE_ENDIAN)).isEqualTo(0xFEDC);
+    assertThat(NumberCodec.readU4(buffer, 2, ByteOrder.BIG_ENDIAN)).isEqualTo(0x547698BA);
+    assertThat(NumberCodec.readU8(buffer, 6, ByteOrder.LITTLE_ENDIAN)).isEqualTo(0x1032547698BADCFEL);
+    assertThat(buffer.position()).isEqualTo(0);
+    try (Arena arena = Arena.ofConfined()) {
+      MemorySegment segment = arena.allocate(15);
+      NumberCodec.writeU2(0xFEDC, segment, 1, ByteOrder.BIG_ENDIAN);
+      NumberCodec.writeU4(0xBA987654, segment, 3, ByteOrder.LITTLE_ENDIAN);
+      NumberCodec.writeU8(0xFEDCBA9876543210L, segment, 7, ByteOrder.BIG_ENDIAN);
+      assertThat(NumberCodec.readU2(segment, 1, ByteOrder.LITTLE_ENDIAN)).isEqualTo(0xDCFE);
+      assertThat(NumberCodec.readU4(segment, 3, ByteOrder.LITTLE_ENDIAN)).isEqualTo(0xBA987654);
+      assertThat(NumberCodec.readU8(segment, 7, ByteOrder.LITTLE_ENDIAN)).isEqualTo(0x1032547698BADCFEL);
+    }
+  }
+
+  /** Test of {@link NumberCodec#writeVarLong(long, byte[], int)} and {@link NumberCodec#encodeZigZag(long)}. */
+  @Test
+  void testVarIntAndZigZag() {
+
+    assertThat(NumberCodec.encodeZigZag(0)).isEqualTo(0);
+    assertThat(NumberCodec.encodeZigZag(-1)).isEqualTo(1);
+    assertThat(NumberCodec.encodeZigZag(1)).isEqualTo(2);
+    assertThat(NumberCodec.encodeZigZag(Integer.MIN_VALUE)).isEqualTo(-1);
+    assertThat(NumberCodec.encodeZigZag(-2L)).isEqualTo(3L);
+    for (long l : new long[] { 0, 1, -1, 63, -64, 64, Long.MIN_VALUE, Long.MAX_VALUE }) {
+      assertThat(NumberCodec.decodeZigZag(NumberCodec.encodeZigZag(l))).isEqualTo(l);
+      assertThat(NumberCodec.decodeZigZag(NumberCodec.encodeZigZag((int) l))).isEqualTo((int) l);
+    }
+    byte[] bytes = new byte[NumberCodec.MAX_VAR_LONG_SIZE + 1];
+    assertThat(NumberCodec.writeVarInt(300, bytes, 1)).isEqualTo(3);
+    assertThat(bytes[1]).isEqualTo((byte) 0xAC);
+    assertThat(bytes[2]).isEqualTo((byte) 0x02);
+    assertThat(NumberCodec.readVarInt(bytes, 1)).isEqualTo(300);
+    assertThat(NumberCodec.sizeOfVarInt(300)).isEqualTo(2);
+    assertThat(NumberCodec.sizeOfVarInt(0)).isEqualTo(1);
+    assertThat(NumberCodec.sizeOfVarInt(-1)).isEqualTo(NumberCodec.MAX_VAR_INT_SIZE);
+    assertThat(NumberCodec.writeVarInt(-1, bytes, 0)).isEqualTo(5);
+    assertThat(NumberCodec.readVarInt(bytes, 0)).isEqualTo(-1);
+    for (long l : new long[] { 0, 127, 128, 16383, 16384, Long.MAX_VALUE, -1 }) {
+      int end = NumberCodec.writeVarLong(l, bytes, 1);
+      assertThat(end - 1).isEqualTo(NumberCodec.sizeOfVarLong(l));
+      assertThat(NumberCodec.readVarLong(bytes, 1)).isEqualTo(l);
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(32);
+    NumberCodec.writeVarLong(NumberCodec.encodeZigZag(-12345678901L), buffer);
+    NumberCodec.writeVarInt(NumberCodec.encodeZigZag(-42), buffer);
+    buffer.flip();
+    assertThat(NumberCodec.decodeZigZag(NumberCodec.readVarLong(buffer))).isEqualTo(-12345678901L);
+    assertThat(NumberCodec.decodeZigZag(NumberCodec.readVarInt(buffer))).isEqualTo(-42);
+    assertThat(buffer.hasRemaining()).isFalse();
+    byte[] truncated = { (byte) 0x80, (byte) 0x80 };
+    assertThrows(IllegalArgumentException.class, () -> NumberCodec.readVarLong(truncated, 0));
+    assertThrows(IllegalArgumentException.class, () -> NumberCodec.readVarInt(ByteBuffer.wrap(truncated)));
+    // non-minimal encodings (0x81 0x80 0x00 is 1) are consumed completely
+    byte[] padded = { 0, (byte) 0x81, (byte) 0x80, 0, (byte) 0xAC, 0x02 };
+    ParsePosition position = new ParsePosition(1);
+    assertThat(NumberCodec.readVarInt(padded, position)).isEqualTo(1);
+    assertThat(position.getIndex()).isEqualTo(4);
+    assertThat(NumberCodec.readVarLong(padded, position)).isEqualTo(300L);
+    assertThat(position.getIndex()).isEqualTo(6);
+    assertThrows(IllegalArgumentException.class, () -> NumberCodec.readVarInt(truncated, new ParsePosition(0)));
+    // an int has at most 5 bytes while a long may continue
+    byte[] tooLong = { (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 1 };
+    assertThrows(IllegalArgumentException.class, () -> NumberCodec.readVarInt(tooLong, 0));
+    assertThrows(IllegalArgumentException.class, () -> NumberCodec.readVarInt(tooLong, new ParsePosition(0)));
+    assertThrows(IllegalArgumentException.class, () -> NumberCodec.readVarInt(ByteBuffer.wrap(tooLong)));
+    ByteBuffer tooLongBuffer = ByteBuffer.wrap(tooLong);
+    assertThat(NumberCodec.readVarLong(tooLongBuffer)).isEqualTo(1L << 35);
+    assertThat(tooLongBuffer.position()).isEqualTo(6);
+  }
+
+  /** Test of {@link NumberCodec#readU4Array(byte[], int, int[], int, int)} and the other bulk reads and writes. */
+  @Test
+  void testArrays() {
+
+    int[] ints = new int[5];
+    NumberCodec.readU2Array(BYTES, 0, ints, 1, 4);
+    assertThat(ints).containsExactly(0, 0xFEDC, 0xBA98, 0x7654, 0x3210);
+    NumberCodec.readU4Array(BYTES, 0, ints, 0, 2);
+    assertThat(ints[0]).isEqualTo(0xFEDCBA98);
+    assertThat(ints[1]).isEqualTo(0x76543210);
+    NumberCodec.readU4Array(BYTES, 0, ints, 0, 2, ByteOrder.LITTLE_ENDIAN);
+    assertThat(ints[0]).isEqualTo(0x98BADCFE);
+    long[] longs = new long[1];
+    NumberCodec.readU8Array(BYTES, 0, longs, 0, 1);
+    assertThat(longs[0]).isEqualTo(0xFEDCBA9876543210L);
+    assertThrows(IndexOutOfBoundsException.class, () -> NumberCodec.readU4Array(BYTES, 2, new int[2], 0, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> NumberCodec.readU2Array(BYTES, 0, new int[2], 1, 2));
+    byte[] bytes = new byte[BYTES.length];
+    assertThat(NumberCodec.writeU2Array(new int[] { 0xFEDC, 0xBA98 }, 0, bytes, 0, 2, ByteOrder.BIG_ENDIAN))
+        .isEqualTo(4);
+    assertThat(NumberCodec.writeU4Array(new int[] { 0x10325476 }, 0, bytes, 4, 1, ByteOrder.LITTLE_ENDIAN))
+        .isEqualTo(8);
+    assertThat(bytes).isEqualTo(BYTES);
+    assertThat(NumberCodec.writeU8Array(new long[] { 0x1032547698BADCFEL }, 0, bytes, 0, 1, ByteOrder.LITTLE_ENDIAN))
+        .isEqualTo(8);
+    assertThat(bytes).isEqualTo(BYTES);
+  }
+
+  /** Test of {@link NumberCodec#writeDeltaPacked(long[], int, int, byte[], int)}. */
+  @Test
+  void testDeltaPacked() {
+
+    int[] ints = { 1000, 1001, 1003, 1004, 1010, 1010, 1011 };
+    byte[] bytes = new byte[NumberCodec.maxSizeOfDeltaPacked(ints.length)];
+    int end = NumberCodec.writeDeltaPacked(ints, 0, ints.length, bytes, 0);
+    // count + first + min delta + bits + 6 deltas * 3 bits
+    assertThat(end).isEqualTo(1 + 2 + 1 + 1 + 3);
+    assertThat(NumberCodec.readVarInt(bytes, 0)).isEqualTo(ints.length);
+    int[] decoded = new int[ints.length];
+    assertThat(NumberCodec.readDeltaPacked(bytes, 0, decoded, 0)).isEqualTo(end);
+    assertThat(decoded).isEqualTo(ints);
+    long[] longs = { Long.MIN_VALUE, Long.MAX_VALUE, 0, -1, 42, Long.MIN_VALUE };
+    bytes = new byte[NumberCodec.maxSizeOfDeltaPacked(longs.length)];
+    end = NumberCodec.writeDeltaPacked(longs, 0, longs.length, bytes, 0);
+    long[] decodedLongs = new long[longs.length];
+    assertThat(NumberCodec.readDeltaPacked(bytes, 0, decodedLongs, 0)).isEqualTo(end);
+    assertThat(decodedLongs).isEqualTo(longs);
+    long[] constant = { 7, 7, 7 };
+    end = NumberCodec.writeDeltaPacked(constant, 0, 3, bytes, 0);
+    assertThat(end).isEqualTo(4);
+    assertThat(NumberCodec.readDeltaPacked(bytes, 0, decodedLongs, 0)).isEqualTo(end);
+    assertThat(decodedLongs[2]).isEqualTo(7L);
+    // non-minimal varints written by other encoders
+    byte[] padded = { (byte) 0x83, 0, (byte) 0x8E, (byte) 0x80, 0, (byte) 0x80, 0, 0 };
+    assertThat(NumberCodec.readDeltaPacked(padded, 0, decodedLongs, 0)).isEqualTo(padded.length);
+    assertThat(decodedLongs).isEqualTo(new long[] { 7, 7, 7, -1, 42, Long.MIN_VALUE });
+    Random random = new Random(42);
+    for (int bits = 1; bits <= 64; bits++) {
+      long[] values = new long[100];
+      for (int i = 1; i < values.length; i++) {
+        long delta = random.nextLong();
+        if (bits < 64) {
+          delta &= (1L << bits) - 1;
+        }
+        values[i] = values[i - 1] + delta;
+      }
+      bytes = new byte[NumberCodec.maxSizeOfDeltaPacked(values.length)];
+      end = NumberCodec.writeDeltaPacked(values, 0, values.length, bytes, 0);
+      long[] result = new long[values.length];
+      assertThat(NumberCodec.readDeltaPacked(bytes, 0, result, 0)).isEqualTo(end);
+      assertThat(result).isEqualTo(values);
+    }
+  }
+
+  /** Test of {@link NumberCodec#readDeltaPacked(byte[], int, long[], int)} with invalid counts. */
+  @Test
+  void testDeltaPackedInvalidCount() {
+
+    byte[] bytes = new byte[NumberCodec.maxSizeOfDeltaPacked(3)];
+    NumberCodec.writeDeltaPacked(new long[] { 1, 2, 3 }, 0, 3, bytes, 0);
+    assertThrows(IllegalArgumentException.class, () -> NumberCodec.readDeltaPacked(bytes, 0, new long[2], 0));
+    assertThrows(IllegalArgumentException.class, () -> NumberCodec.readDeltaPacked(bytes, 0, new int[3], 1));
+    byte[] negative = new byte[8];
+    NumberCodec.writeVarInt(-1, negative, 0);
+    assertThrows(IllegalArgumentException.class, () -> NumberCodec.readDeltaPacked(negative, 0, new long[2], 0));
+    assertThrows(IllegalArgumentException.class, () -> NumberCodec.readDeltaPacked(negative, 0, new int[2], 0));
+    assertThat(NumberCodec.maxSizeOfDeltaPacked(0)).isEqualTo(26);
+    assertThrows(IllegalArgumentException.class, () -> NumberCodec.maxSizeOfDeltaPacked(-1));
+    assertThrows(ArithmeticException.class, () -> NumberCodec.maxSizeOfDeltaPacked(Integer.MAX_VALUE / 8));
+  }
+
 }
@@ -0,0 +1,129 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.number;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link NumberScanner}.
+ */
+class NumberScannerTest extends Assertions {
+
+  /**
+   * Test of {@link NumberScanner#scanLong()} and {@link NumberScanner#scanInt()}.
+   */
+  @Test
+  void testScanInteger() {
+
+    NumberScanner scanner = new NumberScanner("42");
+    assertThat(scanner.scanLong()).isEqualTo(42L);
+    assertThat(scanner.getIndex()).isEqualTo(2);
+    assertThat(scanner.isError()).isFalse();
+    assertThat(scanner.reset("-9223372036854775808").scanLong()).isEqualTo(Long.MIN_VALUE);
+    assertThat(scanner.reset("+9223372036854775807").scanLong()).isEqualTo(Long.MAX_VALUE);
+    assertThat(scanner.reset("-2147483648").scanInt()).isEqualTo(Integer.MIN_VALUE);
+    assertThat(scanner.reset("0x7fFF").scanInt()).isEqualTo(0x7FFF);
+    assertThat(scanner.reset("-0b101").scanInt()).isEqualTo(-5);
+    // prefix without digit is not a prefix
+    assertThat(scanner.reset("0xg").scanInt()).isEqualTo(0);
+    assertThat(scanner.getIndex()).isEqualTo(1);
+    assertThat(scanner.isError()).isFalse();
+    // overflow
+    assertThat(scanner.reset("9223372036854775808").scanLong()).isEqualTo(0L);
+    assertThat(scanner.getErrorIndex()).isEqualTo(0);
+    assertThat(scanner.getIndex()).isEqualTo(0);
+    assertThat(scanner.reset("2147483648").scanInt()).isEqualTo(0);
+    assertThat(scanner.isError()).isTrue();
+    // no digits
+    assertThat(scanner.reset("-x").scanLong()).isEqualTo(0L);
+    assertThat(scanner.getErrorIndex()).isEqualTo(1);
+    Random random = new Random(42);
+    for (int i = 0; i < 1000; i++) {
+      long value = random.nextLong() >> random.nextInt(64);
+      assertThat(scanner.reset(Long.toString(value)).scanLong()).isEqualTo(value);
+      assertThat(scanner.reset("0x" + Long.toHexString(value >>> 1)).scanLong()).isEqualTo(value >>> 1);
+    }
+  }
+
+  /**
+   * Test of {@link NumberScanner} with {@link NumberScanner#setGroupSeparator(char) group separator} and continued
+   * scanning.
+   */
+  @Test
+  void testScanSequence() {
+
+    NumberScanner scanner = new NumberScanner("max(1_000_000,0xFF_FF,2.5e3,1__0,7_)").setGroupSeparator('_');
+    scanner.setIndex(4);
+    assertThat(scanner.scanInt()).isEqualTo(1000000);
+    assertThat(scanner.getIndex()).isEqualTo(13);
+    scanner.setIndex(14);
+    assertThat(scanner.scanLong()).isEqualTo(0xFFFFL);
+    scanner.setIndex(22);
+    assertThat(scanner.scanDouble()).isEqualTo(2500.0);
+    assertThat(scanner.getIndex()).isEqualTo(27);
+    scanner.setIndex(28);
+    assertThat(scanner.scanInt()).isEqualTo(1);
+    assertThat(scanner.getIndex()).isEqualTo(29);
+    scanner.setIndex(33);
+    assertThat(scanner.scanInt()).isEqualTo(7);
+    assertThat(scanner.getIndex()).isEqualTo(34);
+    // range limits the number
+    assertThat(scanner.reset("12345", 1, 3).scanInt()).isEqualTo(23);
+    assertThat(scanner.getIndex()).isEqualTo(3);
+  }
+
+  /**
+   * Test of {@link NumberScanner#scanDouble()}.
+   */
+  @Test
+  void testScanDouble() {
+
+    NumberScanner scanner = new NumberScanner();
+    String[] values = { "0", "-0.0", "1", "1.5", "-12.25", ".5", "3.141592653589793", "1e10", "1E-10", "-2.5e+3",
+    "0.1", "0.000001", "123456789012345678901234567890", "4.9e-324", "1.7976931348623157e308", "1e400",
+    "0.30000000000000004", "9007199254740993", "1e-400" };
+    for (String value : values) {
+      assertThat(scanner.reset(value).scanDouble()).as(value).isEqualTo(Double.parseDouble(value));
+      assertThat(scanner.getIndex()).isEqualTo(value.length());
+    }
+    // dot and exponent without digits do not belong to the number
+    assertThat(scanner.reset("5.x").scanDouble()).isEqualTo(5.0);
+    assertThat(scanner.getIndex()).isEqualTo(1);
+    assertThat(scanner.reset("2e-").scanDouble()).isEqualTo(2.0);
+    assertThat(scanner.getIndex()).isEqualTo(1);
+    assertThat(scanner.reset("-.e1").scanDouble()).isEqualTo(0.0);
+    assertThat(scanner.getErrorIndex()).isEqualTo(1);
+    assertThat(scanner.reset("1,234,567.125").setGroupSeparator(',').scanDouble()).isEqualTo(1234567.125);
+    scanner.setGroupSeparator((char) 0);
+    Random random = new Random(42);
+    for (int i = 0; i < 10000; i++) {
+      double value = random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+      String string = Double.toString(value);
+      assertThat(scanner.reset(string).scanDouble()).as(string).isEqualTo(value);
+    }
+  }
+
+  /**
+   * Test of {@link NumberScanner#scanBigDecimal()}.
+   */
+  @Test
+  void testScanBigDecimal() {
+
+    NumberScanner scanner = new NumberScanner();
+    String[] values = { "0", "-0.00", "1.50", "-12.25", "1e5", "1.5E-7", "123456789012345678901234567890.123",
+    "-0.000000000000000000000000000001", "100000000000000000000000" };
+    for (String value : values) {
+      assertThat(scanner.reset(value).scanBigDecimal()).as(value).isEqualTo(new BigDecimal(value));
+      assertThat(scanner.getIndex()).isEqualTo(value.length());
+    }
+    assertThat(scanner.reset("1e9999999999").scanBigDecimal()).isNull();
+    assertThat(scanner.getErrorIndex()).isEqualTo(0);
+    assertThat(scanner.reset("x").scanBigDecimal()).isNull();
+    assertThat(scanner.isError()).isTrue();
+  }
+
+}
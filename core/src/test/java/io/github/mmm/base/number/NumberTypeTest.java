@@ -2,8 +2,15 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package io.github.mmm.base.number;
 
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -28,6 +35,8 @@ class NumberTypeTest extends Assertions {
       assertThat(type.valueOf(d)).isEqualTo(value);
     }
     assertThat(type.valueOf(value)).isSameAs(value);
+    assertThat(type.tryParse(value.toString())).isEqualTo(value);
+    assertThat(type.tryParse("illegal number")).isNull();
     try {
       type.parse("illegal number");
       failBecauseExceptionWasNotThrown(NumberFormatException.class);
@@ -159,6 +168,212 @@ class NumberTypeTest extends Assertions {
     assertThat(type.valueOf(BIG_INTEGER)).isEqualTo(new BigDecimal(BIG_INTEGER));
   }
 
+  /** Test of {@link NumberType#tryParse(CharSequence, int, int, int)}. */
+  @Test
+  void testTryParse() {
+
+    assertThat(NumberType.BYTE.tryParse("-128")).isEqualTo(Byte.MIN_VALUE);
+    assertThat(NumberType.BYTE.tryParse("128")).isNull();
+    assertThat(NumberType.SHORT.tryParse("+32767")).isEqualTo(Short.MAX_VALUE);
+    assertThat(NumberType.SHORT.tryParse("-32769")).isNull();
+    assertThat(NumberType.INTEGER.tryParse("x=7fffffff;", 2, 10, 16)).isEqualTo(Integer.MAX_VALUE);
+    assertThat(NumberType.INTEGER.tryParse("2147483648")).isNull();
+    assertThat(NumberType.INTEGER.tryParse("-")).isNull();
+    assertThat(NumberType.INTEGER.tryParse("")).isNull();
+    assertThat(NumberType.INTEGER.tryParse("12a")).isNull();
+    assertThat(NumberType.INTEGER.tryParse(null)).isNull();
+    assertThat(NumberType.LONG.tryParse("-9223372036854775808")).isEqualTo(Long.MIN_VALUE);
+    assertThat(NumberType.LONG.tryParse("9223372036854775807")).isEqualTo(Long.MAX_VALUE);
+    assertThat(NumberType.LONG.tryParse("9223372036854775808")).isNull();
+    assertThat(NumberType.LONG.tryParse("-101", 0, 4, 2)).isEqualTo(-5L);
+    assertThat(NumberType.BIG_INTEGER.tryParse("-123456789012345678901234567890"))
+        .isEqualTo(BIG_INTEGER.negate());
+    assertThat(NumberType.BIG_INTEGER.tryParse("123456789012345678901234567890x")).isNull();
+    assertThat(NumberType.DOUBLE.tryParse("0.1")).isEqualTo(0.1);
+    assertThat(NumberType.DOUBLE.tryParse("-1.5e-3")).isEqualTo(-1.5e-3);
+    assertThat(NumberType.DOUBLE.tryParse("1.7976931348623157E308")).isEqualTo(Double.MAX_VALUE);
+    assertThat(NumberType.DOUBLE.tryParse("123456789012345678901234567890")).isEqualTo(1.2345678901234568E29);
+    assertThat(NumberType.DOUBLE.tryParse("-Infinity")).isEqualTo(Double.NEGATIVE_INFINITY);
+    assertThat(NumberType.DOUBLE.tryParse("NaN").isNaN()).isTrue();
+    assertThat(NumberType.DOUBLE.tryParse("1.8p1", 0, 5, 16)).isEqualTo(3.0);
+    assertThat(NumberType.DOUBLE.tryParse("1.5", 0, 3, 16)).isNull();
+    // same accepted input as parse
+    assertThat(NumberType.DOUBLE.tryParse("-3521495p59", 0, 11, 16)).isNull();
+    assertThat(NumberType.DOUBLE.tryParse("0x1p3")).isEqualTo(8.0);
+    assertThat(NumberType.FLOAT.tryParse("-0X1.8P1")).isEqualTo(-3.0F);
+    for (String hex : new String[] { "1p3", "-1p3", "+1.8p1", "a.bP-2", ".8p1", "1p", "0x1p3", "1.p1" }) {
+      checkTryParseLikeParse(NumberType.DOUBLE, hex, 16);
+      checkTryParseLikeParse(NumberType.FLOAT, hex, 16);
+    }
+    for (String decimal : new String[] { "0x1p3", "-0x1.8p1", "+0XAp-1", "0x1", "0x.p1", "0xp1", "x1p3", "1.5" }) {
+      checkTryParseLikeParse(NumberType.DOUBLE, decimal, 10);
+      checkTryParseLikeParse(NumberType.FLOAT, decimal, 10);
+    }
+    assertThat(NumberType.DOUBLE.tryParse("1e")).isNull();
+    assertThat(NumberType.DOUBLE.tryParse(".")).isNull();
+    assertThat(NumberType.DOUBLE.tryParse("1.2.3")).isNull();
+    assertThat(NumberType.FLOAT.tryParse("0.1")).isEqualTo(0.1F);
+    assertThat(NumberType.FLOAT.tryParse("16777217")).isEqualTo(16777217F);
+    assertThat(NumberType.FLOAT.tryParse("3.4028235E38")).isEqualTo(Float.MAX_VALUE);
+    assertThat(NumberType.BIG_DECIMAL.tryParse("-12.50e2")).isEqualTo(new BigDecimal("-12.50e2"));
+    assertThat(NumberType.BIG_DECIMAL.tryParse("NaN")).isNull();
+    assertThrows(IllegalArgumentException.class, () -> NumberType.BIG_DECIMAL.tryParse("1", 0, 1, 16));
+    assertThrows(IndexOutOfBoundsException.class, () -> NumberType.LONG.tryParse("1", 0, 2, 10));
+  }
+
+  private static <N extends Number> void checkTryParseLikeParse(NumberType<N> type, String number, int radix) {
+
+    N expected;
+    try {
+      expected = type.parse(number, radix);
+    } catch (NumberFormatException e) {
+      expected = null;
+    }
+    assertThat(type.tryParse(number, 0, number.length(), radix)).as(number).isEqualTo(expected);
+  }
+
+  /** Test of {@link NumberType#add(Number, Number)} and the other arithmetic operations. */
+  @Test
+  void testArithmetic() {
+
+    long big = (1L << 53) + 1;
+    assertThat(NumberType.LONG.add(Long.valueOf(big), Integer.valueOf(2))).isEqualTo(big + 2);
+    assertThat(NumberType.LONG.subtract(Long.valueOf(big), Byte.valueOf((byte) 2))).isEqualTo(big - 2);
+    assertThat(NumberType.LONG.multiply(Long.valueOf(big), Short.valueOf((short) 3))).isEqualTo(big * 3);
+    assertThat(NumberType.LONG.divide(Long.valueOf(big), Long.valueOf(2))).isEqualTo(big / 2);
+    assertThat(NumberType.LONG.add(Long.valueOf(Long.MAX_VALUE), Long.valueOf(1))).isEqualTo(Long.MAX_VALUE);
+    assertThat(NumberType.LONG.add(Long.valueOf(1), Double.valueOf(1.5))).isEqualTo(2L);
+    assertThat(NumberType.INTEGER.add(Integer.valueOf(Integer.MAX_VALUE), Integer.valueOf(1)))
+        .isEqualTo(Integer.MAX_VALUE);
+    assertThat(NumberType.INTEGER.multiply(Integer.valueOf(-70000), Integer.valueOf(70000)))
+        .isEqualTo(Integer.MIN_VALUE);
+    assertThat(NumberType.INTEGER.divide(Integer.valueOf(7), Integer.valueOf(2))).isEqualTo(3);
+    assertThat(NumberType.INTEGER.divide(Integer.valueOf(-7), Integer.valueOf(0))).isEqualTo(Integer.MIN_VALUE);
+    // byte and short wrap around like the narrowing of Double.byteValue() and Double.shortValue()
+    assertThat(NumberType.BYTE.add(Byte.valueOf((byte) 100), Byte.valueOf((byte) 100))).isEqualTo((byte) -56);
+    assertThat(NumberType.BYTE.subtract(Byte.valueOf((byte) -100), Byte.valueOf((byte) 100))).isEqualTo((byte) 56);
+    assertThat(NumberType.SHORT.multiply(Short.valueOf((short) 300), Short.valueOf((short) 300)))
+        .isEqualTo((short) 24464);
+    assertThat(NumberType.BYTE.add(Long.valueOf(Long.MAX_VALUE), Byte.valueOf((byte) 1))).isEqualTo((byte) -1);
+    assertThat(NumberType.DOUBLE.add(Long.valueOf(Long.MAX_VALUE), Long.valueOf(Long.MAX_VALUE)))
+        .isEqualTo(2.0 * Long.MAX_VALUE);
+    assertThat(NumberType.FLOAT.divide(Integer.valueOf(1), Integer.valueOf(4))).isEqualTo(0.25F);
+    assertThat(NumberType.BIG_INTEGER.multiply(BIG_INTEGER, Long.valueOf(3)))
+        .isEqualTo(BIG_INTEGER.multiply(BigInteger.valueOf(3)));
+    assertThat(NumberType.BIG_INTEGER.divide(BIG_INTEGER, Integer.valueOf(7)))
+        .isEqualTo(BIG_INTEGER.divide(BigInteger.valueOf(7)));
+    assertThat(NumberType.BIG_INTEGER.add(BIG_INTEGER, Double.valueOf(0.5))).isEqualTo(BIG_INTEGER);
+    // primitive
+    assertThat(NumberType.addLong(Long.MIN_VALUE, -1)).isEqualTo(Long.MIN_VALUE);
+    assertThat(NumberType.subtractLong(Long.MIN_VALUE, 1)).isEqualTo(Long.MIN_VALUE);
+    assertThat(NumberType.subtractLong(Long.MAX_VALUE, -1)).isEqualTo(Long.MAX_VALUE);
+    assertThat(NumberType.multiplyLong(Long.MAX_VALUE, -2)).isEqualTo(Long.MIN_VALUE);
+    assertThat(NumberType.multiplyLong(1L << 31, 1L << 31)).isEqualTo(1L << 62);
+    assertThat(NumberType.divideLong(Long.MIN_VALUE, -1)).isEqualTo(Long.MAX_VALUE);
+    assertThat(NumberType.divideLong(0, 0)).isEqualTo(0L);
+    assertThat(NumberType.addDouble(0.5, 0.25)).isEqualTo(0.75);
+  }
+
+  /** Test of the bulk operations such as {@link NumberType#sum(long[], int, int)}. */
+  @Test
+  void testBulk() {
+
+    long[] longs = { 5, -3, Long.MAX_VALUE, Long.MAX_VALUE, 7, -11 };
+    assertThat(NumberType.LONG.sum(longs, 0, 2)).isEqualTo(2L);
+    assertThat(NumberType.LONG.sum(longs, 0, 0)).isEqualTo(0L);
+    assertThat(NumberType.LONG.sum(longs, 0, 4)).isEqualTo(Long.MAX_VALUE);
+    assertThat(NumberType.INTEGER.sum(longs, 2, 3)).isEqualTo(Integer.MAX_VALUE);
+    assertThat(NumberType.BIG_INTEGER.sum(longs, 0, 6)).isEqualTo(
+        BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TWO).add(BigInteger.valueOf(-2)));
+    assertThat(NumberType.LONG.sum(LongBuffer.wrap(longs, 4, 2))).isEqualTo(-4L);
+    assertThat(NumberType.LONG.min(longs, 0, 6)).isEqualTo(-11L);
+    assertThat(NumberType.LONG.max(longs, 0, 2)).isEqualTo(5L);
+    assertThat(NumberType.LONG.min(longs, 1, 1)).isNull();
+    LongBuffer direct = ByteBuffer.allocateDirect(longs.length * 8).asLongBuffer().put(longs).flip();
+    assertThat(NumberType.LONG.min(direct)).isEqualTo(-11L);
+    assertThat(NumberType.LONG.max(direct)).isEqualTo(Long.MAX_VALUE);
+    assertThat(NumberType.BIG_DECIMAL.sum(direct)).isEqualTo(new BigDecimal("18446744073709551612"));
+    double[] doubles = new double[1001];
+    doubles[0] = 1e16;
+    for (int i = 1; i < doubles.length; i++) {
+      doubles[i] = 1.0;
+    }
+    assertThat(NumberType.DOUBLE.sum(doubles, 0, doubles.length)).isEqualTo(1e16 + 1000);
+    assertThat(NumberType.DOUBLE.sum(new double[] { 0.1, 0.2, 0.3 }, 0, 3)).isEqualTo(0.6);
+    assertThat(NumberType.DOUBLE.sum(DoubleBuffer.wrap(new double[] { Double.POSITIVE_INFINITY, 1 })))
+        .isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(NumberType.FLOAT.min(new double[] { 2.5, -0.5, 1 }, 0, 3)).isEqualTo(-0.5F);
+    assertThat(NumberType.DOUBLE.max(DoubleBuffer.wrap(new double[] { 2.5, -0.5, 1 }))).isEqualTo(2.5);
+    byte[] result = new byte[3];
+    NumberType.compareAll(longs, 0, 3, 5, result);
+    assertThat(result).containsExactly((byte) 0, (byte) -1, (byte) 1);
+    NumberType.compareAll(new double[] { 1, 2, 3 }, 0, 3, 2, result);
+    assertThat(result).containsExactly((byte) -1, (byte) 0, (byte) 1);
+    long[] wrap = { 5, 11, 12, -11, -32 };
+    NumberType.wrapAll(wrap, 0, wrap.length, -10, 10);
+    assertThat(wrap).containsExactly(5L, -10L, -9L, 10L, -10L);
+    double[] wrapDoubles = { 15, 22 };
+    NumberType.wrapAll(wrapDoubles, 0, 2, 0, 10);
+    assertThat(wrapDoubles).containsExactly(4.0, 10.0);
+  }
+
+  /**
+   * Test of {@link NumberType#formatTo(Number, int, Appendable)} and {@link NumberType#formatTo(long, byte[], int)}.
+   */
+  @Test
+  void testFormatTo() {
+
+    StringBuilder sb = new StringBuilder();
+    NumberType.INTEGER.formatTo(Integer.valueOf(-1234567), 10, sb);
+    sb.append(' ');
+    NumberType.LONG.formatTo(Long.valueOf(Long.MIN_VALUE), 10, sb);
+    sb.append(' ');
+    NumberType.SHORT.formatTo(Short.valueOf((short) 255), 16, sb);
+    sb.append(' ');
+    NumberType.DOUBLE.formatTo(Double.valueOf(0.1), 10, sb);
+    sb.append(' ');
+    NumberType.DOUBLE.formatTo(Double.valueOf(1e-5), 10, sb);
+    sb.append(' ');
+    NumberType.FLOAT.formatTo(Float.valueOf(-42.75F), 10, sb);
+    sb.append(' ');
+    NumberType.DOUBLE.formatTo(Double.valueOf(2.0), 16, sb);
+    sb.append(' ');
+    NumberType.BIG_INTEGER.formatTo(BIG_INTEGER, 10, sb);
+    sb.append(' ');
+    NumberType.BIG_INTEGER.formatTo(BigInteger.valueOf(-42), 2, sb);
+    sb.append(' ');
+    NumberType.BIG_DECIMAL.formatTo(BIG_DECIMAL, 10, sb);
+    NumberType.LONG.formatTo(null, 10, sb);
+    assertThat(sb).hasToString("-1234567 -9223372036854775808 ff 0.1 1.0E-5 -42.75 0x1.0p1 " + BIG_INTEGER
+        + " -101010 " + BIG_DECIMAL);
+    // other appendables than StringBuilder with the longest results
+    StringWriter writer = new StringWriter();
+    StringBuffer stringBuffer = new StringBuffer();
+    for (Appendable appendable : new Appendable[] { writer, stringBuffer }) {
+      NumberType.LONG.formatTo(Long.valueOf(Long.MIN_VALUE), 2, appendable);
+      NumberType.LONG.formatTo(Long.valueOf(Long.MIN_VALUE), 10, appendable);
+      NumberType.DOUBLE.formatTo(Double.valueOf(-Double.MIN_NORMAL), 10, appendable);
+      NumberType.FLOAT.formatTo(Float.valueOf(-Float.MIN_NORMAL), 10, appendable);
+    }
+    String expected = Long.toString(Long.MIN_VALUE, 2) + Long.MIN_VALUE + (-Double.MIN_NORMAL) + (-Float.MIN_NORMAL);
+    assertThat(writer).hasToString(expected);
+    assertThat(stringBuffer).hasToString(expected);
+    byte[] buffer = new byte[32];
+    int end = NumberType.formatTo(-1234567890123L, buffer, 1);
+    assertThat(new String(buffer, 1, end - 1, StandardCharsets.US_ASCII)).isEqualTo("-1234567890123");
+    end = NumberType.formatTo(0.001, buffer, 0);
+    assertThat(new String(buffer, 0, end, StandardCharsets.US_ASCII)).isEqualTo("0.001");
+    end = NumberType.formatTo(123.0, buffer, 0);
+    assertThat(new String(buffer, 0, end, StandardCharsets.US_ASCII)).isEqualTo("123.0");
+    end = NumberType.formatTo(-0.0, buffer, 0);
+    assertThat(new String(buffer, 0, end, StandardCharsets.US_ASCII)).isEqualTo("-0.0");
+    end = NumberType.formatTo(Double.MAX_VALUE, buffer, 0);
+    assertThat(new String(buffer, 0, end, StandardCharsets.US_ASCII)).isEqualTo(Double.toString(Double.MAX_VALUE));
+    end = NumberType.formatTo(0.3F, buffer, 0);
+    assertThat(new String(buffer, 0, end, StandardCharsets.US_ASCII)).isEqualTo("0.3");
+    assertThrows(IndexOutOfBoundsException.class, () -> NumberType.formatTo(Long.MIN_VALUE, new byte[19], 0));
+  }
+
   @Test
   void testSimplify() {
 
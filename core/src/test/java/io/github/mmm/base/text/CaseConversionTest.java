@@ -2,6 +2,7 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package io.github.mmm.base.text;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 
 import org.assertj.core.api.Assertions;
@@ -49,6 +50,39 @@ class CaseConversionTest extends Assertions {
     assertThat(
         CaseConversion.LOWER_CASE.convert("HI ÄÖÜßSS", new Locale.Builder().setLanguage("tr").setRegion("TR").build()))
             .isEqualTo("hı äöüßss");
+    String lower = "hi-there";
+    assertThat(CaseConversion.LOWER_CASE.convert(lower)).isSameAs(lower);
+    assertThat(CaseConversion.UPPER_CASE.convert(lower)).isEqualTo("HI-THERE");
+  }
+
+  /**
+   * Test of {@link CaseConversion#append(StringBuilder, String)}.
+   */
+  @Test
+  void testAppend() {
+
+    StringBuilder sb = new StringBuilder();
+    CaseConversion.LOWER_CASE.append(sb, "HI ÄÖÜ\uD801\uDC00");
+    CaseConversion.UPPER_CASE.append(sb, "-hi äöü\uD801\uDC28");
+    assertThat(sb.toString()).isEqualTo("hi äöü\uD801\uDC28-HI ÄÖÜ\uD801\uDC00");
+  }
+
+  /**
+   * Test of {@link CaseConversion#convert(byte[], int, int)}.
+   */
+  @Test
+  void testConvertLatin1() {
+
+    String text = "#Hello World, ÄÖÜ äöüß ÿ 0123456789 [@`{]";
+    byte[] latin1 = text.getBytes(StandardCharsets.ISO_8859_1);
+    assertThat(CaseConversion.UPPER_CASE.convert(latin1, 0, latin1.length)).isTrue();
+    assertThat(new String(latin1, StandardCharsets.ISO_8859_1)).isEqualTo("#HELLO WORLD, ÄÖÜ ÄÖÜß ÿ 0123456789 [@`{]");
+    assertThat(CaseConversion.UPPER_CASE.convert(latin1, 0, latin1.length)).isFalse();
+    assertThat(CaseConversion.LOWER_CASE.convert(latin1, 1, 4)).isTrue();
+    assertThat(new String(latin1, StandardCharsets.ISO_8859_1)).startsWith("#hellO ");
+    assertThat(CaseConversion.LOWER_CASE.convert(latin1, 0, latin1.length)).isTrue();
+    assertThat(new String(latin1, StandardCharsets.ISO_8859_1)).isEqualTo("#hello world, äöü äöüß ÿ 0123456789 [@`{]");
+    assertThat(CaseConversion.ORIGINAL_CASE.convert(latin1, 0, latin1.length)).isFalse();
   }
 
 }
@@ -6,6 +6,7 @@ import static io.github.mmm.base.text.CaseConversion.LOWER_CASE;
 import static io.github.mmm.base.text.CaseConversion.ORIGINAL_CASE;
 import static io.github.mmm.base.text.CaseConversion.UPPER_CASE;
 
+import java.util.List;
 import java.util.Locale;
 
 import org.assertj.core.api.Assertions;
@@ -68,6 +69,17 @@ class CaseSyntaxTest extends Assertions {
     assertThat(CaseSyntax.of(separator, LOWER_CASE, UPPER_CASE, LOWER_CASE).toString()).isEqualTo("custom~Case");
     assertThat(CaseSyntax.of(separator, ORIGINAL_CASE, UPPER_CASE, ORIGINAL_CASE).toString())
         .isEqualTo("$$Custom~Case");
+    assertThat(CaseSyntax.of(separator, UPPER_CASE)).isSameAs(CaseSyntax.of(separator, UPPER_CASE));
+    assertThat(CaseSyntax.ofExample("my~Example")).isSameAs(CaseSyntax.ofExample("my~Example"))
+        .hasToString("my~Example");
+    assertThat(CaseSyntax.ofExample("my-example", false)).isNotSameAs(CaseSyntax.TRAIN_CASE);
+    assertThat(CaseSyntax.ofExample("my-example", true)).isSameAs(CaseSyntax.TRAIN_CASE);
+    // only a bounded number of custom instances is interned
+    CaseSyntax last = null;
+    for (char c = '\u4E00'; c < '\u5600'; c++) {
+      last = CaseSyntax.of(Character.valueOf(c), LOWER_CASE);
+    }
+    assertThat(CaseSyntax.of(Character.valueOf('\u55FF'), LOWER_CASE)).isEqualTo(last).isNotSameAs(last);
   }
 
   /**
@@ -266,6 +278,77 @@ class CaseSyntaxTest extends Assertions {
     assertThat(CaseSyntax.normalizeExample("A-B-C-D")).isEqualTo("abcd");
   }
 
+  /**
+   * Test of {@link CaseSyntax#cached(int)}.
+   */
+  @Test
+  void testCached() {
+
+    CaseSyntaxCache cache = CaseSyntax.UPPER_SNAKE_CASE.cached(2);
+    assertThat(cache.getSyntax()).isSameAs(CaseSyntax.UPPER_SNAKE_CASE);
+    assertThat(cache.getCapacity()).isEqualTo(2);
+    assertThat(cache.convert("myName")).isEqualTo("MY_NAME");
+    assertThat(cache.convert("myName")).isEqualTo("MY_NAME");
+    assertThat(cache.convert("otherName")).isEqualTo("OTHER_NAME");
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(2);
+    // "otherName" was not used since added so it gets evicted
+    assertThat(cache.convert("thirdName")).isEqualTo("THIRD_NAME");
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.convert("myName")).isEqualTo("MY_NAME");
+    assertThat(cache.getHitCount()).isEqualTo(2);
+    assertThat(cache.convert("otherName")).isEqualTo("OTHER_NAME");
+    assertThat(cache.getMissCount()).isEqualTo(4);
+    assertThat(cache.convert(null)).isNull();
+    cache.clear();
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(cache.getHitCount()).isEqualTo(0);
+  }
+
+  /**
+   * Test of {@link CaseSyntax#convertAll(String[], String[])} and {@link CaseSyntax#convertAll(List)}.
+   */
+  @Test
+  void testConvertAll() {
+
+    String[] names = new String[10000];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = "myName" + i;
+    }
+    names[1] = null;
+    String[] converted = new String[names.length];
+    CaseSyntax.UPPER_SNAKE_CASE.convertAll(names, converted);
+    assertThat(converted[0]).isEqualTo("MY_NAME0");
+    assertThat(converted[1]).isNull();
+    assertThat(converted[9999]).isEqualTo("MY_NAME9999");
+    assertThat(CaseSyntax.TRAIN_CASE.convertAll(List.of("myName", "my-name", "MY_NAME"))).containsExactly("my-name",
+        "my-name", "my-name");
+  }
+
+  /**
+   * Test of {@link CaseSyntax#translator(CaseSyntax, CaseSyntax)}.
+   */
+  @Test
+  void testTranslator() {
+
+    CaseSyntaxTranslator translator = CaseSyntax.translator(CaseSyntax.CAML_CASE, CaseSyntax.UPPER_SNAKE_CASE);
+    assertThat(translator).hasToString("camlCase->UPPER_SNAKE_CASE");
+    assertThat(translator.translate("myVariableName")).isEqualTo("MY_VARIABLE_NAME");
+    assertThat(translator.translate("userID")).isEqualTo("USER_ID");
+    assertThat(translator.translate("a1B")).isEqualTo("A1_B");
+    assertThat(translator.translate("")).isEmpty();
+    translator = CaseSyntax.translator(CaseSyntax.LOWER_SNAKE_CASE, CaseSyntax.PASCAL_CASE);
+    assertThat(translator.translate("_user_id_")).isEqualTo("UserId");
+    // special characters are separators like in convert
+    assertThat(translator.translate("html-page_url")).isEqualTo("HtmlPageUrl");
+    for (String name : new String[] { "html-page_url", "user.id", "a$b_c", "my_var2_x" }) {
+      assertThat(translator.translate(name)).as(name).isEqualTo(CaseSyntax.PASCAL_CASE.convert(name));
+    }
+    assertThat(translator.translateAll(List.of("a_b", "c_d"))).containsExactly("AB", "CD");
+    translator = CaseSyntax.translator(CaseSyntax.PASCAL_CASE, CaseSyntax.TRAIN_CASE);
+    assertThat(translator.translate("HTMLPageUrl")).isEqualTo("htmlpage-url");
+  }
+
   /**
    * Test of {@link CaseSyntax#equals(Object)} and {@link CaseSyntax#hashCode()}.
    */
@@ -0,0 +1,88 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package io.github.mmm.base.text;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link ConcurrentTextFormatMessageHandler}.
+ */
+class ConcurrentTextFormatMessageHandlerTest extends Assertions {
+
+  /** Test of {@link ConcurrentTextFormatMessageHandler} with concurrent producers exceeding the capacity. */
+  @Test
+  void testConcurrent() {
+
+    ConcurrentTextFormatMessageHandler handler = new ConcurrentTextFormatMessageHandler(false, 100);
+    IntStream.range(0, 10000).parallel().forEach(i -> {
+      if ((i % 10) == 0) {
+        handler.add(new TextFormatMessage(i, 1, "error", TextFormatMessageType.ERROR));
+      } else {
+        handler.add(TextFormatMessageType.WARNING, i, 1, "warning");
+      }
+    });
+    assertThat(handler.getCapacity()).isEqualTo(100);
+    assertThat(handler.getMessages()).hasSize(100);
+    assertThat(handler.getCount(TextFormatMessageType.ERROR)).isEqualTo(1000);
+    assertThat(handler.getCount(TextFormatMessageType.WARNING)).isEqualTo(9000);
+    assertThat(handler.getCount(TextFormatMessageType.INFO)).isEqualTo(0);
+    assertThat(handler.getDroppedCount()).isEqualTo(9900);
+  }
+
+  /** Test of {@link ConcurrentTextFormatMessageHandler} only keeping counts. */
+  @Test
+  void testCountsOnly() {
+
+    ConcurrentTextFormatMessageHandler handler = new ConcurrentTextFormatMessageHandler(true, 0);
+    handler.add(TextFormatMessageType.INFO, 1, 1, "info");
+    assertThat(handler.getMessages()).isEmpty();
+    assertThat(handler.getCount(TextFormatMessageType.INFO)).isEqualTo(1);
+    assertThrows(IllegalStateException.class, () -> handler.add(TextFormatMessageType.ERROR, 1, 2, "error"));
+    assertThat(handler.getCount(TextFormatMessageType.ERROR)).isEqualTo(1);
+  }
+
+  /** Test of {@link TextFormatProcessor#addMessage(TextFormatMessageType, String)} with a message handler. */
+  @Test
+  void testProcessor() {
+
+    ConcurrentTextFormatMessageHandler handler = new ConcurrentTextFormatMessageHandler(false, 0);
+    TextFormatProcessor processor = new TextFormatProcessor() {
+
+      @Override
+      public int getLine() {
+
+        return 2;
+      }
+
+      @Override
+      public int getColumn() {
+
+        return 3;
+      }
+
+      @Override
+      public List<TextFormatMessage> getMessages() {
+
+        return handler.getMessages();
+      }
+
+      @Override
+      public TextFormatMessageHandler getMessageHandler() {
+
+        return handler;
+      }
+    };
+    processor.addWarning("warning");
+    processor.addMessage(new TextFormatMessage(1, 1, "info", TextFormatMessageType.INFO));
+    assertThat(handler.getCount(TextFormatMessageType.WARNING)).isEqualTo(1);
+    assertThat(handler.getCount(TextFormatMessageType.INFO)).isEqualTo(1);
+    assertThat(processor.getMessages()).isEmpty();
+  }
+
+}